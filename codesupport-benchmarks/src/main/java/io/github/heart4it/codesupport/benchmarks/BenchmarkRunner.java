@@ -0,0 +1,33 @@
+package io.github.heart4it.codesupport.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point that runs the benchmarks with the GC profiler always attached,
+ * so every report contains the allocation rate ({@code gc.alloc.rate.norm})
+ * next to the timing.
+ *
+ * <p>All regular JMH command line options are accepted, e.g.
+ * <pre>{@code
+ * java -cp target/benchmarks.jar io.github.heart4it.codesupport.benchmarks.BenchmarkRunner OptionBenchmark.optionMap
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.heart4it.codesupport.benchmarks;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Measures long combinator chains, where the size of each method body decides
+ * whether the whole chain fits into the inlining budget of the JIT.
+ *
+ * <p>The inputs alternate between the present and the absent variant, so every call
+ * site in the chain sees both receiver classes. To see the inlining decisions, run
+ * <pre>{@code
+ * java -jar target/benchmarks.jar ChainBenchmark \
+ *     -jvmArgsAppend "-XX:+UnlockDiagnosticVMOptions -XX:+PrintInlining"
+ * }</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ChainBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final Option<Integer>[] options = newOptionArray();
+    private final Result<Integer, String>[] results = newResultArray();
+
+    private final Function<Integer, Integer> increment = n -> n + 1;
+    private final Function<Integer, Option<Integer>> someHalf = n -> Option.Some(n / 2);
+    private final Function<Integer, Result<Integer, String>> okHalf = n -> Result.ok(n / 2);
+    private final Function<String, String> upper = String::toUpperCase;
+    private final Predicate<Integer> positive = n -> n >= 0;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < SIZE; i++) {
+            options[i] = i % 2 == 0 ? Option.Some(i) : Option.None();
+            results[i] = i % 2 == 0 ? Result.ok(i) : Result.err("failed " + i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int optionChain() {
+        int sum = 0;
+        for (Option<Integer> option : options) {
+            sum += option
+                    .map(increment)
+                    .filter(positive)
+                    .andThen(someHalf)
+                    .map(increment)
+                    .or(Option.None())
+                    .filter(positive)
+                    .map(increment)
+                    .andThen(someHalf)
+                    .unwrapOr(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int resultChain() {
+        int sum = 0;
+        for (Result<Integer, String> result : results) {
+            sum += result
+                    .map(increment)
+                    .andThen(okHalf)
+                    .mapErr(upper)
+                    .map(increment)
+                    .inspect(n -> { })
+                    .andThen(okHalf)
+                    .map(increment)
+                    .mapErr(upper)
+                    .unwrapOr(0);
+        }
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Option<Integer>[] newOptionArray() {
+        return (Option<Integer>[]) new Option<?>[SIZE];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result<Integer, String>[] newResultArray() {
+        return (Result<Integer, String>[]) new Result<?, ?>[SIZE];
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.heart4it.codesupport.benchmarks;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures flattening a list of {@code Option}s or {@code Result}s into the present
+ * values, comparing the list-based {@code iter()} with {@code stream()},
+ * {@link Option#flattenStream} / {@link Result#okStream} and {@link Optional#stream()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FlattenBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private List<Option<Integer>> options;
+    private List<Result<Integer, String>> results;
+    private List<Optional<Integer>> optionals;
+
+    @Setup
+    public void setup() {
+        options = new ArrayList<>(size);
+        results = new ArrayList<>(size);
+        optionals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean present = i % 3 != 0;
+            options.add(present ? Option.Some(i) : Option.None());
+            results.add(present ? Result.ok(i) : Result.err("missing"));
+            optionals.add(present ? Optional.of(i) : Optional.empty());
+        }
+    }
+
+    @Benchmark
+    public long optionIterStream() {
+        return options.stream().flatMap(o -> o.iter().stream()).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long optionStream() {
+        return options.stream().flatMap(Option::stream).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long optionFlattenStream() {
+        return Option.flattenStream(options.stream()).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long optionalStream() {
+        return optionals.stream().flatMap(Optional::stream).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long resultIterStream() {
+        return results.stream().flatMap(r -> r.iter().stream()).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long resultOkStream() {
+        return Result.okStream(results.stream()).mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.heart4it.codesupport.benchmarks;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Measures the core {@link Option} combinators, conversions and iteration against the
+ * equivalent {@link java.util.Optional} code, on both the {@code Some} and the
+ * {@code None} path.
+ *
+ * <p>Benchmarks prefixed with {@code option} exercise this library, benchmarks
+ * prefixed with {@code optional} are the JDK baseline for the same operation. The
+ * conversions to and from {@code Optional} are compared with rewrapping an
+ * {@code Optional}, the cheapest JDK operation that produces a new one.
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OptionBenchmark {
+
+    /**
+     * Selects whether the benchmarked value is present or absent.
+     */
+    @Param({"some", "none"})
+    public String variant;
+
+    private Option<String> option;
+    private Option<Integer> other;
+    private Option<Result<String, Integer>> optionOfResult;
+    private Optional<String> optional;
+    private Optional<Integer> otherOptional;
+    private Optional<Result<String, Integer>> optionalOfResult;
+
+    private final Function<String, Integer> length = String::length;
+    private final Function<String, Option<String>> trimOption = s -> Option.Some(s.trim());
+    private final Function<String, Optional<String>> trimOptional = s -> Optional.of(s.trim());
+    private final Predicate<String> notEmpty = s -> !s.isEmpty();
+
+    @Setup
+    public void setup() {
+        boolean some = "some".equals(variant);
+        option = some ? Option.Some(" value ") : Option.None();
+        other = some ? Option.Some(42) : Option.None();
+        optionOfResult = some ? Option.Some(Result.ok(" value ")) : Option.None();
+        optional = some ? Optional.of(" value ") : Optional.empty();
+        otherOptional = some ? Optional.of(42) : Optional.empty();
+        optionalOfResult = some ? Optional.of(Result.ok(" value ")) : Optional.empty();
+    }
+
+    @Benchmark
+    public Option<Integer> optionMap() {
+        return option.map(length);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMap() {
+        return optional.map(length);
+    }
+
+    @Benchmark
+    public Option<String> optionAndThen() {
+        return option.andThen(trimOption);
+    }
+
+    @Benchmark
+    public Optional<String> optionalFlatMap() {
+        return optional.flatMap(trimOptional);
+    }
+
+    @Benchmark
+    public Option<String> optionFilter() {
+        return option.filter(notEmpty);
+    }
+
+    @Benchmark
+    public Optional<String> optionalFilter() {
+        return optional.filter(notEmpty);
+    }
+
+    @Benchmark
+    public Option<Option.Pair<String, Integer>> optionZip() {
+        return Option.zip(option, other);
+    }
+
+    @Benchmark
+    public Optional<Option.Pair<String, Integer>> optionalZip() {
+        return optional.flatMap(a -> otherOptional.map(b -> new Option.Pair<>(a, b)));
+    }
+
+    @Benchmark
+    public String optionUnwrapOr() {
+        return option.unwrapOr("default");
+    }
+
+    @Benchmark
+    public String optionalOrElse() {
+        return optional.orElse("default");
+    }
+
+    @Benchmark
+    public Result<?, ?> optionTranspose() {
+        return optionOfResult.transpose();
+    }
+
+    @Benchmark
+    public Result<Optional<String>, Integer> optionalTranspose() {
+        return optionalOfResult.isPresent()
+                ? optionalOfResult.get().map(Optional::of)
+                : Result.ok(Optional.empty());
+    }
+
+    @Benchmark
+    public void optionIter(Blackhole bh) {
+        for (String s : option) {
+            bh.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void optionalIfPresent(Blackhole bh) {
+        optional.ifPresent(bh::consume);
+    }
+
+    @Benchmark
+    public void optionStream(Blackhole bh) {
+        option.stream().forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void optionalStream(Blackhole bh) {
+        optional.stream().forEach(bh::consume);
+    }
+
+    @Benchmark
+    public List<String> optionIterList() {
+        return option.iter();
+    }
+
+    @Benchmark
+    public List<String> optionalToList() {
+        return optional.stream().toList();
+    }
+
+    @Benchmark
+    public Optional<String> optionToOptional() {
+        return option.toOptional();
+    }
+
+    @Benchmark
+    public Option<String> optionFromOptional() {
+        return Option.fromOptional(optional);
+    }
+
+    @Benchmark
+    public Optional<String> optionalRewrap() {
+        return Optional.ofNullable(optional.orElse(null));
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.heart4it.codesupport.benchmarks;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Panics;
+import io.github.heart4it.codesupport.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Measures {@code unwrap}/{@code expect} used as control flow on the failing path, once per
+ * {@link Panics.Mode}. The stack depth parameter shows how the cost of a full stack trace
+ * grows with the depth of the caller, which the stackless mode avoids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PanicBenchmark {
+
+    @Param({"FULL_STACK_TRACE", "STACKLESS"})
+    public Panics.Mode mode;
+
+    @Param({"1", "32"})
+    public int depth;
+
+    private Option<Integer> none;
+    private Result<Integer, String> err;
+
+    @Setup
+    public void setup() {
+        Panics.setMode(mode);
+        none = Option.None();
+        err = Result.err("failed");
+    }
+
+    @TearDown
+    public void tearDown() {
+        Panics.setMode(Panics.Mode.FULL_STACK_TRACE);
+    }
+
+    @Benchmark
+    public int optionUnwrap() {
+        return nested(depth, () -> none.unwrap());
+    }
+
+    @Benchmark
+    public int optionExpect() {
+        return nested(depth, () -> none.expect("value required"));
+    }
+
+    @Benchmark
+    public int resultUnwrap() {
+        return nested(depth, () -> err.unwrap());
+    }
+
+    @Benchmark
+    public int resultExpect() {
+        return nested(depth, () -> err.expect("value required"));
+    }
+
+    @Benchmark
+    public int baselineReturn() {
+        return nested(depth, () -> -1);
+    }
+
+    private static int nested(int depth, IntSupplier body) {
+        if (depth > 1) {
+            return nested(depth - 1, body);
+        }
+        try {
+            return body.getAsInt();
+        } catch (NoSuchElementException e) {
+            return -1;
+        }
+    }
+}
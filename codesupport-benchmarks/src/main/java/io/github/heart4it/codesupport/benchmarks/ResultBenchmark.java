@@ -0,0 +1,191 @@
+package io.github.heart4it.codesupport.benchmarks;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the core {@link Result} combinators, conversions and iteration against the
+ * equivalent exception based code, on both the {@code Ok} and the {@code Err} path.
+ *
+ * <p>Benchmarks prefixed with {@code result} exercise this library, benchmarks
+ * prefixed with {@code tryCatch} compute the same value by throwing and catching
+ * an exception. Both variants start from the same state: most pairs use the input
+ * parsed during setup, and the {@code tryCatch} variant of such a pair throws an
+ * exception that was also created during setup, so the pair compares only the
+ * control flow. The {@code andThen} pair parses the input in both variants with the
+ * same check; its {@code tryCatch} variant creates a new exception, including its
+ * stack trace, where the {@code result} variant creates a new {@code Err}.
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    /**
+     * Selects whether the benchmarked input parses successfully or fails.
+     */
+    @Param({"ok", "err"})
+    public String variant;
+
+    private String input;
+    private Result<String, String> raw;
+    private Result<Integer, String> parsed;
+    private int value;
+    private NumberFormatException failure;
+
+    private final Function<Integer, Integer> twice = n -> n * 2;
+    private final Function<String, Result<Integer, String>> parse = ResultBenchmark::parseResult;
+    private final Function<String, Integer> errorCode = String::length;
+
+    @Setup
+    public void setup() {
+        input = "ok".equals(variant) ? "12345" : "12x45";
+        raw = Result.ok(input);
+        parsed = parseResult(input);
+        if (parsed.isOk()) {
+            value = parsed.unwrap();
+        } else {
+            failure = new NumberFormatException(parsed.unwrapErr());
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, String> resultMap() {
+        return parsed.map(twice);
+    }
+
+    @Benchmark
+    public int tryCatchMap() {
+        try {
+            return valueOrThrow() * 2;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, String> resultAndThen() {
+        return raw.andThen(parse);
+    }
+
+    @Benchmark
+    public int tryCatchAndThen() {
+        try {
+            return parseOrThrow(input);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> resultMapErr() {
+        return parsed.mapErr(errorCode);
+    }
+
+    @Benchmark
+    public int tryCatchMapErr() {
+        try {
+            return valueOrThrow();
+        } catch (NumberFormatException e) {
+            return -e.getMessage().length();
+        }
+    }
+
+    @Benchmark
+    public Integer resultUnwrapOr() {
+        return parsed.unwrapOr(0);
+    }
+
+    @Benchmark
+    public int tryCatchUnwrapOr() {
+        try {
+            return valueOrThrow();
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Benchmark
+    public Result<Option<Integer>, String> resultTranspose() {
+        return parsed.transpose();
+    }
+
+    @Benchmark
+    public Option<Integer> tryCatchTranspose() {
+        try {
+            return Option.Some(valueOrThrow());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public void resultIter(Blackhole bh) {
+        for (Integer n : parsed) {
+            bh.consume(n);
+        }
+    }
+
+    @Benchmark
+    public void resultStream(Blackhole bh) {
+        parsed.stream().forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void tryCatchIter(Blackhole bh) {
+        try {
+            bh.consume(valueOrThrow());
+        } catch (NumberFormatException e) {
+            // nothing to visit on the failure path
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> resultToOptional() {
+        return parsed.toOptional();
+    }
+
+    @Benchmark
+    public Optional<Integer> tryCatchToOptional() {
+        try {
+            return Optional.of(valueOrThrow());
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Result<Integer, String> parseResult(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!Character.isDigit(s.charAt(i))) {
+                return Result.err("not a number");
+            }
+        }
+        return Result.ok(Integer.parseInt(s));
+    }
+
+    private int valueOrThrow() {
+        if (failure != null) {
+            throw failure;
+        }
+        return value;
+    }
+
+    private static int parseOrThrow(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!Character.isDigit(s.charAt(i))) {
+                throw new NumberFormatException("not a number");
+            }
+        }
+        return Integer.parseInt(s);
+    }
+}
@@ -0,0 +1,428 @@
+package io.github.heart4it.codesupport;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} that becomes available asynchronously, with the same combinators as
+ * {@code Result} so that chains of async calls do not need nested
+ * {@code thenApply(r -> r.map(...))} lambdas.
+ *
+ * <p>Two properties keep the number of {@link CompletableFuture} stages low:
+ * <ul>
+ *   <li>Once the outcome is known (the source future is already complete, or the value
+ *       was supplied directly) every combinator runs synchronously and no stage is created.
+ *       In particular an Err is carried through {@code map}, {@code andThen} and
+ *       {@code inspect} without scheduling anything.</li>
+ *   <li>While the outcome is still pending, adjacent synchronous steps ({@code map},
+ *       {@code mapErr}, {@code inspect}, {@code inspectErr}) are fused into a single
+ *       function that is applied in one stage when the chain is materialised by
+ *       {@link #toFuture()}, {@link #andThen(Function)} or {@link #orElse(Supplier)}.
+ *       That stage is created once per instance, so the fused steps run once no matter how
+ *       often the chain is materialised.</li>
+ * </ul>
+ *
+ * <p>A function or action that throws completes the {@code AsyncResult} exceptionally, as
+ * {@link CompletableFuture#thenApply(Function)} would, whether the outcome was already known
+ * or not. The exception surfaces from {@link #join()} or the future returned by
+ * {@link #toFuture()}, never from the combinator call itself.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * CompletableFuture<Result<Order, String>> order =
+ *     AsyncResult.fromFuture(users.find(id), Throwable::getMessage)
+ *         .map(User::accountId)
+ *         .andThen(accountId -> AsyncResult.fromFuture(accounts.load(accountId), Throwable::getMessage))
+ *         .map(Account::lastOrder)
+ *         .mapErr(message -> "lookup failed: " + message)
+ *         .toFuture();
+ * }</pre>
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class AsyncResult<T, E> {
+
+    private static final VarHandle STAGE;
+
+    static {
+        try {
+            STAGE = MethodHandles.lookup().findVarHandle(AsyncResult.class, "stage", CompletableFuture.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** The outcome once it is known, otherwise {@code null}. */
+    private final Result<T, E> completed;
+
+    /** The pending source, {@code null} when {@link #completed} is set. */
+    private final CompletableFuture<? extends Result<?, ?>> source;
+
+    /** The fused synchronous steps applied to the source outcome, {@code null} for none. */
+    private final Function<Result<?, ?>, Result<T, E>> steps;
+
+    /** The stage applying {@link #steps} to the source, {@code null} until first materialised. */
+    private volatile CompletableFuture<Result<T, E>> stage;
+
+    private AsyncResult(Result<T, E> completed) {
+        this.completed = completed;
+        this.source = null;
+        this.steps = null;
+    }
+
+    private AsyncResult(CompletableFuture<? extends Result<?, ?>> source, Function<Result<?, ?>, Result<T, E>> steps) {
+        this.completed = null;
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * Creates an {@code AsyncResult} from a future of a {@code Result}. If the future is already
+     * complete, its outcome is taken immediately and later combinators create no stages.
+     *
+     * @param <T>    the type of the success value
+     * @param <E>    the type of the error value
+     * @param future the future producing the {@code Result}
+     * @return an {@code AsyncResult} completing with the future's {@code Result}
+     */
+    public static <T, E> AsyncResult<T, E> of(CompletableFuture<? extends Result<T, E>> future) {
+        Objects.requireNonNull(future, "future");
+        return pending(future);
+    }
+
+    /**
+     * Creates an {@code AsyncResult} from a plain future, mapping a failure through
+     * {@code errorMapper} exactly like {@link Result#fromFuture(CompletableFuture, Function)}.
+     *
+     * @param <T>         the type of the success value
+     * @param <E>         the type of the error value
+     * @param future      the future producing the value
+     * @param errorMapper maps the failure cause to an error value
+     * @return an {@code AsyncResult} completing with {@code Ok} or {@code Err}
+     */
+    public static <T, E> AsyncResult<T, E> fromFuture(CompletableFuture<T> future, Function<Throwable, E> errorMapper) {
+        return of(Result.fromFuture(future, errorMapper));
+    }
+
+    /**
+     * Creates an already completed {@code AsyncResult}.
+     *
+     * @param <T>    the type of the success value
+     * @param <E>    the type of the error value
+     * @param result the outcome
+     * @return an {@code AsyncResult} holding {@code result}
+     */
+    public static <T, E> AsyncResult<T, E> completed(Result<T, E> result) {
+        return new AsyncResult<>(Objects.requireNonNull(result, "result"));
+    }
+
+    /**
+     * Creates an already completed {@code Ok}.
+     *
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @param value the success value
+     * @return an {@code AsyncResult} holding {@code Ok(value)}
+     */
+    public static <T, E> AsyncResult<T, E> ok(T value) {
+        return new AsyncResult<>(Result.ok(value));
+    }
+
+    /**
+     * Creates an already completed {@code Err}.
+     *
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @param error the error value
+     * @return an {@code AsyncResult} holding {@code Err(error)}
+     */
+    public static <T, E> AsyncResult<T, E> err(E error) {
+        return new AsyncResult<>(Result.err(error));
+    }
+
+    /**
+     * Returns whether the outcome is already known, i.e. whether further combinators run
+     * synchronously.
+     *
+     * @return {@code true} if the outcome is known
+     */
+    public boolean isCompleted() {
+        return completed != null;
+    }
+
+    /**
+     * Maps the success value. Runs immediately if the outcome is known, otherwise it is fused
+     * with the neighbouring synchronous steps into one stage.
+     *
+     * @param <U> the new success type
+     * @param f   the function to apply to the success value
+     * @return an {@code AsyncResult} with the mapped value
+     */
+    public <U> AsyncResult<U, E> map(Function<? super T, ? extends U> f) {
+        Objects.requireNonNull(f, "f");
+        if (completed != null) {
+            if (completed.isErr()) {
+                return propagate();
+            }
+            try {
+                return new AsyncResult<>(completed.map(f));
+            } catch (Throwable failure) {
+                return failed(failure);
+            }
+        }
+        return fuse(r -> r.map(f));
+    }
+
+    /**
+     * Maps the success value on {@code executor}. Creates no stage if the outcome is a known Err.
+     *
+     * @param <U>      the new success type
+     * @param f        the function to apply to the success value
+     * @param executor the executor running {@code f}
+     * @return an {@code AsyncResult} with the mapped value
+     */
+    public <U> AsyncResult<U, E> map(Function<? super T, ? extends U> f, Executor executor) {
+        Objects.requireNonNull(f, "f");
+        Objects.requireNonNull(executor, "executor");
+        if (completed != null && completed.isErr()) {
+            return propagate();
+        }
+        return new AsyncResult<>(toFuture().thenApplyAsync(r -> r.map(f), executor), null);
+    }
+
+    /**
+     * Chains an asynchronous operation on the success value. A known Err is returned without
+     * calling {@code f} or creating a stage; a known Ok calls {@code f} directly.
+     *
+     * @param <U> the new success type
+     * @param f   the asynchronous operation to run on the success value
+     * @return the {@code AsyncResult} produced by {@code f}, or this Err
+     */
+    public <U> AsyncResult<U, E> andThen(Function<? super T, ? extends AsyncResult<U, E>> f) {
+        Objects.requireNonNull(f, "f");
+        if (completed != null) {
+            if (!(completed instanceof Result.Ok<T, E> ok)) {
+                return propagate();
+            }
+            try {
+                return Objects.requireNonNull(f.apply(ok.value()), "f returned null");
+            } catch (Throwable failure) {
+                return failed(failure);
+            }
+        }
+        return pending(toFuture().thenCompose(r -> r instanceof Result.Ok<T, E> ok
+                ? f.apply(ok.value()).toFuture()
+                : CompletableFuture.completedFuture(castErr(r))));
+    }
+
+    /**
+     * Chains an asynchronous operation on the success value, calling {@code f} on
+     * {@code executor}. A known Err creates no stage.
+     *
+     * @param <U>      the new success type
+     * @param f        the asynchronous operation to run on the success value
+     * @param executor the executor calling {@code f}
+     * @return the {@code AsyncResult} produced by {@code f}, or this Err
+     */
+    public <U> AsyncResult<U, E> andThen(Function<? super T, ? extends AsyncResult<U, E>> f, Executor executor) {
+        Objects.requireNonNull(f, "f");
+        Objects.requireNonNull(executor, "executor");
+        if (completed != null && completed.isErr()) {
+            return propagate();
+        }
+        return pending(toFuture().thenComposeAsync(r -> r instanceof Result.Ok<T, E> ok
+                ? f.apply(ok.value()).toFuture()
+                : CompletableFuture.completedFuture(castErr(r)), executor));
+    }
+
+    /**
+     * Maps the error value. Runs immediately if the outcome is known, otherwise it is fused
+     * with the neighbouring synchronous steps into one stage.
+     *
+     * @param <F> the new error type
+     * @param f   the function to apply to the error value
+     * @return an {@code AsyncResult} with the mapped error
+     */
+    @SuppressWarnings("unchecked")
+    public <F> AsyncResult<T, F> mapErr(Function<? super E, ? extends F> f) {
+        Objects.requireNonNull(f, "f");
+        if (completed != null) {
+            if (completed.isOk()) {
+                return (AsyncResult<T, F>) this;
+            }
+            try {
+                return new AsyncResult<>(completed.mapErr(f));
+            } catch (Throwable failure) {
+                return failed(failure);
+            }
+        }
+        Function<Result<?, ?>, Result<T, E>> before = steps();
+        return new AsyncResult<>(source, r -> (Result<T, F>) (Result<?, ?>) before.apply(r).mapErr(f));
+    }
+
+    /**
+     * Falls back to another asynchronous operation if this completes with an Err. A known Ok
+     * is returned without calling {@code f} or creating a stage.
+     *
+     * @param f supplies the fallback operation
+     * @return this Ok, or the {@code AsyncResult} supplied by {@code f}
+     */
+    public AsyncResult<T, E> orElse(Supplier<? extends AsyncResult<T, E>> f) {
+        Objects.requireNonNull(f, "f");
+        if (completed != null) {
+            if (completed.isOk()) {
+                return this;
+            }
+            try {
+                return Objects.requireNonNull(f.get(), "f returned null");
+            } catch (Throwable failure) {
+                return failed(failure);
+            }
+        }
+        return pending(toFuture().thenCompose(r -> r.isOk() ? CompletableFuture.completedFuture(r) : f.get().toFuture()));
+    }
+
+    /**
+     * Runs {@code action} on the success value once it is available. Fused with neighbouring
+     * synchronous steps; a known Err skips the action without creating a stage.
+     *
+     * @param action the action to run on the success value
+     * @return an {@code AsyncResult} with the same outcome
+     */
+    public AsyncResult<T, E> inspect(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+        if (completed != null) {
+            try {
+                completed.inspect(action);
+            } catch (Throwable failure) {
+                return failed(failure);
+            }
+            return this;
+        }
+        return fuse(r -> r.inspect(action));
+    }
+
+    /**
+     * Runs {@code action} on the error value once it is available. Fused with neighbouring
+     * synchronous steps; a known Ok skips the action without creating a stage.
+     *
+     * @param action the action to run on the error value
+     * @return an {@code AsyncResult} with the same outcome
+     */
+    public AsyncResult<T, E> inspectErr(Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+        if (completed != null) {
+            try {
+                completed.inspectErr(action);
+            } catch (Throwable failure) {
+                return failed(failure);
+            }
+            return this;
+        }
+        return fuse(r -> r.inspectErr(action));
+    }
+
+    /**
+     * Returns a future of the final {@code Result}. All pending synchronous steps are applied
+     * in a single stage, created on the first call and returned by every later one; a known
+     * outcome is returned as an already completed future.
+     *
+     * @return a future completing with the {@code Result}
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Result<T, E>> toFuture() {
+        if (completed != null) {
+            return CompletableFuture.completedFuture(completed);
+        }
+        if (steps == null) {
+            return (CompletableFuture<Result<T, E>>) source;
+        }
+        CompletableFuture<Result<T, E>> current = stage;
+        if (current != null) {
+            return current;
+        }
+        CompletableFuture<Result<T, E>> created = new CompletableFuture<>();
+        CompletableFuture<Result<T, E>> witness =
+                (CompletableFuture<Result<T, E>>) STAGE.compareAndExchange(this, null, created);
+        if (witness != null) {
+            return witness;
+        }
+        // Only the winning stage is attached to the source, so a race never runs the steps twice.
+        source.whenComplete((outcome, failure) -> {
+            if (failure != null) {
+                created.completeExceptionally(failure);
+                return;
+            }
+            try {
+                created.complete(steps.apply(outcome));
+            } catch (Throwable stepFailure) {
+                created.completeExceptionally(stepFailure);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Waits for the outcome and returns it.
+     *
+     * @return the {@code Result}
+     * @throws java.util.concurrent.CompletionException if a step threw an exception
+     */
+    public Result<T, E> join() {
+        return completed != null ? completed : toFuture().join();
+    }
+
+    @Override
+    public String toString() {
+        return completed != null ? "AsyncResult[" + completed.toDebugString() + "]" : "AsyncResult[pending]";
+    }
+
+    private <U, F> AsyncResult<U, F> fuse(Function<Result<T, E>, Result<U, F>> next) {
+        Function<Result<?, ?>, Result<T, E>> before = steps();
+        return new AsyncResult<>(source, r -> next.apply(before.apply(r)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Result<?, ?>, Result<T, E>> steps() {
+        return steps != null ? steps : r -> (Result<T, E>) r;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> AsyncResult<U, E> propagate() {
+        return (AsyncResult<U, E>) this;
+    }
+
+    /**
+     * Creates an {@code AsyncResult} that completes exceptionally with {@code failure}, the way
+     * a {@code thenApply} stage does when its function throws.
+     */
+    private static <T, E> AsyncResult<T, E> failed(Throwable failure) {
+        return new AsyncResult<>(CompletableFuture.failedFuture(failure), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E> Result<T, E> castErr(Result<?, E> err) {
+        return (Result<T, E>) err;
+    }
+
+    /**
+     * Creates a pending {@code AsyncResult}, or a completed one if {@code future} has already
+     * completed normally, so that a known outcome never schedules further stages.
+     */
+    private static <T, E> AsyncResult<T, E> pending(CompletableFuture<? extends Result<T, E>> future) {
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            Result<T, E> outcome = future.join();
+            if (outcome != null) {
+                return new AsyncResult<>(outcome);
+            }
+        }
+        return new AsyncResult<>(future, null);
+    }
+}
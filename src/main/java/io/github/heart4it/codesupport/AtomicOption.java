@@ -0,0 +1,170 @@
+package io.github.heart4it.codesupport;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A mutable, thread-safe cell holding an {@link Option}, with the in-place semantics of
+ * Rust's {@code Option::take}, {@code replace} and {@code insert}. {@code Option} itself is
+ * immutable, so these operations need a cell to act on.
+ *
+ * <p>The cell stores the bare value in a single field updated through a {@link VarHandle},
+ * with {@code null} meaning {@code None}. Updating the cell therefore never allocates; a
+ * {@code Some} is only created when a value is handed back as an {@code Option}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * AtomicOption<Connection> idle = new AtomicOption<>();
+ * idle.insert(connection);
+ *
+ * // in another thread: claim the connection exactly once
+ * Option<Connection> claimed = idle.take(); // -> Some(connection), the cell is now None
+ * Option<Connection> again = idle.take();   // -> None
+ * }</pre>
+ *
+ * @param <T> the type of the contained value
+ */
+public final class AtomicOption<T> {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(AtomicOption.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** The contained value, {@code null} for {@code None}. */
+    @SuppressWarnings("unused")
+    private volatile Object value;
+
+    /**
+     * Creates an empty cell.
+     */
+    public AtomicOption() {
+    }
+
+    /**
+     * Creates a cell holding {@code initial}.
+     *
+     * @param initial the initial content
+     */
+    public AtomicOption(Option<? extends T> initial) {
+        this.value = raw(initial);
+    }
+
+    /**
+     * Returns the current content.
+     *
+     * @return {@code Some} of the current value, or {@code None}
+     */
+    public Option<T> get() {
+        return wrap(VALUE.getAcquire(this));
+    }
+
+    /**
+     * Returns {@code true} if the cell currently holds a value.
+     *
+     * @return {@code true} if the cell is not empty
+     */
+    public boolean isSome() {
+        return VALUE.getAcquire(this) != null;
+    }
+
+    /**
+     * Returns {@code true} if the cell is currently empty.
+     *
+     * @return {@code true} if the cell is empty
+     */
+    public boolean isNone() {
+        return VALUE.getAcquire(this) == null;
+    }
+
+    /**
+     * Takes the value out of the cell, leaving {@code None}. Of several threads taking at the
+     * same time, exactly one receives the value.
+     *
+     * @return the previous content
+     */
+    public Option<T> take() {
+        return wrap(VALUE.getAndSet(this, null));
+    }
+
+    /**
+     * Puts {@code value} into the cell and returns the previous content.
+     *
+     * @param value the new value
+     * @return the previous content
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public Option<T> replace(T value) {
+        return wrap(VALUE.getAndSet(this, Objects.requireNonNull(value, "value")));
+    }
+
+    /**
+     * Puts {@code value} into the cell, discarding the previous content.
+     *
+     * @param value the new value
+     * @return {@code value}
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public T insert(T value) {
+        VALUE.setRelease(this, Objects.requireNonNull(value, "value"));
+        return value;
+    }
+
+    /**
+     * Returns the contained value, or inserts the one computed by {@code supplier} if the cell
+     * is empty. The supplier is not called if the cell holds a value and is called at most once
+     * per invocation. If another thread fills the cell first, its value is returned and the
+     * computed one is discarded, so concurrent callers on an empty cell may each run their
+     * supplier. Use {@link OnceOption} if it must run only once across all threads.
+     *
+     * @param supplier computes the value to insert
+     * @return the value in the cell after the call
+     * @throws NullPointerException if {@code supplier} returns {@code null}
+     */
+    public T getOrInsertWith(Supplier<? extends T> supplier) {
+        Object current = VALUE.getAcquire(this);
+        if (current == null) {
+            T computed = Objects.requireNonNull(supplier.get(), "supplier returned null");
+            current = VALUE.compareAndExchange(this, null, computed);
+            if (current == null) {
+                return computed;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        T existing = (T) current;
+        return existing;
+    }
+
+    /**
+     * Sets the content to {@code update} if it currently is {@code expected}. Values are
+     * compared by identity, like {@link java.util.concurrent.atomic.AtomicReference}.
+     *
+     * @param expected the expected content, {@code None} for an empty cell
+     * @param update   the new content
+     * @return {@code true} if the content was replaced
+     */
+    public boolean compareAndSet(Option<? extends T> expected, Option<? extends T> update) {
+        return VALUE.compareAndSet(this, raw(expected), raw(update));
+    }
+
+    @Override
+    public String toString() {
+        return "AtomicOption[" + get().toDebugString() + "]";
+    }
+
+    private static Object raw(Option<?> option) {
+        return option instanceof Option.Some<?> some ? some.value() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Option<T> wrap(Object value) {
+        return value == null ? Option.None() : Option.Some((T) value);
+    }
+}
@@ -0,0 +1,268 @@
+package io.github.heart4it.codesupport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Coalesces individual key lookups into batch calls, like the DataLoader pattern. Keys
+ * requested through {@link #load(Object)} within a short window, or until the batch is full,
+ * are passed to the batch function in one call. Every caller still receives its own
+ * {@code Result}:
+ * <ul>
+ *   <li>a key present in the batch response becomes {@code Ok(value)},</li>
+ *   <li>a key missing from the response becomes {@code Err(missingKeyError(key))},</li>
+ *   <li>if the batch call fails, every key of that batch becomes {@code Err(errorMapper(cause))}.</li>
+ * </ul>
+ * A key that is already waiting or in flight is not requested again; its callers receive
+ * copies of one shared future until the batch completes, so one caller cancelling or
+ * completing its copy does not change what the others see.
+ *
+ * <p>The window is tracked on a single shared timer thread. When the window closes, the
+ * timer only hands the batch off to an executor, a new virtual thread unless one is given,
+ * which calls the batch function; a slow batch function therefore never delays other
+ * timers. A batch closed by reaching the maximum size is sent from the thread that called
+ * {@link #load(Object)}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BatchLoader<Long, Profile, String> profiles = BatchLoader.of(
+ *     ids -> profileStore.findAll(ids),            // CompletableFuture<Map<Long, Profile>>
+ *     Duration.ofMillis(2), 100,
+ *     Throwable::getMessage,
+ *     id -> "no profile " + id);
+ *
+ * CompletableFuture<Result<Profile, String>> profile = profiles.load(42L);
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @param <E> the type of the error values
+ */
+public final class BatchLoader<K, V, E> {
+
+    private final Function<? super List<K>, ? extends CompletableFuture<? extends Map<K, ? extends V>>> batchFunction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Function<Throwable, E> errorMapper;
+    private final Function<? super K, ? extends E> missingKeyError;
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Futures of all keys that are waiting or in flight, guarded by {@link #lock}. */
+    private final Map<K, CompletableFuture<Result<V, E>>> inFlight = new HashMap<>();
+    /** Keys of the batch being collected, guarded by {@link #lock}. */
+    private List<K> pending = new ArrayList<>();
+    private ScheduledFuture<?> timer;
+
+    private BatchLoader(Function<? super List<K>, ? extends CompletableFuture<? extends Map<K, ? extends V>>> batchFunction,
+                        Duration window,
+                        int maxBatchSize,
+                        Function<Throwable, E> errorMapper,
+                        Function<? super K, ? extends E> missingKeyError,
+                        Executor executor) {
+        this.batchFunction = Objects.requireNonNull(batchFunction, "batchFunction");
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.errorMapper = Objects.requireNonNull(errorMapper, "errorMapper");
+        this.missingKeyError = Objects.requireNonNull(missingKeyError, "missingKeyError");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Creates a loader that sends batches closed by the window on a new virtual thread.
+     *
+     * @param <K>             the type of the keys
+     * @param <V>             the type of the values
+     * @param <E>             the type of the error values
+     * @param batchFunction   loads the values of distinct keys, in the order they were first requested
+     * @param window          how long to collect keys after the first one of a batch
+     * @param maxBatchSize    the number of keys that closes a batch before the window ends
+     * @param errorMapper     maps a failed batch call to the error of each of its keys
+     * @param missingKeyError the error for a key missing from the batch response
+     * @return a new loader
+     * @throws IllegalArgumentException if {@code window} is negative or {@code maxBatchSize} is less than 1
+     */
+    public static <K, V, E> BatchLoader<K, V, E> of(
+            Function<? super List<K>, ? extends CompletableFuture<? extends Map<K, ? extends V>>> batchFunction,
+            Duration window,
+            int maxBatchSize,
+            Function<Throwable, E> errorMapper,
+            Function<? super K, ? extends E> missingKeyError) {
+
+        return of(batchFunction, window, maxBatchSize, errorMapper, missingKeyError, VirtualThreads::execute);
+    }
+
+    /**
+     * Creates a loader that sends batches closed by the window on {@code executor}.
+     *
+     * @param <K>             the type of the keys
+     * @param <V>             the type of the values
+     * @param <E>             the type of the error values
+     * @param batchFunction   loads the values of distinct keys, in the order they were first requested
+     * @param window          how long to collect keys after the first one of a batch
+     * @param maxBatchSize    the number of keys that closes a batch before the window ends
+     * @param errorMapper     maps a failed batch call to the error of each of its keys
+     * @param missingKeyError the error for a key missing from the batch response
+     * @param executor        calls the batch function once the window closes
+     * @return a new loader
+     * @throws IllegalArgumentException if {@code window} is negative or {@code maxBatchSize} is less than 1
+     */
+    public static <K, V, E> BatchLoader<K, V, E> of(
+            Function<? super List<K>, ? extends CompletableFuture<? extends Map<K, ? extends V>>> batchFunction,
+            Duration window,
+            int maxBatchSize,
+            Function<Throwable, E> errorMapper,
+            Function<? super K, ? extends E> missingKeyError,
+            Executor executor) {
+
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative: " + window);
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1: " + maxBatchSize);
+        }
+        return new BatchLoader<>(batchFunction, window, maxBatchSize, errorMapper, missingKeyError, executor);
+    }
+
+    /**
+     * Requests the value of {@code key}. The key joins the batch being collected, or shares the
+     * outcome of an earlier request for the same key that has not completed yet.
+     *
+     * @param key the key to load
+     * @return a new future, private to this caller, completing with {@code Ok} of the value or
+     *         {@code Err} for this key
+     */
+    public CompletableFuture<Result<V, E>> load(K key) {
+        Objects.requireNonNull(key, "key");
+        List<K> full = null;
+        CompletableFuture<Result<V, E>> future;
+        lock.lock();
+        try {
+            future = inFlight.get(key);
+            if (future != null) {
+                return future.copy();
+            }
+            future = new CompletableFuture<>();
+            inFlight.put(key, future);
+            pending.add(key);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                timer = SharedScheduler.schedule(() -> executor.execute(this::dispatch), windowNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            call(full);
+        }
+        return future.copy();
+    }
+
+    /**
+     * Requests the values of several keys. See {@link #load(Object)}.
+     *
+     * @param keys the keys to load
+     * @return one future per key, in the order of {@code keys}
+     */
+    public List<CompletableFuture<Result<V, E>>> loadAll(List<? extends K> keys) {
+        List<CompletableFuture<Result<V, E>>> futures = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            futures.add(load(key));
+        }
+        return futures;
+    }
+
+    /**
+     * Sends the batch being collected now instead of waiting for the window to close.
+     */
+    public void dispatch() {
+        List<K> keys;
+        lock.lock();
+        try {
+            keys = takePending();
+        } finally {
+            lock.unlock();
+        }
+        if (!keys.isEmpty()) {
+            call(keys);
+        }
+    }
+
+    /** Detaches the batch being collected; must hold {@link #lock}. */
+    private List<K> takePending() {
+        List<K> keys = pending;
+        pending = new ArrayList<>();
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        return keys;
+    }
+
+    private void call(List<K> keys) {
+        CompletableFuture<? extends Map<K, ? extends V>> response;
+        try {
+            response = batchFunction.apply(keys);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        if (response == null) {
+            response = CompletableFuture.failedFuture(new NullPointerException("batchFunction returned null"));
+        }
+        response.whenComplete((values, throwable) -> complete(keys, values, throwable));
+    }
+
+    /**
+     * Completes the futures of a finished batch. The keys leave {@link #inFlight} before any
+     * mapper runs, and a mapper that throws fails the affected futures instead of leaving
+     * them incomplete.
+     */
+    private void complete(List<K> keys, Map<K, ? extends V> values, Throwable throwable) {
+        List<CompletableFuture<Result<V, E>>> futures = new ArrayList<>(keys.size());
+        lock.lock();
+        try {
+            for (K key : keys) {
+                futures.add(inFlight.remove(key));
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (throwable != null) {
+            Throwable cause = Futures.unwrapCompletion(throwable);
+            Result<V, E> failed;
+            try {
+                failed = Result.err(errorMapper.apply(cause));
+            } catch (Throwable e) {
+                for (CompletableFuture<Result<V, E>> future : futures) {
+                    future.completeExceptionally(e);
+                }
+                return;
+            }
+            for (CompletableFuture<Result<V, E>> future : futures) {
+                future.complete(failed);
+            }
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            K key = keys.get(i);
+            CompletableFuture<Result<V, E>> future = futures.get(i);
+            try {
+                future.complete(values != null && values.containsKey(key)
+                        ? Result.ok(values.get(key))
+                        : Result.err(missingKeyError.apply(key)));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
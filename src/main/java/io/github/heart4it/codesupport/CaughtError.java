@@ -0,0 +1,45 @@
+package io.github.heart4it.codesupport;
+
+/**
+ * A compact description of a caught exception: its type and message. Storing a
+ * {@code CaughtError} in a long-lived {@code Err} instead of the exception itself releases
+ * the stack trace, the cause chain and anything the exception references.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Result<String, CaughtError> content = Result.catchingCompact(() -> Files.readString(path));
+ * if (content.isErrAnd(e -> e.is(NoSuchFileException.class))) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @param type    the class of the exception
+ * @param message the message of the exception, may be {@code null}
+ */
+public record CaughtError(Class<? extends Throwable> type, String message) {
+
+    /**
+     * Describes {@code throwable} without retaining it.
+     *
+     * @param throwable the exception to describe
+     * @return its type and message
+     */
+    public static CaughtError of(Throwable throwable) {
+        return new CaughtError(throwable.getClass(), throwable.getMessage());
+    }
+
+    /**
+     * Returns {@code true} if the exception was an instance of {@code type}.
+     *
+     * @param type the exception type to test
+     * @return {@code true} if the caught exception's class is {@code type} or a subclass of it
+     */
+    public boolean is(Class<? extends Throwable> type) {
+        return type.isAssignableFrom(this.type);
+    }
+
+    @Override
+    public String toString() {
+        return message == null ? type.getName() : type.getName() + ": " + message;
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.heart4it.codesupport;
+
+import java.util.Objects;
+
+/**
+ * A bounded, lock-free multi-producer multi-consumer channel with a sending and a receiving
+ * half, in the spirit of Rust's {@code std::sync::mpsc::sync_channel}. Neither half blocks:
+ * {@link Sender#trySend(Object)} hands the element back as {@code Err} when the channel is
+ * full, and {@link Receiver#tryRecv()} returns {@code None} when it is empty.
+ *
+ * <p>Both halves may be shared by any number of threads. The channel is backed by a ring
+ * buffer of sequence-numbered slots, so a send or receive is a single CAS on a padded index
+ * plus a release-store, and a successful send does not allocate.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Channel<Job> jobs = Channel.bounded(1024);
+ * Channel.Sender<Job> tx = jobs.sender();
+ * Channel.Receiver<Job> rx = jobs.receiver();
+ *
+ * Result<Unit, Job> sent = tx.trySend(job);     // -> Err(job) if the channel is full
+ * rx.tryRecv().inspect(Job::run);               // -> None if the channel is empty
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ */
+public final class Channel<T> {
+
+    /** The largest supported capacity. */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private final RingBuffer<T> buffer;
+    private final Sender<T> sender;
+    private final Receiver<T> receiver;
+
+    private Channel(int capacity) {
+        this.buffer = new RingBuffer<>(capacity);
+        this.sender = new Sender<>(buffer);
+        this.receiver = new Receiver<>(buffer);
+    }
+
+    /**
+     * Creates a channel holding at least {@code capacity} elements. The capacity is rounded up
+     * to the next power of two, and to at least 2.
+     *
+     * @param <T>      the type of the elements
+     * @param capacity the minimum number of elements the channel can hold
+     * @return a new channel
+     * @throws IllegalArgumentException if {@code capacity} is not positive or exceeds {@link #MAX_CAPACITY}
+     */
+    public static <T> Channel<T> bounded(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be in [1, " + MAX_CAPACITY + "]: " + capacity);
+        }
+        return new Channel<>(capacity);
+    }
+
+    /**
+     * Returns the sending half.
+     *
+     * @return the sender
+     */
+    public Sender<T> sender() {
+        return sender;
+    }
+
+    /**
+     * Returns the receiving half.
+     *
+     * @return the receiver
+     */
+    public Receiver<T> receiver() {
+        return receiver;
+    }
+
+    /**
+     * Returns the number of elements the channel can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the number of elements currently in the channel. Only an estimate while other
+     * threads are sending or receiving.
+     *
+     * @return the number of buffered elements
+     */
+    public int len() {
+        return buffer.size();
+    }
+
+    /**
+     * The sending half of a {@link Channel}.
+     *
+     * @param <T> the type of the elements
+     */
+    public static final class Sender<T> {
+
+        private final RingBuffer<T> buffer;
+
+        private Sender(RingBuffer<T> buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Sends {@code value} without blocking.
+         *
+         * @param value the element to send
+         * @return {@code Ok(Unit)} if the element was sent, or {@code Err(value)} if the channel is full
+         * @throws NullPointerException if {@code value} is {@code null}
+         */
+        public Result<Unit, T> trySend(T value) {
+            Objects.requireNonNull(value, "value");
+            return buffer.offer(value) ? Result.okUnit() : Result.err(value);
+        }
+    }
+
+    /**
+     * The receiving half of a {@link Channel}.
+     *
+     * @param <T> the type of the elements
+     */
+    public static final class Receiver<T> {
+
+        private final RingBuffer<T> buffer;
+
+        private Receiver(RingBuffer<T> buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Receives the oldest element without blocking.
+         *
+         * @return {@code Some} of the element, or {@code None} if the channel is empty
+         */
+        public Option<T> tryRecv() {
+            T value = buffer.poll();
+            return value != null ? Option.Some(value) : Option.None();
+        }
+    }
+}
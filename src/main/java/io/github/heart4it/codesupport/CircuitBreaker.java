@@ -0,0 +1,339 @@
+package io.github.heart4it.codesupport;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A circuit breaker for calls that return a {@link Result}. While the downstream is healthy
+ * the breaker is {@linkplain State#CLOSED closed} and records every outcome. When the share of
+ * {@code Err} outcomes or of slow calls in the sliding window reaches its threshold, the
+ * breaker {@linkplain State#OPEN opens}: calls then return the configured open error at once,
+ * without calling downstream. After {@link Settings#openDuration()} a single probe call is let
+ * through ({@linkplain State#HALF_OPEN half-open}); its outcome closes or re-opens the breaker.
+ * A probe that has not completed within another {@code openDuration}, such as a future that
+ * never completes, is treated as lost and the next call becomes a new probe, so a hung
+ * downstream cannot keep the breaker half-open forever.
+ *
+ * <p>The sliding window is a ring of time buckets with {@link LongAdder} counters, so
+ * concurrent callers record outcomes without contending on a shared counter. The decision
+ * whether to call downstream is a volatile read, and state changes are CAS operations; no
+ * lock is taken anywhere. The window is only summed after a failed or slow call, since
+ * only those can trip the breaker. Counts are approximate while a bucket rolls over.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * CircuitBreaker<ApiError> breaker = CircuitBreaker.of(ApiError.UNAVAILABLE, CircuitBreaker.Settings.defaults());
+ *
+ * Result<Quote, ApiError> quote = breaker.call(() -> client.quote(symbol));
+ * CompletableFuture<Result<Quote, ApiError>> async = breaker.callAsync(() -> client.quoteAsync(symbol));
+ * }</pre>
+ *
+ * @param <E> the type of the error values
+ */
+public final class CircuitBreaker<E> {
+
+    /**
+     * The state of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /** Calls go downstream and their outcomes are recorded. */
+        CLOSED,
+        /** Calls fail fast with the open error. */
+        OPEN,
+        /** A single probe call goes downstream; all other calls fail fast. */
+        HALF_OPEN
+    }
+
+    /**
+     * The thresholds and timings of a {@link CircuitBreaker}.
+     *
+     * @param failureRateThreshold  the share of {@code Err} outcomes, in {@code (0, 1]}, that opens the breaker
+     * @param slowCallRateThreshold the share of slow calls, in {@code (0, 1]}, that opens the breaker
+     * @param slowCallDuration      the duration from which a call counts as slow
+     * @param window                the length of the sliding window
+     * @param buckets               the number of buckets the window is divided into
+     * @param minimumCalls          the number of calls in the window before the rates are evaluated
+     * @param openDuration          how long the breaker stays open before letting a probe through,
+     *                              and how long a probe may run before the next one is let through
+     */
+    public record Settings(double failureRateThreshold,
+                           double slowCallRateThreshold,
+                           Duration slowCallDuration,
+                           Duration window,
+                           int buckets,
+                           int minimumCalls,
+                           Duration openDuration) {
+
+        /**
+         * Validates the settings.
+         *
+         * @throws IllegalArgumentException if a rate is outside {@code (0, 1]}, a duration is
+         *                                  not positive, or a count is less than 1
+         */
+        public Settings {
+            Objects.requireNonNull(slowCallDuration, "slowCallDuration");
+            Objects.requireNonNull(window, "window");
+            Objects.requireNonNull(openDuration, "openDuration");
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+            }
+            if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+                throw new IllegalArgumentException("slowCallRateThreshold must be in (0, 1]: " + slowCallRateThreshold);
+            }
+            if (slowCallDuration.isNegative() || slowCallDuration.isZero()
+                    || window.isNegative() || window.isZero()
+                    || openDuration.isNegative() || openDuration.isZero()) {
+                throw new IllegalArgumentException("durations must be positive");
+            }
+            if (buckets < 1 || minimumCalls < 1) {
+                throw new IllegalArgumentException("buckets and minimumCalls must be at least 1");
+            }
+        }
+
+        /**
+         * Returns settings that open at 50% failures or 100% slow calls (slower than 1s) among
+         * at least 20 calls in a 10s window of 10 buckets, and probe again after 30s.
+         *
+         * @return the default settings
+         */
+        public static Settings defaults() {
+            return new Settings(0.5, 1.0, Duration.ofSeconds(1), Duration.ofSeconds(10), 10, 20, Duration.ofSeconds(30));
+        }
+    }
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private final Result<?, E> rejected;
+    private final Settings settings;
+    private final long bucketNanos;
+    private final long slowNanos;
+    private final long openNanos;
+    private final Bucket[] window;
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicLong openedAt = new AtomicLong();
+    private final LongSupplier nanoTime;
+
+    private CircuitBreaker(E openError, Settings settings, LongSupplier nanoTime) {
+        this.rejected = Result.err(openError);
+        this.settings = settings;
+        this.nanoTime = nanoTime;
+        this.bucketNanos = Math.max(1, settings.window().toNanos() / settings.buckets());
+        this.slowNanos = settings.slowCallDuration().toNanos();
+        this.openNanos = settings.openDuration().toNanos();
+        this.window = new Bucket[settings.buckets()];
+        for (int i = 0; i < window.length; i++) {
+            window[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Creates a closed circuit breaker.
+     *
+     * @param <E>       the type of the error values
+     * @param openError the error returned while the breaker rejects calls
+     * @param settings  the thresholds and timings
+     * @return a new circuit breaker
+     */
+    public static <E> CircuitBreaker<E> of(E openError, Settings settings) {
+        return of(openError, settings, System::nanoTime);
+    }
+
+    /**
+     * Creates a closed circuit breaker that reads the time from {@code nanoTime}, so that tests
+     * can move through the open duration without sleeping.
+     */
+    static <E> CircuitBreaker<E> of(E openError, Settings settings, LongSupplier nanoTime) {
+        return new CircuitBreaker<>(openError, Objects.requireNonNull(settings, "settings"), nanoTime);
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * @return the state
+     */
+    public State state() {
+        return switch (state.get()) {
+            case CLOSED -> State.CLOSED;
+            case OPEN -> nanoTime.getAsLong() - openedAt.get() >= openNanos ? State.HALF_OPEN : State.OPEN;
+            default -> State.HALF_OPEN;
+        };
+    }
+
+    /**
+     * Calls {@code supplier} if the breaker permits it and records the outcome. A thrown
+     * exception counts as a failure and is rethrown; a {@code null} result counts as a failure
+     * and is reported as a {@link NullPointerException}.
+     *
+     * @param <T>      the type of the success value
+     * @param supplier the downstream call
+     * @return the downstream {@code Result}, or {@code Err(openError)} without calling downstream
+     */
+    public <T> Result<T, E> call(Supplier<? extends Result<T, E>> supplier) {
+        boolean probe;
+        int current = state.get();
+        if (current == CLOSED) {
+            probe = false;
+        } else if (tryStartProbe(current)) {
+            probe = true;
+        } else {
+            return rejected();
+        }
+        long start = nanoTime.getAsLong();
+        Result<T, E> result;
+        try {
+            result = supplier.get();
+        } catch (RuntimeException | Error e) {
+            record(probe, true, nanoTime.getAsLong() - start);
+            throw e;
+        }
+        if (result == null) {
+            record(probe, true, nanoTime.getAsLong() - start);
+            throw new NullPointerException("supplier returned null");
+        }
+        record(probe, result.isErr(), nanoTime.getAsLong() - start);
+        return result;
+    }
+
+    /**
+     * Starts {@code supplier} if the breaker permits it and records the outcome when the
+     * future completes. An exceptionally completed future and a future completing with
+     * {@code null} count as failures.
+     *
+     * @param <T>      the type of the success value
+     * @param supplier starts the downstream call
+     * @return the downstream future, or a completed {@code Err(openError)} without calling downstream
+     */
+    public <T> CompletableFuture<Result<T, E>> callAsync(Supplier<? extends CompletableFuture<Result<T, E>>> supplier) {
+        boolean probe;
+        int current = state.get();
+        if (current == CLOSED) {
+            probe = false;
+        } else if (tryStartProbe(current)) {
+            probe = true;
+        } else {
+            return CompletableFuture.completedFuture(rejected());
+        }
+        long start = nanoTime.getAsLong();
+        CompletableFuture<Result<T, E>> future;
+        try {
+            future = Objects.requireNonNull(supplier.get(), "supplier returned null");
+        } catch (RuntimeException | Error e) {
+            record(probe, true, nanoTime.getAsLong() - start);
+            throw e;
+        }
+        future.whenComplete((result, throwable) ->
+                record(probe, throwable != null || result == null || result.isErr(), nanoTime.getAsLong() - start));
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[" + state() + "]";
+    }
+
+    /** The shared open error; an Err holds no success value, so the cast is safe. */
+    @SuppressWarnings("unchecked")
+    private <T> Result<T, E> rejected() {
+        return (Result<T, E>) rejected;
+    }
+
+    /**
+     * Lets exactly one caller through once the open duration has elapsed, either since the
+     * breaker opened or since the previous probe started. Claiming {@link #openedAt} decides
+     * which caller probes; it then marks the start of the probe.
+     */
+    private boolean tryStartProbe(int current) {
+        long since = openedAt.get();
+        long now = nanoTime.getAsLong();
+        if (now - since < openNanos || !openedAt.compareAndSet(since, now)) {
+            return false;
+        }
+        if (current == OPEN) {
+            state.compareAndSet(OPEN, HALF_OPEN);
+        }
+        return true;
+    }
+
+    private void record(boolean probe, boolean failed, long elapsedNanos) {
+        boolean slow = elapsedNanos >= slowNanos;
+        if (probe) {
+            if (failed || slow) {
+                open();
+            } else {
+                for (Bucket bucket : window) {
+                    bucket.clear();
+                }
+                state.set(CLOSED);
+            }
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        long epoch = now / bucketNanos;
+        Bucket bucket = window[(int) Math.floorMod(epoch, (long) window.length)];
+        bucket.roll(epoch);
+        bucket.calls.increment();
+        if (failed) bucket.failures.increment();
+        if (slow) bucket.slow.increment();
+        if ((failed || slow) && state.get() == CLOSED && tripped(epoch)) {
+            if (state.compareAndSet(CLOSED, OPEN)) {
+                openedAt.set(now);
+            }
+        }
+    }
+
+    private void open() {
+        openedAt.set(nanoTime.getAsLong());
+        state.set(OPEN);
+    }
+
+    private boolean tripped(long epoch) {
+        long calls = 0;
+        long failures = 0;
+        long slow = 0;
+        for (Bucket bucket : window) {
+            long age = epoch - bucket.epoch.get();
+            if (age >= 0 && age < window.length) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                slow += bucket.slow.sum();
+            }
+        }
+        return calls >= settings.minimumCalls()
+                && (failures >= settings.failureRateThreshold() * calls
+                || slow >= settings.slowCallRateThreshold() * calls);
+    }
+
+    /** The counters of one time slice of the sliding window. */
+    private static final class Bucket {
+
+        final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        final LongAdder calls = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder slow = new LongAdder();
+
+        /** Resets the counters if this bucket still holds an earlier time slice. */
+        void roll(long current) {
+            long seen = epoch.get();
+            if (seen != current && epoch.compareAndSet(seen, current)) {
+                calls.reset();
+                failures.reset();
+                slow.reset();
+            }
+        }
+
+        void clear() {
+            epoch.set(Long.MIN_VALUE);
+            calls.reset();
+            failures.reset();
+            slow.reset();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.heart4it.codesupport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An error with a chain of context frames, like {@code anyhow::Error} with {@code .context()}.
+ * Created by {@link Result#context(Supplier)} and {@link Result#withContext(Function)}; adding
+ * context to a {@code Result} whose error already is a {@code ContextError} appends a frame
+ * instead of wrapping it again.
+ *
+ * <p>Frames are kept as the suppliers and functions passed in, in one flat array, and are only
+ * called when the error is rendered through {@link #message()}, {@link #contexts()} or
+ * {@link #toString()}. An error that is handled without being logged never formats a message.
+ * Rendering calls them again each time, so they should be cheap and free of side effects.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Result<Config, ContextError> config = Result.catching(() -> Files.readString(path))
+ *     .context(() -> "reading " + path)
+ *     .map(Config::parse)
+ *     .context(() -> String.format("loading config for %s", service));
+ *
+ * // config.unwrapErr().toString()
+ * //   -> "loading config for api: reading /etc/api.yml: java.nio.file.NoSuchFileException: /etc/api.yml"
+ * // config.unwrapErr().rootAs(IOException.class) -> Some(NoSuchFileException)
+ * }</pre>
+ */
+public final class ContextError {
+
+    private final Object root;
+    /** Oldest first; each element is a {@code Supplier<String>} or a {@code Function<?, ?>}. */
+    private final Object[] frames;
+
+    private ContextError(Object root, Object[] frames) {
+        this.root = root;
+        this.frames = frames;
+    }
+
+    /**
+     * Adds a frame to {@code error}, wrapping it if it is not a {@code ContextError} yet.
+     * A function frame is later applied to {@code error} as it was before this frame was added.
+     */
+    static ContextError of(Object error, Object frame) {
+        if (error instanceof ContextError context) {
+            Object[] frames = Arrays.copyOf(context.frames, context.frames.length + 1);
+            frames[frames.length - 1] = frame;
+            return new ContextError(context.root, frames);
+        }
+        return new ContextError(error, new Object[]{frame});
+    }
+
+    /**
+     * Returns the original error the first context was added to.
+     *
+     * @return the root error, may be {@code null}
+     */
+    public Object root() {
+        return root;
+    }
+
+    /**
+     * Returns the root error if it is an instance of {@code type}.
+     *
+     * @param <R>  the type to test for
+     * @param type the class to test for
+     * @return {@code Some} of the root error, or {@code None} if it is not a {@code type}
+     */
+    public <R> Option<R> rootAs(Class<R> type) {
+        return type.isInstance(root) ? Option.Some(type.cast(root)) : Option.None();
+    }
+
+    /**
+     * Returns the number of context frames.
+     *
+     * @return the number of frames, at least 1
+     */
+    public int depth() {
+        return frames.length;
+    }
+
+    /**
+     * Renders the outermost context, i.e. the one added last.
+     *
+     * @return the outermost context message
+     */
+    public String message() {
+        return render(frames.length - 1);
+    }
+
+    /**
+     * Renders all context frames.
+     *
+     * @return the context messages, outermost first
+     */
+    public List<String> contexts() {
+        List<String> messages = new ArrayList<>(frames.length);
+        for (int i = frames.length - 1; i >= 0; i--) {
+            messages.add(render(i));
+        }
+        return messages;
+    }
+
+    /**
+     * Renders the whole chain: all contexts, outermost first, followed by the root error,
+     * separated by {@code ": "}.
+     *
+     * @return the rendered chain
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = frames.length - 1; i >= 0; i--) {
+            sb.append(render(i)).append(": ");
+        }
+        return sb.append(root).toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private String render(int index) {
+        Object frame = frames[index];
+        if (frame instanceof Supplier<?> supplier) {
+            return String.valueOf(supplier.get());
+        }
+        // the first frame was added to the root error, each later one to the chain before it
+        Object error = index == 0 ? root : new ContextError(root, Arrays.copyOf(frames, index));
+        return String.valueOf(((Function<Object, ?>) frame).apply(error));
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.heart4it.codesupport;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A stateless, shared {@link Spliterator} over no elements, used by {@code None} and
+ * {@code Err} for {@code spliterator()}. It reports the same characteristics as the
+ * {@link SingleElementSpliterator} of the present variant, so that a stream pipeline sees
+ * the same flags whichever variant it was built from.
+ *
+ * @param <T> the type of the elements
+ */
+final class EmptySpliterator<T> implements Spliterator<T> {
+
+    private static final EmptySpliterator<?> WITHOUT_NONNULL = new EmptySpliterator<>(0);
+    private static final EmptySpliterator<?> WITH_NONNULL = new EmptySpliterator<>(NONNULL);
+
+    private final int characteristics;
+
+    private EmptySpliterator(int characteristics) {
+        this.characteristics = characteristics | SIZED | SUBSIZED | IMMUTABLE | ORDERED;
+    }
+
+    /**
+     * Returns the shared empty spliterator matching {@code Ok}.
+     *
+     * @param <T> the type of the elements
+     * @return an empty spliterator reporting {@code SIZED | SUBSIZED | IMMUTABLE | ORDERED}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Spliterator<T> ordered() {
+        return (Spliterator<T>) WITHOUT_NONNULL;
+    }
+
+    /**
+     * Returns the shared empty spliterator matching {@code Some}.
+     *
+     * @param <T> the type of the elements
+     * @return an empty spliterator reporting {@code SIZED | SUBSIZED | IMMUTABLE | ORDERED | NONNULL}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Spliterator<T> orderedNonNull() {
+        return (Spliterator<T>) WITH_NONNULL;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return 0;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.heart4it.codesupport;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Shared {@code Err} instances for enum error catalogs. An {@code Err} never holds a success
+ * value, so a single {@code Err(constant)} per enum constant is valid for every success type
+ * and can be handed out instead of allocating a new one on each failure.
+ *
+ * <p>A {@link Table} maps one enum catalog onto another through an array that is computed
+ * once. {@link Table#translate(Result)} yields the shared {@code Err} of the target constant,
+ * so translating errors between layers does not allocate either.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Result<User, ValidationError> invalid = ErrCache.of(ValidationError.BLANK_NAME);
+ * // same instance as Result.errOf(ValidationError.BLANK_NAME)
+ *
+ * ErrCache.Table<ValidationError, ApiError> toApi = ErrCache.table(ValidationError.class, e -> switch (e) {
+ *     case BLANK_NAME, NAME_TOO_LONG -> ApiError.BAD_REQUEST;
+ *     case DUPLICATE -> ApiError.CONFLICT;
+ * });
+ * Result<User, ApiError> response = toApi.translate(validate(request));
+ * }</pre>
+ */
+public final class ErrCache {
+
+    private static final ClassValue<Result<?, ?>[]> ERRS = new ClassValue<>() {
+        @Override
+        protected Result<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Result<?, ?>[] errs = new Result<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                errs[i] = new Result.Err<>(constants[i]);
+            }
+            return errs;
+        }
+    };
+
+    private ErrCache() {
+    }
+
+    /**
+     * Returns the shared {@code Err} holding {@code constant}.
+     *
+     * @param <T>      the type of the success value
+     * @param <E>      the enum type of the error
+     * @param constant the error constant
+     * @return {@code Err(constant)}, the same instance on every call
+     * @throws NullPointerException if {@code constant} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E extends Enum<E>> Result<T, E> of(E constant) {
+        Objects.requireNonNull(constant, "constant");
+        return (Result<T, E>) ERRS.get(constant.getDeclaringClass())[constant.ordinal()];
+    }
+
+    /**
+     * Precomputes the mapping of every constant of {@code source} through {@code mapping}.
+     *
+     * @param <E>     the source enum type
+     * @param <F>     the target enum type
+     * @param source  the source enum class
+     * @param mapping maps each source constant to a target constant; called once per constant
+     * @return the mapping table
+     * @throws NullPointerException if {@code mapping} returns {@code null} for a constant
+     */
+    public static <E extends Enum<E>, F extends Enum<F>> Table<E, F> table(Class<E> source, Function<? super E, ? extends F> mapping) {
+        E[] constants = source.getEnumConstants();
+        Result<?, ?>[] errs = new Result<?, ?>[constants.length];
+        for (E constant : constants) {
+            F target = Objects.requireNonNull(mapping.apply(constant), () -> "no mapping for " + constant);
+            errs[constant.ordinal()] = of(target);
+        }
+        return new Table<>(errs);
+    }
+
+    /**
+     * A precomputed mapping from one enum catalog to another. Usable as a plain
+     * {@link Function}, e.g. with {@link Result#mapErr(Function)}, which allocates a new
+     * {@code Err} like any other function; {@link #translate(Result)} returns the shared
+     * {@code Err} of the target constant instead.
+     *
+     * @param <E> the source enum type
+     * @param <F> the target enum type
+     */
+    public static final class Table<E extends Enum<E>, F extends Enum<F>> implements Function<E, F> {
+
+        private final Result<?, ?>[] errs;
+
+        private Table(Result<?, ?>[] errs) {
+            this.errs = errs;
+        }
+
+        /**
+         * Returns the target constant of {@code constant}.
+         *
+         * @param constant the source constant
+         * @return the target constant
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public F apply(E constant) {
+            return ((Result.Err<?, F>) errs[constant.ordinal()]).error();
+        }
+
+        /**
+         * Returns the shared {@code Err} of the target constant of {@code constant}.
+         *
+         * @param <T>      the type of the success value
+         * @param constant the source constant
+         * @return the shared {@code Err(apply(constant))}
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Result<T, F> err(E constant) {
+            return (Result<T, F>) errs[constant.ordinal()];
+        }
+
+        /**
+         * Translates the error of {@code result} like {@code result.mapErr(this)}, but returns
+         * the shared {@code Err} of the target constant instead of allocating one. An
+         * {@code Ok} is returned as is.
+         *
+         * @param <T>    the type of the success value
+         * @param result the result whose error to translate
+         * @return {@code result} if it is {@code Ok}, otherwise the shared {@code Err} of the target constant
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Result<T, F> translate(Result<T, E> result) {
+            if (result instanceof Result.Err<T, E> err) {
+                return (Result<T, F>) errs[err.error().ordinal()];
+            }
+            return (Result<T, F>) (Result<T, ?>) Objects.requireNonNull(result, "result");
+        }
+    }
+}
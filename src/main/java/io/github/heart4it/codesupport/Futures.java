@@ -0,0 +1,47 @@
+package io.github.heart4it.codesupport;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Helpers shared by the future-based factories of {@link Result} and the classes built on them.
+ */
+final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Returns the cause of a {@link CompletionException}, or {@code throwable} itself.
+     *
+     * @param throwable the failure reported by a future
+     * @return the underlying failure
+     */
+    static Throwable unwrapCompletion(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * Completes {@code outcome} with {@code Err(errorMapper(failure))}. If {@code errorMapper}
+     * throws, {@code outcome} completes exceptionally with that exception instead, so a
+     * failing mapper never leaves {@code outcome} incomplete.
+     *
+     * @param outcome     the future to complete
+     * @param errorMapper maps the failure to an error value
+     * @param failure     the failure to map
+     * @return {@code true} if this call completed {@code outcome}
+     */
+    static <T, E> boolean completeErr(CompletableFuture<Result<T, E>> outcome,
+                                      Function<? super Throwable, ? extends E> errorMapper,
+                                      Throwable failure) {
+        try {
+            return outcome.complete(Result.err(errorMapper.apply(failure)));
+        } catch (Throwable mapperFailure) {
+            return outcome.completeExceptionally(mapperFailure);
+        }
+    }
+}
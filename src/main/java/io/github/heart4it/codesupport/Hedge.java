@@ -0,0 +1,187 @@
+package io.github.heart4it.codesupport;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The state of one {@link Result#hedge} call: the attempts started so far, the backup
+ * timers scheduled so far and the errors merged so far.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+final class Hedge<T, E> {
+
+    /**
+     * Schedules the backup timers; {@link SharedScheduler#schedule} outside of tests.
+     */
+    @FunctionalInterface
+    interface Scheduler {
+        ScheduledFuture<?> schedule(Runnable task, long delayNanos);
+    }
+
+    private final Supplier<? extends CompletableFuture<? extends T>> attempt;
+    private final int maxAttempts;
+    private final HedgeDelay delay;
+    private final Function<Throwable, E> errorMapper;
+    private final BinaryOperator<E> mergeErrors;
+    private final Scheduler scheduler;
+    /** Starts backup attempts off the timer thread; {@link VirtualThreads#execute} outside of tests. */
+    private final Executor executor;
+    private final LongSupplier nanoTime;
+
+    private final CompletableFuture<Result<T, E>> outcome = new CompletableFuture<>();
+    private final AtomicReferenceArray<CompletableFuture<? extends T>> attempts;
+    /** The timer scheduled after each attempt; every one is cancelled once the outcome is known. */
+    private final AtomicReferenceArray<ScheduledFuture<?>> timers;
+    private final AtomicInteger launched = new AtomicInteger();
+
+    private int failed;
+    private E error;
+    private long startNanos;
+
+    Hedge(Supplier<? extends CompletableFuture<? extends T>> attempt,
+          int maxAttempts,
+          HedgeDelay delay,
+          Function<Throwable, E> errorMapper,
+          BinaryOperator<E> mergeErrors) {
+        this(attempt, maxAttempts, delay, errorMapper, mergeErrors, SharedScheduler::schedule);
+    }
+
+    Hedge(Supplier<? extends CompletableFuture<? extends T>> attempt,
+          int maxAttempts,
+          HedgeDelay delay,
+          Function<Throwable, E> errorMapper,
+          BinaryOperator<E> mergeErrors,
+          Scheduler scheduler) {
+        this(attempt, maxAttempts, delay, errorMapper, mergeErrors, scheduler, VirtualThreads::execute, System::nanoTime);
+    }
+
+    Hedge(Supplier<? extends CompletableFuture<? extends T>> attempt,
+          int maxAttempts,
+          HedgeDelay delay,
+          Function<Throwable, E> errorMapper,
+          BinaryOperator<E> mergeErrors,
+          Scheduler scheduler,
+          Executor executor,
+          LongSupplier nanoTime) {
+        this.attempt = attempt;
+        this.maxAttempts = maxAttempts;
+        this.delay = delay;
+        this.errorMapper = errorMapper;
+        this.mergeErrors = mergeErrors;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.nanoTime = nanoTime;
+        this.attempts = new AtomicReferenceArray<>(maxAttempts);
+        this.timers = new AtomicReferenceArray<>(maxAttempts);
+    }
+
+    CompletableFuture<Result<T, E>> start() {
+        startNanos = nanoTime.getAsLong();
+        outcome.whenComplete((result, throwable) -> cancelAll());
+        launchNext();
+        return outcome;
+    }
+
+    /**
+     * Starts the next attempt unless the outcome is known or all attempts have been started,
+     * then schedules the one after it.
+     */
+    private void launchNext() {
+        if (outcome.isDone()) {
+            return;
+        }
+        int index = launched.getAndIncrement();
+        if (index >= maxAttempts) {
+            return;
+        }
+        CompletableFuture<? extends T> future;
+        try {
+            future = attempt.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        } catch (Error e) {
+            // completing the outcome cancels the timers and attempts already started
+            outcome.completeExceptionally(e);
+            return;
+        }
+        if (future == null) {
+            future = CompletableFuture.failedFuture(new NullPointerException("attempt returned null"));
+        }
+        attempts.set(index, future);
+        if (outcome.isDone()) {
+            future.cancel(true);
+            return;
+        }
+        if (index + 1 < maxAttempts) {
+            timers.set(index, scheduler.schedule(() -> executor.execute(this::launchNext), delay.delayNanos()));
+            if (outcome.isDone()) {
+                // cancelAll may have run before the timer was stored
+                timers.get(index).cancel(false);
+            }
+        }
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                if (outcome.complete(Result.ok(value))) {
+                    delay.record(nanoTime.getAsLong() - startNanos);
+                }
+            } else {
+                failed(index, throwable);
+            }
+        });
+    }
+
+    /**
+     * Merges the error of attempt {@code index} and starts its replacement. The failed
+     * attempt's own timer is cancelled first, so that it does not start a second attempt
+     * sooner than the configured delay.
+     */
+    private void failed(int index, Throwable throwable) {
+        if (outcome.isDone()) {
+            return;
+        }
+        boolean allFailed;
+        E merged;
+        try {
+            E mapped = errorMapper.apply(Futures.unwrapCompletion(throwable));
+            synchronized (this) {
+                error = failed++ == 0 ? mapped : mergeErrors.apply(error, mapped);
+                allFailed = failed == maxAttempts;
+                merged = error;
+            }
+        } catch (Throwable mapperFailure) {
+            outcome.completeExceptionally(mapperFailure);
+            return;
+        }
+        if (allFailed) {
+            outcome.complete(Result.err(merged));
+        } else {
+            ScheduledFuture<?> timer = timers.get(index);
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            launchNext();
+        }
+    }
+
+    private void cancelAll() {
+        for (int i = 0; i < maxAttempts; i++) {
+            ScheduledFuture<?> timer = timers.get(i);
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            CompletableFuture<? extends T> future = attempts.get(i);
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.heart4it.codesupport;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The delay before {@link Result#hedge(java.util.function.Supplier, int, HedgeDelay,
+ * java.util.function.Function, java.util.function.BinaryOperator) Result.hedge} starts a
+ * backup attempt.
+ *
+ * <p>A {@linkplain #fixed(Duration) fixed} delay is always the same. A
+ * {@linkplain #percentile(double, Duration) percentile} delay tracks the latency of
+ * successful hedged calls, measured from the start of each call, and waits for the given percentile of the recent samples, so backups are
+ * only sent for requests that are already slower than most. Share one percentile instance
+ * between all calls to the same backend.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * HedgeDelay p95 = HedgeDelay.percentile(0.95, Duration.ofMillis(50));
+ *
+ * CompletableFuture<Result<Quote, String>> quote =
+ *     Result.hedge(() -> replicas.next().quote(symbol), 2, p95, Throwable::getMessage, String::concat);
+ * }</pre>
+ */
+public final class HedgeDelay {
+
+    private static final int SAMPLES = 256;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final double percentile;
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded;
+    private volatile long delayNanos;
+
+    private HedgeDelay(double percentile, long initialNanos, boolean adaptive) {
+        this.percentile = percentile;
+        this.samples = adaptive ? new AtomicLongArray(SAMPLES) : null;
+        this.recorded = adaptive ? new AtomicLong() : null;
+        this.delayNanos = initialNanos;
+    }
+
+    /**
+     * Creates a delay that never changes.
+     *
+     * @param delay the delay before each backup attempt
+     * @return a fixed {@code HedgeDelay}
+     * @throws IllegalArgumentException if {@code delay} is negative
+     */
+    public static HedgeDelay fixed(Duration delay) {
+        return new HedgeDelay(Double.NaN, nanos(delay), false);
+    }
+
+    /**
+     * Creates a delay that follows the given percentile of the last 256 observed latencies.
+     * Until enough latencies have been observed, {@code initialDelay} is used.
+     *
+     * @param percentile   the percentile between 0 (exclusive) and 1 (inclusive), e.g. {@code 0.95}
+     * @param initialDelay the delay used before enough latencies have been observed
+     * @return an adaptive {@code HedgeDelay}
+     * @throws IllegalArgumentException if {@code percentile} is out of range or {@code initialDelay} is negative
+     */
+    public static HedgeDelay percentile(double percentile, Duration initialDelay) {
+        if (!(percentile > 0 && percentile <= 1)) {
+            throw new IllegalArgumentException("percentile must be in (0, 1]: " + percentile);
+        }
+        return new HedgeDelay(percentile, nanos(initialDelay), true);
+    }
+
+    /**
+     * Returns the current delay.
+     *
+     * @return the delay before a backup attempt is started
+     */
+    public Duration delay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    long delayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Records the latency of a successful call, from its start to its first {@code Ok}. A
+     * backup that wins is measured from the start of the call, not of the backup, so that
+     * backups do not pull the percentile below the current delay. The percentile is recomputed from the
+     * sample window every few records, so recording is usually a single atomic increment
+     * and store.
+     */
+    void record(long latencyNanos) {
+        if (samples == null) {
+            return;
+        }
+        long n = recorded.getAndIncrement();
+        samples.set((int) (n % SAMPLES), latencyNanos);
+        if ((n + 1) % RECOMPUTE_EVERY == 0) {
+            int count = (int) Math.min(n + 1, SAMPLES);
+            long[] window = new long[count];
+            for (int i = 0; i < count; i++) {
+                window[i] = samples.get(i);
+            }
+            Arrays.sort(window);
+            int rank = (int) Math.ceil(percentile * count) - 1;
+            delayNanos = window[Math.max(rank, 0)];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return samples == null
+                ? "HedgeDelay[fixed " + delay() + "]"
+                : "HedgeDelay[p" + percentile * 100 + " " + delay() + "]";
+    }
+
+    private static long nanos(Duration delay) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative: " + delay);
+        }
+        return delay.toNanos();
+    }
+}
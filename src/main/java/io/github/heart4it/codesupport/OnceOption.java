@@ -0,0 +1,186 @@
+package io.github.heart4it.codesupport;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe cell that is written at most once, like Rust's {@code OnceLock}. It holds
+ * {@code None} until the first successful initialisation and the same {@code Some} forever
+ * after.
+ *
+ * <p>Once initialised, {@link #get()}, {@link #getOrInit(Supplier)} and
+ * {@link #getOrTryInit(Supplier)} are a single acquire-load of a field that already holds the
+ * {@code Some}, so reading never locks and never allocates. Initialisation is serialised:
+ * concurrent callers wait for the first one, and the initialiser runs exactly once.
+ * {@link #getOrTryInit(Supplier)} does not cache a failure, so the next caller tries again.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * private static final OnceOption<Map<String, Country>> COUNTRIES = new OnceOption<>();
+ *
+ * Map<String, Country> countries() {
+ *     return COUNTRIES.getOrInit(CountryTable::load); // loaded on first use only
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ */
+public final class OnceOption<T> {
+
+    private static final VarHandle SOME;
+
+    static {
+        try {
+            SOME = MethodHandles.lookup().findVarHandle(OnceOption.class, "some", Option.Some.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** The published value, {@code null} until initialised. */
+    @SuppressWarnings("unused")
+    private Option.Some<T> some;
+
+    /**
+     * {@code Ok} of the published value, returned by {@link #getOrTryInit(Supplier)}. Written
+     * before {@link #some} is released, so it is visible to every reader that saw {@link #some}.
+     */
+    private Result<T, ?> ok;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates an uninitialised cell.
+     */
+    public OnceOption() {
+    }
+
+    /**
+     * Returns the value if the cell has been initialised.
+     *
+     * @return {@code Some} of the value, or {@code None} if not yet initialised
+     */
+    public Option<T> get() {
+        Option.Some<T> current = acquire();
+        return current != null ? current : Option.None();
+    }
+
+    /**
+     * Returns {@code true} if the cell has been initialised.
+     *
+     * @return {@code true} if a value is present
+     */
+    public boolean isInitialized() {
+        return acquire() != null;
+    }
+
+    /**
+     * Initialises the cell with {@code value} unless it is already initialised.
+     *
+     * @param value the value
+     * @return {@code true} if this call initialised the cell
+     * @throws NullPointerException  if {@code value} is {@code null}
+     * @throws IllegalStateException if called from the initializer of this cell
+     */
+    public boolean set(T value) {
+        Objects.requireNonNull(value, "value");
+        if (acquire() != null) {
+            return false;
+        }
+        enter();
+        try {
+            if (acquire() != null) {
+                return false;
+            }
+            publish(value);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value, initialising the cell with {@code initializer} first if needed. The
+     * initializer runs at most once across all threads; other callers wait for it.
+     *
+     * @param initializer computes the value
+     * @return the value
+     * @throws NullPointerException  if {@code initializer} returns {@code null}
+     * @throws IllegalStateException if {@code initializer} tries to initialise this cell itself
+     */
+    public T getOrInit(Supplier<? extends T> initializer) {
+        Option.Some<T> current = acquire();
+        if (current != null) {
+            return current.value();
+        }
+        enter();
+        try {
+            current = acquire();
+            if (current == null) {
+                T value = Objects.requireNonNull(initializer.get(), "initializer returned null");
+                publish(value);
+                return value;
+            }
+            return current.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value, initialising the cell with the {@code Ok} value of {@code initializer}
+     * first if needed. An {@code Err} is returned to the caller and not cached, so a later call
+     * runs the initializer again. Concurrent callers wait for the running attempt.
+     *
+     * @param <E>         the type of the error value
+     * @param initializer computes the value or an error
+     * @return {@code Ok} of the value, or the {@code Err} returned by {@code initializer}
+     * @throws NullPointerException  if {@code initializer} returns {@code null} or {@code Ok(null)}
+     * @throws IllegalStateException if {@code initializer} tries to initialise this cell itself
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Result<T, E> getOrTryInit(Supplier<? extends Result<? extends T, ? extends E>> initializer) {
+        if (acquire() != null) {
+            return (Result<T, E>) ok;
+        }
+        enter();
+        try {
+            if (acquire() != null) {
+                return (Result<T, E>) ok;
+            }
+            Result<? extends T, ? extends E> attempt = Objects.requireNonNull(initializer.get(), "initializer returned null");
+            if (attempt instanceof Result.Ok<? extends T, ? extends E> success) {
+                publish(Objects.requireNonNull(success.value(), "initializer returned Ok(null)"));
+            }
+            // a Result is immutable, so viewing it with the wider type arguments is safe
+            return (Result<T, E>) attempt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OnceOption[" + get().toDebugString() + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private Option.Some<T> acquire() {
+        return (Option.Some<T>) SOME.getAcquire(this);
+    }
+
+    private void publish(T value) {
+        ok = Result.ok(value);
+        SOME.setRelease(this, new Option.Some<>(value));
+    }
+
+    private void enter() {
+        if (lock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("OnceOption initializer tried to initialize the same cell");
+        }
+        lock.lock();
+    }
+}
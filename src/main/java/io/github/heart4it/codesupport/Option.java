@@ -2,6 +2,8 @@ package io.github.heart4it.codesupport;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A type-safe container that may or may not contain a value.
@@ -10,12 +12,14 @@ import java.util.function.*;
  * by functional programming languages.
  *
  * <p>This is a {@code sealed} interface (Java 17+) with two permitted
- * implementations: {@link Option.Some} and {@link Option.None}.
+ * implementations: {@link Option.Some} and {@link Option.None}. Each variant
+ * implements the operations itself, so a call dispatches on the receiver's
+ * class instead of branching on {@code instanceof} inside a shared method body.
  *
  * @param <T> the type of the value contained in the Option
  * @since 21
  */
-public sealed interface Option<T> permits Option.Some, Option.None {
+public sealed interface Option<T> extends Iterable<T> permits Option.Some, Option.None {
 
     /**
      * Record representing an {@code Option} that contains a value.
@@ -70,6 +74,177 @@ public sealed interface Option<T> permits Option.Some, Option.None {
         public T get() {
             return value;
         }
+
+        @Override
+        public boolean isSome() {
+            return true;
+        }
+
+        @Override
+        public boolean isNone() {
+            return false;
+        }
+
+        @Override
+        public Option<T> and(Option<T> other) {
+            return other;
+        }
+
+        @Override
+        public Option<T> andThen(Function<? super T, Option<T>> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public Option<T> or(Option<T> other) {
+            return this;
+        }
+
+        @Override
+        public Option<T> orElse(Supplier<Option<T>> f) {
+            return this;
+        }
+
+        @Override
+        public Option<T> xor(Option<T> other) {
+            return other.isSome() ? Option.None() : this;
+        }
+
+        @Override
+        public <U> Option<U> map(Function<? super T, ? extends U> f) {
+            return Option.Some(f.apply(value));
+        }
+
+        @Override
+        public <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public Option<T> filter(Predicate<? super T> predicate) {
+            return predicate.test(value) ? this : Option.None();
+        }
+
+        @Override
+        public boolean isSomeAnd(Predicate<? super T> predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isNoneOr(Predicate<? super T> predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public Option<T> inspect(Consumer<? super T> action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public T unwrap() {
+            return value;
+        }
+
+        @Override
+        public T unwrapOr(T defaultValue) {
+            return value;
+        }
+
+        @Override
+        public T unwrapOrElse(Supplier<? extends T> supplier) {
+            return value;
+        }
+
+        @Override
+        public T expect(String message) {
+            return value;
+        }
+
+        @Override
+        public T unwrapUnchecked() {
+            return value;
+        }
+
+        @Override
+        public Option<T> replace(T value) {
+            return Option.Some(value);
+        }
+
+        @Override
+        public Option<T> take() {
+            return this;
+        }
+
+        @Override
+        public Option<T> takeIf(Predicate<? super T> predicate) {
+            return predicate.test(value) ? this : Option.None();
+        }
+
+        @Override
+        public T getOrInsert(T value) {
+            return this.value;
+        }
+
+        @Override
+        public T getOrInsertDefault(Supplier<? extends T> supplier) {
+            return value;
+        }
+
+        @Override
+        public <E> Result<Option<T>, E> transpose() {
+            if (value instanceof Result<?, ?> r) {
+                @SuppressWarnings("unchecked")
+                Result<T, E> result = (Result<T, E>) r;
+                return result.map(Option::Some);
+            }
+            throw new IllegalStateException("transpose requires Option<Result<T,E>>");
+        }
+
+        @Override
+        public List<T> iter() {
+            return List.of(value);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new SingleElementSpliterator<>(value, Spliterator.NONNULL);
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return new SingleElementSpliterator<>(value, Spliterator.NONNULL);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        @Override
+        public <E> Result<T, E> okOr(E err) {
+            return Result.ok(value);
+        }
+
+        @Override
+        public <E> Result<T, E> okOrElse(Supplier<E> errSupplier) {
+            return Result.ok(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Some(" + value + ")";
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.of(value);
+        }
     }
 
     /**
@@ -84,11 +259,187 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * }</pre>
      */
     record None<T>() implements Option<T> {
+
+        /**
+         * The shared {@code None} instance handed out by {@link Option#None()} and by
+         * every combinator that produces an empty {@code Option}. {@code None} carries
+         * no value, so a single instance is valid for every {@code T}.
+         */
+        private static final None<?> INSTANCE = new None<>();
+
+        @Override
+        public boolean isSome() {
+            return false;
+        }
+
+        @Override
+        public boolean isNone() {
+            return true;
+        }
+
+        @Override
+        public Option<T> and(Option<T> other) {
+            return this;
+        }
+
+        @Override
+        public Option<T> andThen(Function<? super T, Option<T>> f) {
+            return this;
+        }
+
+        @Override
+        public Option<T> or(Option<T> other) {
+            return other;
+        }
+
+        @Override
+        public Option<T> orElse(Supplier<Option<T>> f) {
+            return f.get();
+        }
+
+        @Override
+        public Option<T> xor(Option<T> other) {
+            return other;
+        }
+
+        @Override
+        public <U> Option<U> map(Function<? super T, ? extends U> f) {
+            return Option.None();
+        }
+
+        @Override
+        public <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f) {
+            return defaultValue;
+        }
+
+        @Override
+        public <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f) {
+            return defaultSupplier.get();
+        }
+
+        @Override
+        public Option<T> filter(Predicate<? super T> predicate) {
+            return this;
+        }
+
+        @Override
+        public boolean isSomeAnd(Predicate<? super T> predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isNoneOr(Predicate<? super T> predicate) {
+            return true;
+        }
+
+        @Override
+        public Option<T> inspect(Consumer<? super T> action) {
+            return this;
+        }
+
+        @Override
+        public T unwrap() {
+            throw Panics.unwrapNone();
+        }
+
+        @Override
+        public T unwrapOr(T defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public T unwrapOrElse(Supplier<? extends T> supplier) {
+            return supplier.get();
+        }
+
+        @Override
+        public T expect(String message) {
+            throw Panics.noSuchElement(message);
+        }
+
+        @Override
+        public T unwrapUnchecked() {
+            return null;
+        }
+
+        @Override
+        public Option<T> replace(T value) {
+            return this;
+        }
+
+        @Override
+        public Option<T> take() {
+            return this;
+        }
+
+        @Override
+        public Option<T> takeIf(Predicate<? super T> predicate) {
+            return this;
+        }
+
+        @Override
+        public T getOrInsert(T value) {
+            return value;
+        }
+
+        @Override
+        public T getOrInsertDefault(Supplier<? extends T> supplier) {
+            return supplier.get();
+        }
+
+        @Override
+        public <E> Result<Option<T>, E> transpose() {
+            return Result.ok(this);
+        }
+
+        @Override
+        public List<T> iter() {
+            return List.of();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return EmptySpliterator.orderedNonNull();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return Stream.empty();
+        }
+
+        @Override
+        public <E> Result<T, E> okOr(E err) {
+            return Result.err(err);
+        }
+
+        @Override
+        public <E> Result<T, E> okOrElse(Supplier<E> errSupplier) {
+            return Result.err(errSupplier.get());
+        }
+
+        @Override
+        public String toDebugString() {
+            return "None";
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.empty();
+        }
     }
 
     /**
      * Creates a {@code Some} {@code Option} containing the given value.
      *
+     * <p>
+     * For {@link Unit#INSTANCE}, booleans and integers in {@code [-128, 127]} a shared
+     * instance is returned, like {@link Integer#valueOf(int)} does for boxed integers.
+     *
      * @param <T>   the type of the value
      * @param value the value to contain. Must not be null.
      * @return a {@code Some} {@code Option} containing the value
@@ -101,12 +452,17 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // some.unwrap() -> 42
      * }</pre>
      */
+    @SuppressWarnings("unchecked")
     static <T> Option<T> Some(T value) {
-        return new Some<>(value);
+        Option<?> cached = ValueCache.some(value);
+        return cached != null ? (Option<T>) cached : new Some<>(value);
     }
 
     /**
-     * Creates an empty {@code None} {@code Option}.
+     * Returns the empty {@code None} {@code Option}.
+     * <p>
+     * The same shared instance is returned on every call, so creating or propagating
+     * {@code None} never allocates. Equality and pattern matching are unaffected.
      *
      * @param <T> the type parameter
      * @return an empty {@code None} {@code Option}
@@ -117,8 +473,9 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // none.isNone() -> true
      * }</pre>
      */
+    @SuppressWarnings("unchecked")
     static <T> Option<T> None() {
-        return new None<>();
+        return (Option<T>) None.INSTANCE;
     }
 
     /**
@@ -156,9 +513,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * assert !none.isSome();
      * }</pre>
      */
-    default boolean isSome() {
-        return this instanceof Some<T>;
-    }
+    boolean isSome();
 
     /**
      * Returns {@code true} if this {@code Option} is empty (is {@code None}).
@@ -173,9 +528,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * assert !some.isNone();
      * }</pre>
      */
-    default boolean isNone() {
-        return this instanceof None<T>;
-    }
+    boolean isNone();
 
     /**
      * Returns {@code other} if this {@code Option} is {@code Some}, otherwise returns {@code None}.
@@ -195,9 +548,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // r2 -> None
      * }</pre>
      */
-    default Option<T> and(Option<T> other) {
-        return this.isSome() ? other : None();
-    }
+    Option<T> and(Option<T> other);
 
     /**
      * Calls the function {@code f} with the contained value if this {@code Option} is {@code Some},
@@ -219,9 +570,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // parsed -> Some(123)
      * }</pre>
      */
-    default Option<T> andThen(Function<? super T, Option<T>> f) {
-        return this instanceof Some<T> s ? f.apply(s.value()) : None();
-    }
+    Option<T> andThen(Function<? super T, Option<T>> f);
 
     /**
      * Returns this {@code Option} if it is {@code Some}, otherwise returns {@code other}.
@@ -237,9 +586,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // r -> Some("fallback")
      * }</pre>
      */
-    default Option<T> or(Option<T> other) {
-        return this.isSome() ? this : other;
-    }
+    Option<T> or(Option<T> other);
 
     /**
      * Returns this {@code Option} if it is {@code Some}, otherwise calls the supplier and returns its result.
@@ -254,9 +601,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // r -> Some("computed")
      * }</pre>
      */
-    default Option<T> orElse(Supplier<Option<T>> f) {
-        return this.isSome() ? this : f.get();
-    }
+    Option<T> orElse(Supplier<Option<T>> f);
 
     /**
      * Returns this {@code Option} if it is {@code Some} and the other is {@code None}, or the other {@code Option}
@@ -278,10 +623,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // r2 -> None
      * }</pre>
      */
-    default Option<T> xor(Option<T> other) {
-        if (this.isSome() == other.isSome()) return None();
-        return this.isSome() ? this : other;
-    }
+    Option<T> xor(Option<T> other);
 
     /**
      * Maps an {@code Option<T>} to {@code Option<U>} by applying a function to the contained value.
@@ -298,9 +640,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // len -> Some(5)
      * }</pre>
      */
-    default <U> Option<U> map(Function<? super T, ? extends U> f) {
-        return this instanceof Some<T> s ? Some(f.apply(s.value())) : None();
-    }
+    <U> Option<U> map(Function<? super T, ? extends U> f);
 
     /**
      * Returns the provided default value if this {@code Option} is {@code None},
@@ -320,9 +660,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * int def = none.mapOr(0, String::length); // -> 0
      * }</pre>
      */
-    default <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f) {
-        return this instanceof Some<T> s ? f.apply(s.value()) : defaultValue;
-    }
+    <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f);
 
     /**
      * Returns the result of the default supplier if this {@code Option} is {@code None},
@@ -342,9 +680,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * String def = none.mapOrDefault(() -> "computed", str -> str.toUpperCase()); // -> "computed"
      * }</pre>
      */
-    default <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f) {
-        return this instanceof Some<T> s ? f.apply(s.value()) : defaultSupplier.get();
-    }
+    <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f);
 
     /**
      * Alias for {@link #mapOrDefault(java.util.function.Supplier, java.util.function.Function)}.
@@ -378,9 +714,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * Option<Integer> out = n.filter(x -> x > 20); // -> None
      * }</pre>
      */
-    default Option<T> filter(Predicate<? super T> predicate) {
-        return this instanceof Some<T> s && predicate.test(s.value()) ? this : None();
-    }
+    Option<T> filter(Predicate<? super T> predicate);
 
     /**
      * Returns {@code true} if this {@code Option} is {@code Some} and the contained value matches the predicate.
@@ -394,9 +728,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * boolean ok = s.isSomeAnd(str -> str.length() > 3); // -> true
      * }</pre>
      */
-    default boolean isSomeAnd(Predicate<? super T> predicate) {
-        return this instanceof Some<T> s && predicate.test(s.value());
-    }
+    boolean isSomeAnd(Predicate<? super T> predicate);
 
     /**
      * Returns {@code true} if this {@code Option} is {@code None} or the predicate returns {@code true}
@@ -414,15 +746,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * assert !s.isNoneOr(str -> str.length() > 3);
      * }</pre>
      */
-    default boolean isNoneOr(Predicate<? super T> predicate) {
-        if (this instanceof None<T>) {
-            return true;
-        }
-        if (this instanceof Some<T> some) {
-            return predicate.test(some.value());
-        }
-        return false; // unreachable due to sealed hierarchy
-    }
+    boolean isNoneOr(Predicate<? super T> predicate);
 
     /**
      * Calls the provided action with the contained value if this {@code Option} is {@code Some},
@@ -438,10 +762,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // prints "Found: data", after -> Some("data")
      * }</pre>
      */
-    default Option<T> inspect(Consumer<? super T> action) {
-        if (this instanceof Some<T> s) action.accept(s.value());
-        return this;
-    }
+    Option<T> inspect(Consumer<? super T> action);
 
     /**
      * Returns the contained value if this {@code Option} is {@code Some}.
@@ -458,10 +779,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // none.unwrap(); // throws NoSuchElementException
      * }</pre>
      */
-    default T unwrap() {
-        if (this instanceof Some<T> s) return s.value();
-        throw new NoSuchElementException("called unwrap() on None");
-    }
+    T unwrap();
 
     /**
      * Returns the contained value if this {@code Option} is {@code Some}, otherwise returns the provided default.
@@ -478,9 +796,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * String d = none.unwrapOr("default"); // -> "default"
      * }</pre>
      */
-    default T unwrapOr(T defaultValue) {
-        return this instanceof Some<T> s ? s.value() : defaultValue;
-    }
+    T unwrapOr(T defaultValue);
 
     /**
      * Returns the contained value if this {@code Option} is {@code Some}, otherwise computes a default
@@ -498,9 +814,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * String s = some.unwrapOrElse(() -> "y"); // -> "x"
      * }</pre>
      */
-    default T unwrapOrElse(Supplier<? extends T> supplier) {
-        return this instanceof Some<T> s ? s.value() : supplier.get();
-    }
+    T unwrapOrElse(Supplier<? extends T> supplier);
 
     /**
      * Alias for {@link #unwrapOrElse(java.util.function.Supplier)}.
@@ -534,10 +848,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // none.expect("data missing"); // throws NoSuchElementException with message "data missing"
      * }</pre>
      */
-    default T expect(String message) {
-        if (this instanceof Some<T> s) return s.value();
-        throw new NoSuchElementException(message);
-    }
+    T expect(String message);
 
     /**
      * Returns the contained value if this {@code Option} is {@code Some}, or {@code null} if this {@code Option} is {@code None}.
@@ -554,9 +865,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * String n = none.unwrapUnchecked(); // -> null
      * }</pre>
      */
-    default T unwrapUnchecked() {
-        return this instanceof Some<T> s ? s.value() : null;
-    }
+    T unwrapUnchecked();
 
     /**
      * Replaces the contained value with the given value, returning a new {@code Option}.
@@ -573,9 +882,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * Option<String> r2 = none.replace("new"); // -> None
      * }</pre>
      */
-    default Option<T> replace(T value) {
-        return this.isSome() ? Some(value) : None();
-    }
+    Option<T> replace(T value);
 
     /**
      * Inserts the given value into this {@code Option}, always returning {@code Some}.
@@ -607,9 +914,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * Option<String> t = s.take(); // -> Some("v")
      * }</pre>
      */
-    default Option<T> take() {
-        return this.isSome() ? this : None();
-    }
+    Option<T> take();
 
     /**
      * Takes the value out of the {@code Option} if the predicate returns {@code true},
@@ -625,9 +930,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * Option<Integer> none = s.takeIf(n -> n > 20); // -> None
      * }</pre>
      */
-    default Option<T> takeIf(Predicate<? super T> predicate) {
-        return this instanceof Some<T> s && predicate.test(s.value()) ? this : None();
-    }
+    Option<T> takeIf(Predicate<? super T> predicate);
 
     /**
      * Returns the contained value if this {@code Option} is {@code Some}, otherwise inserts the given value
@@ -645,10 +948,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * String v2 = none.getOrInsert("default"); // -> "default"
      * }</pre>
      */
-    default T getOrInsert(T value) {
-        if (this.isSome()) return this.unwrap();
-        return value;
-    }
+    T getOrInsert(T value);
 
     /**
      * Returns the contained value if this {@code Option} is {@code Some}, otherwise computes a value
@@ -663,9 +963,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * String v = none.getOrInsertDefault(() -> "computed"); // -> "computed"
      * }</pre>
      */
-    default T getOrInsertDefault(Supplier<? extends T> supplier) {
-        return this.isSome() ? this.unwrap() : supplier.get();
-    }
+    T getOrInsertDefault(Supplier<? extends T> supplier);
 
     /**
      * Alias for {@link #getOrInsertDefault(java.util.function.Supplier)}.
@@ -726,15 +1024,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * // t2 -> Ok(None)
      * }</pre>
      */
-    default <E> Result<Option<T>, E> transpose() {
-        if (this instanceof None<T>) return Result.ok(Option.None());
-        if (this.unwrap() instanceof Result<?, ?> r) {
-            @SuppressWarnings("unchecked")
-            Result<T, E> result = (Result<T, E>) r;
-            return result.map(Option::Some);
-        }
-        throw new IllegalStateException("transpose requires Option<Result<T,E>>");
-    }
+    <E> Result<Option<T>, E> transpose();
 
     /**
      * Zips two {@code Option}s into a single {@code Option} containing a {@link Pair}.
@@ -781,6 +1071,153 @@ public sealed interface Option<T> permits Option.Some, Option.None {
         return None();
     }
 
+    /**
+     * Turns many {@code Option}s into one {@code Option} of a list. Returns {@code Some}
+     * with all values in iteration order if every element is {@code Some}, otherwise
+     * {@code None}. Iteration stops at the first {@code None}.
+     *
+     * @param <T>     the type of the contained values
+     * @param options the {@code Option}s to combine
+     * @return {@code Some} containing a new list of all values, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<List<Integer>> all = Option.sequence(List.of(Option.Some(1), Option.Some(2))); // -> Some([1, 2])
+     * Option<List<Integer>> none = Option.sequence(List.of(Option.Some(1), Option.None())); // -> None
+     * }</pre>
+     */
+    static <T> Option<List<T>> sequence(Iterable<? extends Option<? extends T>> options) {
+        return traverse(options, Function.identity());
+    }
+
+    /**
+     * Turns an array of {@code Option}s into one {@code Option} of a list, stopping at the
+     * first {@code None}. See {@link #sequence(Iterable)}.
+     *
+     * @param <T>     the type of the contained values
+     * @param options the {@code Option}s to combine
+     * @return {@code Some} containing a new list of all values, or {@code None}
+     */
+    static <T> Option<List<T>> sequence(Option<? extends T>[] options) {
+        return traverse(options, Function.identity());
+    }
+
+    /**
+     * Applies {@code f} to every element and collects the contained values into a list.
+     * Returns {@code None} as soon as {@code f} returns {@code None}; {@code f} is not applied
+     * to any later element. Values are added to the output list directly, without wrapping
+     * the partial list in an {@code Option}. For {@link RandomAccess} lists the elements are
+     * read by index and the output list is presized; other collections are presized from
+     * their size.
+     *
+     * @param <A>    the type of the source elements
+     * @param <B>    the type of the contained values
+     * @param source the elements to transform
+     * @param f      the transformation that may produce {@code None}
+     * @return {@code Some} containing a new list of all transformed values, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<List<User>> users = Option.traverse(ids, repository::findById);
+     * // None if any id is unknown; findById is not called for the ids after it
+     * }</pre>
+     */
+    static <A, B> Option<List<B>> traverse(
+            Iterable<? extends A> source,
+            Function<? super A, ? extends Option<? extends B>> f) {
+        if (source instanceof List<? extends A> list && source instanceof RandomAccess) {
+            int size = list.size();
+            List<B> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (!(f.apply(list.get(i)) instanceof Some<? extends B> s)) return None();
+                values.add(s.value());
+            }
+            return Some(values);
+        }
+        List<B> values = new ArrayList<>(source instanceof Collection<?> c ? c.size() : 10);
+        for (A element : source) {
+            if (!(f.apply(element) instanceof Some<? extends B> s)) return None();
+            values.add(s.value());
+        }
+        return Some(values);
+    }
+
+    /**
+     * Applies {@code f} to every array element, stopping at the first {@code None}.
+     * See {@link #traverse(Iterable, Function)}.
+     *
+     * @param <A>    the type of the source elements
+     * @param <B>    the type of the contained values
+     * @param source the elements to transform
+     * @param f      the transformation that may produce {@code None}
+     * @return {@code Some} containing a new list of all transformed values, or {@code None}
+     */
+    static <A, B> Option<List<B>> traverse(A[] source, Function<? super A, ? extends Option<? extends B>> f) {
+        List<B> values = new ArrayList<>(source.length);
+        for (A element : source) {
+            if (!(f.apply(element) instanceof Some<? extends B> s)) return None();
+            values.add(s.value());
+        }
+        return Some(values);
+    }
+
+    /**
+     * Applies {@code f} to every {@code int}, stopping at the first {@code None}. The values
+     * are written into a presized {@code int[]}, so nothing is boxed.
+     *
+     * @param source the values to transform
+     * @param f      the transformation that may produce {@code None}
+     * @return {@code Some} containing a new array of all transformed values, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<int[]> halves = Option.traverse(new int[]{2, 4}, n -> n % 2 == 0 ? OptionInt.Some(n / 2) : OptionInt.None());
+     * // halves -> Some([1, 2])
+     * }</pre>
+     */
+    static Option<int[]> traverse(int[] source, IntFunction<OptionInt> f) {
+        int[] values = new int[source.length];
+        for (int i = 0; i < source.length; i++) {
+            if (!(f.apply(source[i]) instanceof OptionInt.Some s)) return None();
+            values[i] = s.value();
+        }
+        return Some(values);
+    }
+
+    /**
+     * Applies {@code f} to every {@code long}, stopping at the first {@code None}. The values
+     * are written into a presized {@code long[]}, so nothing is boxed.
+     *
+     * @param source the values to transform
+     * @param f      the transformation that may produce {@code None}
+     * @return {@code Some} containing a new array of all transformed values, or {@code None}
+     */
+    static Option<long[]> traverse(long[] source, LongFunction<OptionLong> f) {
+        long[] values = new long[source.length];
+        for (int i = 0; i < source.length; i++) {
+            if (!(f.apply(source[i]) instanceof OptionLong.Some s)) return None();
+            values[i] = s.value();
+        }
+        return Some(values);
+    }
+
+    /**
+     * Applies {@code f} to every {@code double}, stopping at the first {@code None}. The values
+     * are written into a presized {@code double[]}, so nothing is boxed.
+     *
+     * @param source the values to transform
+     * @param f      the transformation that may produce {@code None}
+     * @return {@code Some} containing a new array of all transformed values, or {@code None}
+     */
+    static Option<double[]> traverse(double[] source, DoubleFunction<OptionDouble> f) {
+        double[] values = new double[source.length];
+        for (int i = 0; i < source.length; i++) {
+            if (!(f.apply(source[i]) instanceof OptionDouble.Some s)) return None();
+            values[i] = s.value();
+        }
+        return Some(values);
+    }
+
     /**
      * Returns a {@link List} containing the value if present, otherwise an empty {@link List}.
      *
@@ -795,8 +1232,66 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * List<String> empty = none.iter(); // -> List.of()
      * }</pre>
      */
-    default List<T> iter() {
-        return this instanceof Some<T> s ? List.of(s.value()) : List.of();
+    List<T> iter();
+
+    /**
+     * Returns an iterator over the contained value, so an {@code Option} can be used
+     * directly in a for-each loop without building a {@link List}.
+     *
+     * @return an iterator over zero or one element; {@code None} returns a shared empty iterator
+     *
+     * <p>Example:
+     * <pre>{@code
+     * for (String s : Option.Some("hello")) {
+     *     System.out.println(s); // prints "hello"
+     * }
+     * }</pre>
+     */
+    @Override
+    Iterator<T> iterator();
+
+    /**
+     * Returns a spliterator over the contained value. It reports
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, {@link Spliterator#IMMUTABLE},
+     * {@link Spliterator#ORDERED} and {@link Spliterator#NONNULL}.
+     *
+     * @return a spliterator over zero or one element; {@code None} returns a shared empty spliterator
+     */
+    @Override
+    Spliterator<T> spliterator();
+
+    /**
+     * Returns a {@link Stream} containing the value if present, otherwise an empty stream.
+     * Unlike {@code iter().stream()} no intermediate {@link List} is created.
+     *
+     * @return a stream of zero or one element
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long count = Option.Some("a").stream().count(); // -> 1
+     * }</pre>
+     */
+    Stream<T> stream();
+
+    /**
+     * Flattens a stream of {@code Option}s into a stream of the contained values, dropping
+     * every {@code None}. Values are pushed downstream directly, so no per-element
+     * collection, spliterator or stream is created.
+     *
+     * @param <T>     the type of the contained values
+     * @param options the stream of {@code Option}s
+     * @return a stream of the values of all {@code Some} elements, in encounter order
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = Option.flattenStream(Stream.of(Option.Some("a"), Option.None(), Option.Some("b")))
+     *         .toList(); // -> ["a", "b"]
+     * }</pre>
+     */
+    static <T> Stream<T> flattenStream(Stream<? extends Option<? extends T>> options) {
+        return options.<T>mapMulti((option, sink) -> {
+            if (option instanceof Some<? extends T> s) sink.accept(s.value());
+        });
     }
 
     /**
@@ -816,9 +1311,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * Result<String, String> r2 = none.okOr("not found"); // -> Err("not found")
      * }</pre>
      */
-    default <E> Result<T, E> okOr(E err) {
-        return this.isSome() ? Result.ok(this.unwrap()) : Result.err(err);
-    }
+    <E> Result<T, E> okOr(E err);
 
     /**
      * Converts this {@code Option} into a {@code Result}, mapping {@code Some} to {@code Ok}
@@ -834,9 +1327,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * Result<String, String> r = none.okOrElse(() -> "computed error"); // -> Err("computed error")
      * }</pre>
      */
-    default <E> Result<T, E> okOrElse(Supplier<E> errSupplier) {
-        return this.isSome() ? Result.ok(this.unwrap()) : Result.err(errSupplier.get());
-    }
+    <E> Result<T, E> okOrElse(Supplier<E> errSupplier);
 
     /**
      * Returns a string representation of this {@code Option} for debugging purposes.
@@ -849,9 +1340,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * System.out.println(s.toDebugString()); // -> "Some(3)"
      * }</pre>
      */
-    default String toDebugString() {
-        return this.isSome() ? "Some(" + this.unwrap() + ")" : "None";
-    }
+    String toDebugString();
 
     /**
      * Unzips an {@code Option} containing a {@link Pair} into a {@link Pair} of {@code Option}s.
@@ -887,11 +1376,7 @@ public sealed interface Option<T> permits Option.Some, Option.None {
      * Optional<String> j = some.toOptional(); // -> Optional["value"]
      * }</pre>
      */
-    default java.util.Optional<T> toOptional() {
-        return this instanceof Some<T> s
-                ? java.util.Optional.of(s.value())
-                : java.util.Optional.empty();
-    }
+    java.util.Optional<T> toOptional();
 
     /**
      * A simple {@code Pair} record for holding two values together.
@@ -0,0 +1,670 @@
+package io.github.heart4it.codesupport;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+
+/**
+ * A primitive specialization of {@link Option} for {@code double} values.
+ * <p>
+ * {@code Option<Double>} needs two objects per present value: the boxed {@code Double}
+ * and the {@code Some} wrapper. {@code OptionDouble} stores the {@code double} directly in
+ * its {@code Some} record and shares a single {@code None} instance, and every
+ * operation works on primitive functional interfaces. Use {@link #boxed()} to
+ * convert to an {@code Option<Double>} when the generic API is required.
+ *
+ * <p>This is a {@code sealed} interface with two permitted implementations:
+ * {@link OptionDouble.Some} and {@link OptionDouble.None}.
+ *
+ * @since 21
+ */
+public sealed interface OptionDouble permits OptionDouble.Some, OptionDouble.None {
+
+    /**
+     * Record representing an {@code OptionDouble} that contains a value.
+     *
+     * @param value the contained value
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble s = OptionDouble.Some(4.5);
+     * System.out.println(s); // prints: Some[value=4.5]
+     * }</pre>
+     */
+    record Some(double value) implements OptionDouble {
+
+        @Override
+        public boolean isSome() {
+            return true;
+        }
+
+        @Override
+        public boolean isNone() {
+            return false;
+        }
+
+        @Override
+        public boolean isSomeAnd(DoublePredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isNoneOr(DoublePredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public OptionDouble and(OptionDouble other) {
+            return other;
+        }
+
+        @Override
+        public OptionDouble andThen(DoubleFunction<OptionDouble> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public OptionDouble or(OptionDouble other) {
+            return this;
+        }
+
+        @Override
+        public OptionDouble orElse(Supplier<OptionDouble> f) {
+            return this;
+        }
+
+        @Override
+        public OptionDouble map(DoubleUnaryOperator f) {
+            return OptionDouble.Some(f.applyAsDouble(value));
+        }
+
+        @Override
+        public <U> Option<U> mapToObj(DoubleFunction<? extends U> f) {
+            return Option.Some(f.apply(value));
+        }
+
+        @Override
+        public double mapOr(double defaultValue, DoubleUnaryOperator f) {
+            return f.applyAsDouble(value);
+        }
+
+        @Override
+        public OptionDouble filter(DoublePredicate predicate) {
+            return predicate.test(value) ? this : OptionDouble.None();
+        }
+
+        @Override
+        public OptionDouble inspect(DoubleConsumer action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public double unwrap() {
+            return value;
+        }
+
+        @Override
+        public double unwrapOr(double defaultValue) {
+            return value;
+        }
+
+        @Override
+        public double unwrapOrElse(DoubleSupplier supplier) {
+            return value;
+        }
+
+        @Override
+        public double expect(String message) {
+            return value;
+        }
+
+        @Override
+        public <E> ResultDouble<E> okOr(E err) {
+            return ResultDouble.ok(value);
+        }
+
+        @Override
+        public <E> ResultDouble<E> okOrElse(Supplier<E> errSupplier) {
+            return ResultDouble.ok(value);
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return DoubleStream.of(value);
+        }
+
+        @Override
+        public Option<Double> boxed() {
+            return Option.Some(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Some(" + value + ")";
+        }
+    }
+
+    /**
+     * Record representing an empty {@code OptionDouble} that contains no value.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble n = OptionDouble.None();
+     * System.out.println(n); // prints: None[]
+     * }</pre>
+     */
+    record None() implements OptionDouble {
+
+        /**
+         * The shared {@code None} instance returned by {@link OptionDouble#None()}.
+         */
+        private static final None INSTANCE = new None();
+
+        @Override
+        public boolean isSome() {
+            return false;
+        }
+
+        @Override
+        public boolean isNone() {
+            return true;
+        }
+
+        @Override
+        public boolean isSomeAnd(DoublePredicate predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isNoneOr(DoublePredicate predicate) {
+            return true;
+        }
+
+        @Override
+        public OptionDouble and(OptionDouble other) {
+            return this;
+        }
+
+        @Override
+        public OptionDouble andThen(DoubleFunction<OptionDouble> f) {
+            return this;
+        }
+
+        @Override
+        public OptionDouble or(OptionDouble other) {
+            return other;
+        }
+
+        @Override
+        public OptionDouble orElse(Supplier<OptionDouble> f) {
+            return f.get();
+        }
+
+        @Override
+        public OptionDouble map(DoubleUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public <U> Option<U> mapToObj(DoubleFunction<? extends U> f) {
+            return Option.None();
+        }
+
+        @Override
+        public double mapOr(double defaultValue, DoubleUnaryOperator f) {
+            return defaultValue;
+        }
+
+        @Override
+        public OptionDouble filter(DoublePredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public OptionDouble inspect(DoubleConsumer action) {
+            return this;
+        }
+
+        @Override
+        public double unwrap() {
+            throw Panics.unwrapNone();
+        }
+
+        @Override
+        public double unwrapOr(double defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public double unwrapOrElse(DoubleSupplier supplier) {
+            return supplier.getAsDouble();
+        }
+
+        @Override
+        public double expect(String message) {
+            throw Panics.noSuchElement(message);
+        }
+
+        @Override
+        public <E> ResultDouble<E> okOr(E err) {
+            return ResultDouble.err(err);
+        }
+
+        @Override
+        public <E> ResultDouble<E> okOrElse(Supplier<E> errSupplier) {
+            return ResultDouble.err(errSupplier.get());
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return DoubleStream.empty();
+        }
+
+        @Override
+        public Option<Double> boxed() {
+            return Option.None();
+        }
+
+        @Override
+        public String toDebugString() {
+            return "None";
+        }
+    }
+
+    /**
+     * Creates a {@code Some} {@code OptionDouble} containing the given value.
+     *
+     * @param value the value to contain
+     * @return a {@code Some} {@code OptionDouble} containing the value
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble some = OptionDouble.Some(4.5);
+     * // some.isSome() -> true
+     * // some.unwrap() -> 4.5
+     * }</pre>
+     */
+    static OptionDouble Some(double value) {
+        return new Some(value);
+    }
+
+    /**
+     * Returns the empty {@code None} {@code OptionDouble}. The same shared instance is
+     * returned on every call.
+     *
+     * @return an empty {@code None} {@code OptionDouble}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble none = OptionDouble.None();
+     * // none.isNone() -> true
+     * }</pre>
+     */
+    static OptionDouble None() {
+        return None.INSTANCE;
+    }
+
+    /**
+     * Converts a {@link java.util.OptionalDouble} to an {@code OptionDouble}.
+     *
+     * @param opt the {@link java.util.OptionalDouble} to convert
+     * @return {@code Some} containing the value if {@code opt} is present, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble opt = OptionDouble.fromOptional(OptionalDouble.of(4.5));
+     * // opt -> Some(4.5)
+     * }</pre>
+     */
+    static OptionDouble fromOptional(OptionalDouble opt) {
+        return opt.isPresent() ? Some(opt.getAsDouble()) : None();
+    }
+
+    /**
+     * Converts an {@code Option<Double>} to an {@code OptionDouble}, unboxing the contained value.
+     *
+     * @param option the boxed {@code Option} to convert
+     * @return {@code Some} containing the unboxed value if {@code option} is {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble opt = OptionDouble.fromBoxed(Option.Some(4.5));
+     * // opt -> Some(4.5)
+     * }</pre>
+     */
+    static OptionDouble fromBoxed(Option<Double> option) {
+        return option instanceof Option.Some<Double> s ? Some(s.value()) : None();
+    }
+
+    /**
+     * Combines two {@code OptionDouble}s with a function if both are {@code Some}.
+     *
+     * @param a the first {@code OptionDouble}
+     * @param b the second {@code OptionDouble}
+     * @param f the function to combine the two values
+     * @return {@code Some} containing the result of {@code f} if both are {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble sum = OptionDouble.zipWith(OptionDouble.Some(4.5), OptionDouble.Some(1.5), Double::sum);
+     * // sum -> Some(6.0)
+     * }</pre>
+     */
+    static OptionDouble zipWith(OptionDouble a, OptionDouble b, DoubleBinaryOperator f) {
+        if (a instanceof Some sa && b instanceof Some sb) return Some(f.applyAsDouble(sa.value(), sb.value()));
+        return None();
+    }
+
+    /**
+     * Returns {@code true} if this {@code OptionDouble} contains a value.
+     *
+     * @return {@code true} if this is {@code Some}, {@code false} if {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * assert OptionDouble.Some(4.5).isSome();
+     * assert !OptionDouble.None().isSome();
+     * }</pre>
+     */
+    boolean isSome();
+
+    /**
+     * Returns {@code true} if this {@code OptionDouble} is empty.
+     *
+     * @return {@code true} if this is {@code None}, {@code false} if {@code Some}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * assert OptionDouble.None().isNone();
+     * }</pre>
+     */
+    boolean isNone();
+
+    /**
+     * Returns {@code true} if this is {@code Some} and the contained value matches the predicate.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return {@code true} if this is {@code Some} and the predicate returns {@code true}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * boolean big = OptionDouble.Some(4.5).isSomeAnd(v -> v > 1.5); // -> true
+     * }</pre>
+     */
+    boolean isSomeAnd(DoublePredicate predicate);
+
+    /**
+     * Returns {@code true} if this is {@code None} or the contained value matches the predicate.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return {@code true} if this is {@code None} or the predicate returns {@code true}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * boolean r = OptionDouble.None().isNoneOr(v -> v > 1.5); // -> true
+     * }</pre>
+     */
+    boolean isNoneOr(DoublePredicate predicate);
+
+    /**
+     * Returns {@code other} if this is {@code Some}, otherwise {@code None}.
+     *
+     * @param other the {@code OptionDouble} to return if this is {@code Some}
+     * @return {@code other} if this is {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble r = OptionDouble.Some(4.5).and(OptionDouble.Some(1.5)); // -> Some(1.5)
+     * }</pre>
+     */
+    OptionDouble and(OptionDouble other);
+
+    /**
+     * Calls {@code f} with the contained value if this is {@code Some}, otherwise returns {@code None}.
+     *
+     * @param f the function to apply to the contained value
+     * @return the {@code OptionDouble} returned by {@code f}, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble r = OptionDouble.Some(4.5).andThen(v -> v > 1.5 ? OptionDouble.Some(v) : OptionDouble.None()); // -> Some(4.5)
+     * }</pre>
+     */
+    OptionDouble andThen(DoubleFunction<OptionDouble> f);
+
+    /**
+     * Returns this {@code OptionDouble} if it is {@code Some}, otherwise {@code other}.
+     *
+     * @param other the fallback {@code OptionDouble}
+     * @return this if {@code Some}, otherwise {@code other}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble r = OptionDouble.None().or(OptionDouble.Some(1.5)); // -> Some(1.5)
+     * }</pre>
+     */
+    OptionDouble or(OptionDouble other);
+
+    /**
+     * Returns this {@code OptionDouble} if it is {@code Some}, otherwise the result of the supplier.
+     *
+     * @param f the supplier that provides a fallback {@code OptionDouble}
+     * @return this if {@code Some}, otherwise {@code f.get()}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble r = OptionDouble.None().orElse(() -> OptionDouble.Some(1.5)); // -> Some(1.5)
+     * }</pre>
+     */
+    OptionDouble orElse(Supplier<OptionDouble> f);
+
+    /**
+     * Applies {@code f} to the contained value, keeping the result primitive.
+     *
+     * @param f the mapping function
+     * @return {@code Some} containing the mapped value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble doubled = OptionDouble.Some(4.5).map(v -> v * 2); // -> Some(9.0)
+     * }</pre>
+     */
+    OptionDouble map(DoubleUnaryOperator f);
+
+    /**
+     * Applies {@code f} to the contained value, producing a generic {@link Option}.
+     *
+     * @param <U> the type of the mapped value
+     * @param f   the mapping function
+     * @return {@code Some} containing the mapped value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<String> s = OptionDouble.Some(4.5).mapToObj(v -> "v=" + v); // -> Some("v=4.5")
+     * }</pre>
+     */
+    <U> Option<U> mapToObj(DoubleFunction<? extends U> f);
+
+    /**
+     * Returns {@code defaultValue} if this is {@code None}, otherwise applies {@code f} to the contained value.
+     *
+     * @param defaultValue the value to return if this is {@code None}
+     * @param f            the mapping function
+     * @return the mapped value, or {@code defaultValue}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double r = OptionDouble.None().mapOr(1.5, v -> v * 2); // -> 1.5
+     * }</pre>
+     */
+    double mapOr(double defaultValue, DoubleUnaryOperator f);
+
+    /**
+     * Returns this {@code OptionDouble} if it is {@code Some} and the predicate matches, otherwise {@code None}.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return this if the predicate returns {@code true}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble r = OptionDouble.Some(4.5).filter(v -> v > 1.5); // -> Some(4.5)
+     * }</pre>
+     */
+    OptionDouble filter(DoublePredicate predicate);
+
+    /**
+     * Calls {@code action} with the contained value if this is {@code Some}, then returns this unchanged.
+     *
+     * @param action the action to perform with the contained value
+     * @return this {@code OptionDouble} unchanged
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionDouble.Some(4.5).inspect(v -> System.out.println("Found: " + v));
+     * }</pre>
+     */
+    OptionDouble inspect(DoubleConsumer action);
+
+    /**
+     * Returns the contained value.
+     *
+     * @return the contained value
+     * @throws NoSuchElementException if this is {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double v = OptionDouble.Some(4.5).unwrap(); // -> 4.5
+     * }</pre>
+     */
+    double unwrap();
+
+    /**
+     * Returns the contained value, or {@code defaultValue} if this is {@code None}.
+     *
+     * @param defaultValue the value to return if this is {@code None}
+     * @return the contained value or {@code defaultValue}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double v = OptionDouble.None().unwrapOr(1.5); // -> 1.5
+     * }</pre>
+     */
+    double unwrapOr(double defaultValue);
+
+    /**
+     * Returns the contained value, or the result of the supplier if this is {@code None}.
+     *
+     * @param supplier the supplier that provides the default value
+     * @return the contained value or {@code supplier.getAsDouble()}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double v = OptionDouble.None().unwrapOrElse(() -> 1.5); // -> 1.5
+     * }</pre>
+     */
+    double unwrapOrElse(DoubleSupplier supplier);
+
+    /**
+     * Returns the contained value.
+     *
+     * @param message the message to use in the exception if this is {@code None}
+     * @return the contained value
+     * @throws NoSuchElementException if this is {@code None}, with the provided message
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double v = OptionDouble.Some(4.5).expect("value required"); // -> 4.5
+     * }</pre>
+     */
+    double expect(String message);
+
+    /**
+     * Converts this {@code OptionDouble} into a {@link ResultDouble}, mapping {@code None} to {@code Err(err)}.
+     *
+     * @param <E> the error type
+     * @param err the error value to use if this is {@code None}
+     * @return {@code Ok} containing the value, or {@code Err} containing {@code err}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * ResultDouble<String> r = OptionDouble.None().okOr("missing"); // -> Err("missing")
+     * }</pre>
+     */
+    <E> ResultDouble<E> okOr(E err);
+
+    /**
+     * Converts this {@code OptionDouble} into a {@link ResultDouble}, mapping {@code None} to a computed {@code Err}.
+     *
+     * @param <E>         the error type
+     * @param errSupplier the supplier that provides the error value if this is {@code None}
+     * @return {@code Ok} containing the value, or {@code Err} containing the computed error
+     *
+     * <p>Example:
+     * <pre>{@code
+     * ResultDouble<String> r = OptionDouble.None().okOrElse(() -> "missing"); // -> Err("missing")
+     * }</pre>
+     */
+    <E> ResultDouble<E> okOrElse(Supplier<E> errSupplier);
+
+    /**
+     * Converts this {@code OptionDouble} to a {@link java.util.OptionalDouble}.
+     *
+     * @return an {@code OptionalDouble} containing the value if this is {@code Some}, otherwise empty
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionalDouble o = OptionDouble.Some(4.5).toOptional(); // -> OptionalDouble[4.5]
+     * }</pre>
+     */
+    OptionalDouble toOptional();
+
+    /**
+     * Returns a {@link DoubleStream} containing the value if this is {@code Some}, otherwise an empty stream.
+     *
+     * @return a stream of zero or one element
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double total = Stream.of(OptionDouble.Some(4.5), OptionDouble.None())
+     *         .flatMapToDouble(OptionDouble::stream)
+     *         .sum(); // -> 4.5
+     * }</pre>
+     */
+    DoubleStream stream();
+
+    /**
+     * Converts this {@code OptionDouble} to a generic {@code Option<Double>}, boxing the contained value.
+     *
+     * @return {@code Some} containing the boxed value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<Double> boxed = OptionDouble.Some(4.5).boxed(); // -> Some(4.5)
+     * }</pre>
+     */
+    Option<Double> boxed();
+
+    /**
+     * Returns a string representation of this {@code OptionDouble} for debugging purposes.
+     *
+     * @return {@code "Some(value)"} or {@code "None"}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * String s = OptionDouble.Some(4.5).toDebugString(); // -> "Some(4.5)"
+     * }</pre>
+     */
+    String toDebugString();
+}
@@ -0,0 +1,670 @@
+package io.github.heart4it.codesupport;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.*;
+import java.util.stream.IntStream;
+
+/**
+ * A primitive specialization of {@link Option} for {@code int} values.
+ * <p>
+ * {@code Option<Integer>} needs two objects per present value: the boxed {@code Integer}
+ * and the {@code Some} wrapper. {@code OptionInt} stores the {@code int} directly in
+ * its {@code Some} record and shares a single {@code None} instance, and every
+ * operation works on primitive functional interfaces. Use {@link #boxed()} to
+ * convert to an {@code Option<Integer>} when the generic API is required.
+ *
+ * <p>This is a {@code sealed} interface with two permitted implementations:
+ * {@link OptionInt.Some} and {@link OptionInt.None}.
+ *
+ * @since 21
+ */
+public sealed interface OptionInt permits OptionInt.Some, OptionInt.None {
+
+    /**
+     * Record representing an {@code OptionInt} that contains a value.
+     *
+     * @param value the contained value
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt s = OptionInt.Some(42);
+     * System.out.println(s); // prints: Some[value=42]
+     * }</pre>
+     */
+    record Some(int value) implements OptionInt {
+
+        @Override
+        public boolean isSome() {
+            return true;
+        }
+
+        @Override
+        public boolean isNone() {
+            return false;
+        }
+
+        @Override
+        public boolean isSomeAnd(IntPredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isNoneOr(IntPredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public OptionInt and(OptionInt other) {
+            return other;
+        }
+
+        @Override
+        public OptionInt andThen(IntFunction<OptionInt> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public OptionInt or(OptionInt other) {
+            return this;
+        }
+
+        @Override
+        public OptionInt orElse(Supplier<OptionInt> f) {
+            return this;
+        }
+
+        @Override
+        public OptionInt map(IntUnaryOperator f) {
+            return OptionInt.Some(f.applyAsInt(value));
+        }
+
+        @Override
+        public <U> Option<U> mapToObj(IntFunction<? extends U> f) {
+            return Option.Some(f.apply(value));
+        }
+
+        @Override
+        public int mapOr(int defaultValue, IntUnaryOperator f) {
+            return f.applyAsInt(value);
+        }
+
+        @Override
+        public OptionInt filter(IntPredicate predicate) {
+            return predicate.test(value) ? this : OptionInt.None();
+        }
+
+        @Override
+        public OptionInt inspect(IntConsumer action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public int unwrap() {
+            return value;
+        }
+
+        @Override
+        public int unwrapOr(int defaultValue) {
+            return value;
+        }
+
+        @Override
+        public int unwrapOrElse(IntSupplier supplier) {
+            return value;
+        }
+
+        @Override
+        public int expect(String message) {
+            return value;
+        }
+
+        @Override
+        public <E> ResultInt<E> okOr(E err) {
+            return ResultInt.ok(value);
+        }
+
+        @Override
+        public <E> ResultInt<E> okOrElse(Supplier<E> errSupplier) {
+            return ResultInt.ok(value);
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public IntStream stream() {
+            return IntStream.of(value);
+        }
+
+        @Override
+        public Option<Integer> boxed() {
+            return Option.Some(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Some(" + value + ")";
+        }
+    }
+
+    /**
+     * Record representing an empty {@code OptionInt} that contains no value.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt n = OptionInt.None();
+     * System.out.println(n); // prints: None[]
+     * }</pre>
+     */
+    record None() implements OptionInt {
+
+        /**
+         * The shared {@code None} instance returned by {@link OptionInt#None()}.
+         */
+        private static final None INSTANCE = new None();
+
+        @Override
+        public boolean isSome() {
+            return false;
+        }
+
+        @Override
+        public boolean isNone() {
+            return true;
+        }
+
+        @Override
+        public boolean isSomeAnd(IntPredicate predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isNoneOr(IntPredicate predicate) {
+            return true;
+        }
+
+        @Override
+        public OptionInt and(OptionInt other) {
+            return this;
+        }
+
+        @Override
+        public OptionInt andThen(IntFunction<OptionInt> f) {
+            return this;
+        }
+
+        @Override
+        public OptionInt or(OptionInt other) {
+            return other;
+        }
+
+        @Override
+        public OptionInt orElse(Supplier<OptionInt> f) {
+            return f.get();
+        }
+
+        @Override
+        public OptionInt map(IntUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public <U> Option<U> mapToObj(IntFunction<? extends U> f) {
+            return Option.None();
+        }
+
+        @Override
+        public int mapOr(int defaultValue, IntUnaryOperator f) {
+            return defaultValue;
+        }
+
+        @Override
+        public OptionInt filter(IntPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public OptionInt inspect(IntConsumer action) {
+            return this;
+        }
+
+        @Override
+        public int unwrap() {
+            throw Panics.unwrapNone();
+        }
+
+        @Override
+        public int unwrapOr(int defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public int unwrapOrElse(IntSupplier supplier) {
+            return supplier.getAsInt();
+        }
+
+        @Override
+        public int expect(String message) {
+            throw Panics.noSuchElement(message);
+        }
+
+        @Override
+        public <E> ResultInt<E> okOr(E err) {
+            return ResultInt.err(err);
+        }
+
+        @Override
+        public <E> ResultInt<E> okOrElse(Supplier<E> errSupplier) {
+            return ResultInt.err(errSupplier.get());
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public IntStream stream() {
+            return IntStream.empty();
+        }
+
+        @Override
+        public Option<Integer> boxed() {
+            return Option.None();
+        }
+
+        @Override
+        public String toDebugString() {
+            return "None";
+        }
+    }
+
+    /**
+     * Creates a {@code Some} {@code OptionInt} containing the given value.
+     *
+     * @param value the value to contain
+     * @return a {@code Some} {@code OptionInt} containing the value
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt some = OptionInt.Some(42);
+     * // some.isSome() -> true
+     * // some.unwrap() -> 42
+     * }</pre>
+     */
+    static OptionInt Some(int value) {
+        return new Some(value);
+    }
+
+    /**
+     * Returns the empty {@code None} {@code OptionInt}. The same shared instance is
+     * returned on every call.
+     *
+     * @return an empty {@code None} {@code OptionInt}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt none = OptionInt.None();
+     * // none.isNone() -> true
+     * }</pre>
+     */
+    static OptionInt None() {
+        return None.INSTANCE;
+    }
+
+    /**
+     * Converts a {@link java.util.OptionalInt} to an {@code OptionInt}.
+     *
+     * @param opt the {@link java.util.OptionalInt} to convert
+     * @return {@code Some} containing the value if {@code opt} is present, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt opt = OptionInt.fromOptional(OptionalInt.of(42));
+     * // opt -> Some(42)
+     * }</pre>
+     */
+    static OptionInt fromOptional(OptionalInt opt) {
+        return opt.isPresent() ? Some(opt.getAsInt()) : None();
+    }
+
+    /**
+     * Converts an {@code Option<Integer>} to an {@code OptionInt}, unboxing the contained value.
+     *
+     * @param option the boxed {@code Option} to convert
+     * @return {@code Some} containing the unboxed value if {@code option} is {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt opt = OptionInt.fromBoxed(Option.Some(42));
+     * // opt -> Some(42)
+     * }</pre>
+     */
+    static OptionInt fromBoxed(Option<Integer> option) {
+        return option instanceof Option.Some<Integer> s ? Some(s.value()) : None();
+    }
+
+    /**
+     * Combines two {@code OptionInt}s with a function if both are {@code Some}.
+     *
+     * @param a the first {@code OptionInt}
+     * @param b the second {@code OptionInt}
+     * @param f the function to combine the two values
+     * @return {@code Some} containing the result of {@code f} if both are {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt sum = OptionInt.zipWith(OptionInt.Some(42), OptionInt.Some(7), Integer::sum);
+     * // sum -> Some(49)
+     * }</pre>
+     */
+    static OptionInt zipWith(OptionInt a, OptionInt b, IntBinaryOperator f) {
+        if (a instanceof Some sa && b instanceof Some sb) return Some(f.applyAsInt(sa.value(), sb.value()));
+        return None();
+    }
+
+    /**
+     * Returns {@code true} if this {@code OptionInt} contains a value.
+     *
+     * @return {@code true} if this is {@code Some}, {@code false} if {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * assert OptionInt.Some(42).isSome();
+     * assert !OptionInt.None().isSome();
+     * }</pre>
+     */
+    boolean isSome();
+
+    /**
+     * Returns {@code true} if this {@code OptionInt} is empty.
+     *
+     * @return {@code true} if this is {@code None}, {@code false} if {@code Some}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * assert OptionInt.None().isNone();
+     * }</pre>
+     */
+    boolean isNone();
+
+    /**
+     * Returns {@code true} if this is {@code Some} and the contained value matches the predicate.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return {@code true} if this is {@code Some} and the predicate returns {@code true}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * boolean big = OptionInt.Some(42).isSomeAnd(v -> v > 7); // -> true
+     * }</pre>
+     */
+    boolean isSomeAnd(IntPredicate predicate);
+
+    /**
+     * Returns {@code true} if this is {@code None} or the contained value matches the predicate.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return {@code true} if this is {@code None} or the predicate returns {@code true}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * boolean r = OptionInt.None().isNoneOr(v -> v > 7); // -> true
+     * }</pre>
+     */
+    boolean isNoneOr(IntPredicate predicate);
+
+    /**
+     * Returns {@code other} if this is {@code Some}, otherwise {@code None}.
+     *
+     * @param other the {@code OptionInt} to return if this is {@code Some}
+     * @return {@code other} if this is {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt r = OptionInt.Some(42).and(OptionInt.Some(7)); // -> Some(7)
+     * }</pre>
+     */
+    OptionInt and(OptionInt other);
+
+    /**
+     * Calls {@code f} with the contained value if this is {@code Some}, otherwise returns {@code None}.
+     *
+     * @param f the function to apply to the contained value
+     * @return the {@code OptionInt} returned by {@code f}, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt r = OptionInt.Some(42).andThen(v -> v > 7 ? OptionInt.Some(v) : OptionInt.None()); // -> Some(42)
+     * }</pre>
+     */
+    OptionInt andThen(IntFunction<OptionInt> f);
+
+    /**
+     * Returns this {@code OptionInt} if it is {@code Some}, otherwise {@code other}.
+     *
+     * @param other the fallback {@code OptionInt}
+     * @return this if {@code Some}, otherwise {@code other}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt r = OptionInt.None().or(OptionInt.Some(7)); // -> Some(7)
+     * }</pre>
+     */
+    OptionInt or(OptionInt other);
+
+    /**
+     * Returns this {@code OptionInt} if it is {@code Some}, otherwise the result of the supplier.
+     *
+     * @param f the supplier that provides a fallback {@code OptionInt}
+     * @return this if {@code Some}, otherwise {@code f.get()}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt r = OptionInt.None().orElse(() -> OptionInt.Some(7)); // -> Some(7)
+     * }</pre>
+     */
+    OptionInt orElse(Supplier<OptionInt> f);
+
+    /**
+     * Applies {@code f} to the contained value, keeping the result primitive.
+     *
+     * @param f the mapping function
+     * @return {@code Some} containing the mapped value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt doubled = OptionInt.Some(42).map(v -> v * 2); // -> Some(84)
+     * }</pre>
+     */
+    OptionInt map(IntUnaryOperator f);
+
+    /**
+     * Applies {@code f} to the contained value, producing a generic {@link Option}.
+     *
+     * @param <U> the type of the mapped value
+     * @param f   the mapping function
+     * @return {@code Some} containing the mapped value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<String> s = OptionInt.Some(42).mapToObj(v -> "v=" + v); // -> Some("v=42")
+     * }</pre>
+     */
+    <U> Option<U> mapToObj(IntFunction<? extends U> f);
+
+    /**
+     * Returns {@code defaultValue} if this is {@code None}, otherwise applies {@code f} to the contained value.
+     *
+     * @param defaultValue the value to return if this is {@code None}
+     * @param f            the mapping function
+     * @return the mapped value, or {@code defaultValue}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * int r = OptionInt.None().mapOr(7, v -> v * 2); // -> 7
+     * }</pre>
+     */
+    int mapOr(int defaultValue, IntUnaryOperator f);
+
+    /**
+     * Returns this {@code OptionInt} if it is {@code Some} and the predicate matches, otherwise {@code None}.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return this if the predicate returns {@code true}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt r = OptionInt.Some(42).filter(v -> v > 7); // -> Some(42)
+     * }</pre>
+     */
+    OptionInt filter(IntPredicate predicate);
+
+    /**
+     * Calls {@code action} with the contained value if this is {@code Some}, then returns this unchanged.
+     *
+     * @param action the action to perform with the contained value
+     * @return this {@code OptionInt} unchanged
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionInt.Some(42).inspect(v -> System.out.println("Found: " + v));
+     * }</pre>
+     */
+    OptionInt inspect(IntConsumer action);
+
+    /**
+     * Returns the contained value.
+     *
+     * @return the contained value
+     * @throws NoSuchElementException if this is {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * int v = OptionInt.Some(42).unwrap(); // -> 42
+     * }</pre>
+     */
+    int unwrap();
+
+    /**
+     * Returns the contained value, or {@code defaultValue} if this is {@code None}.
+     *
+     * @param defaultValue the value to return if this is {@code None}
+     * @return the contained value or {@code defaultValue}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * int v = OptionInt.None().unwrapOr(7); // -> 7
+     * }</pre>
+     */
+    int unwrapOr(int defaultValue);
+
+    /**
+     * Returns the contained value, or the result of the supplier if this is {@code None}.
+     *
+     * @param supplier the supplier that provides the default value
+     * @return the contained value or {@code supplier.getAsInt()}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * int v = OptionInt.None().unwrapOrElse(() -> 7); // -> 7
+     * }</pre>
+     */
+    int unwrapOrElse(IntSupplier supplier);
+
+    /**
+     * Returns the contained value.
+     *
+     * @param message the message to use in the exception if this is {@code None}
+     * @return the contained value
+     * @throws NoSuchElementException if this is {@code None}, with the provided message
+     *
+     * <p>Example:
+     * <pre>{@code
+     * int v = OptionInt.Some(42).expect("value required"); // -> 42
+     * }</pre>
+     */
+    int expect(String message);
+
+    /**
+     * Converts this {@code OptionInt} into a {@link ResultInt}, mapping {@code None} to {@code Err(err)}.
+     *
+     * @param <E> the error type
+     * @param err the error value to use if this is {@code None}
+     * @return {@code Ok} containing the value, or {@code Err} containing {@code err}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * ResultInt<String> r = OptionInt.None().okOr("missing"); // -> Err("missing")
+     * }</pre>
+     */
+    <E> ResultInt<E> okOr(E err);
+
+    /**
+     * Converts this {@code OptionInt} into a {@link ResultInt}, mapping {@code None} to a computed {@code Err}.
+     *
+     * @param <E>         the error type
+     * @param errSupplier the supplier that provides the error value if this is {@code None}
+     * @return {@code Ok} containing the value, or {@code Err} containing the computed error
+     *
+     * <p>Example:
+     * <pre>{@code
+     * ResultInt<String> r = OptionInt.None().okOrElse(() -> "missing"); // -> Err("missing")
+     * }</pre>
+     */
+    <E> ResultInt<E> okOrElse(Supplier<E> errSupplier);
+
+    /**
+     * Converts this {@code OptionInt} to a {@link java.util.OptionalInt}.
+     *
+     * @return an {@code OptionalInt} containing the value if this is {@code Some}, otherwise empty
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionalInt o = OptionInt.Some(42).toOptional(); // -> OptionalInt[42]
+     * }</pre>
+     */
+    OptionalInt toOptional();
+
+    /**
+     * Returns a {@link IntStream} containing the value if this is {@code Some}, otherwise an empty stream.
+     *
+     * @return a stream of zero or one element
+     *
+     * <p>Example:
+     * <pre>{@code
+     * int total = Stream.of(OptionInt.Some(42), OptionInt.None())
+     *         .flatMapToInt(OptionInt::stream)
+     *         .sum(); // -> 42
+     * }</pre>
+     */
+    IntStream stream();
+
+    /**
+     * Converts this {@code OptionInt} to a generic {@code Option<Integer>}, boxing the contained value.
+     *
+     * @return {@code Some} containing the boxed value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<Integer> boxed = OptionInt.Some(42).boxed(); // -> Some(42)
+     * }</pre>
+     */
+    Option<Integer> boxed();
+
+    /**
+     * Returns a string representation of this {@code OptionInt} for debugging purposes.
+     *
+     * @return {@code "Some(value)"} or {@code "None"}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * String s = OptionInt.Some(42).toDebugString(); // -> "Some(42)"
+     * }</pre>
+     */
+    String toDebugString();
+}
@@ -0,0 +1,670 @@
+package io.github.heart4it.codesupport;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.*;
+import java.util.stream.LongStream;
+
+/**
+ * A primitive specialization of {@link Option} for {@code long} values.
+ * <p>
+ * {@code Option<Long>} needs two objects per present value: the boxed {@code Long}
+ * and the {@code Some} wrapper. {@code OptionLong} stores the {@code long} directly in
+ * its {@code Some} record and shares a single {@code None} instance, and every
+ * operation works on primitive functional interfaces. Use {@link #boxed()} to
+ * convert to an {@code Option<Long>} when the generic API is required.
+ *
+ * <p>This is a {@code sealed} interface with two permitted implementations:
+ * {@link OptionLong.Some} and {@link OptionLong.None}.
+ *
+ * @since 21
+ */
+public sealed interface OptionLong permits OptionLong.Some, OptionLong.None {
+
+    /**
+     * Record representing an {@code OptionLong} that contains a value.
+     *
+     * @param value the contained value
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong s = OptionLong.Some(42L);
+     * System.out.println(s); // prints: Some[value=42]
+     * }</pre>
+     */
+    record Some(long value) implements OptionLong {
+
+        @Override
+        public boolean isSome() {
+            return true;
+        }
+
+        @Override
+        public boolean isNone() {
+            return false;
+        }
+
+        @Override
+        public boolean isSomeAnd(LongPredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isNoneOr(LongPredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public OptionLong and(OptionLong other) {
+            return other;
+        }
+
+        @Override
+        public OptionLong andThen(LongFunction<OptionLong> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public OptionLong or(OptionLong other) {
+            return this;
+        }
+
+        @Override
+        public OptionLong orElse(Supplier<OptionLong> f) {
+            return this;
+        }
+
+        @Override
+        public OptionLong map(LongUnaryOperator f) {
+            return OptionLong.Some(f.applyAsLong(value));
+        }
+
+        @Override
+        public <U> Option<U> mapToObj(LongFunction<? extends U> f) {
+            return Option.Some(f.apply(value));
+        }
+
+        @Override
+        public long mapOr(long defaultValue, LongUnaryOperator f) {
+            return f.applyAsLong(value);
+        }
+
+        @Override
+        public OptionLong filter(LongPredicate predicate) {
+            return predicate.test(value) ? this : OptionLong.None();
+        }
+
+        @Override
+        public OptionLong inspect(LongConsumer action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public long unwrap() {
+            return value;
+        }
+
+        @Override
+        public long unwrapOr(long defaultValue) {
+            return value;
+        }
+
+        @Override
+        public long unwrapOrElse(LongSupplier supplier) {
+            return value;
+        }
+
+        @Override
+        public long expect(String message) {
+            return value;
+        }
+
+        @Override
+        public <E> ResultLong<E> okOr(E err) {
+            return ResultLong.ok(value);
+        }
+
+        @Override
+        public <E> ResultLong<E> okOrElse(Supplier<E> errSupplier) {
+            return ResultLong.ok(value);
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public LongStream stream() {
+            return LongStream.of(value);
+        }
+
+        @Override
+        public Option<Long> boxed() {
+            return Option.Some(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Some(" + value + ")";
+        }
+    }
+
+    /**
+     * Record representing an empty {@code OptionLong} that contains no value.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong n = OptionLong.None();
+     * System.out.println(n); // prints: None[]
+     * }</pre>
+     */
+    record None() implements OptionLong {
+
+        /**
+         * The shared {@code None} instance returned by {@link OptionLong#None()}.
+         */
+        private static final None INSTANCE = new None();
+
+        @Override
+        public boolean isSome() {
+            return false;
+        }
+
+        @Override
+        public boolean isNone() {
+            return true;
+        }
+
+        @Override
+        public boolean isSomeAnd(LongPredicate predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isNoneOr(LongPredicate predicate) {
+            return true;
+        }
+
+        @Override
+        public OptionLong and(OptionLong other) {
+            return this;
+        }
+
+        @Override
+        public OptionLong andThen(LongFunction<OptionLong> f) {
+            return this;
+        }
+
+        @Override
+        public OptionLong or(OptionLong other) {
+            return other;
+        }
+
+        @Override
+        public OptionLong orElse(Supplier<OptionLong> f) {
+            return f.get();
+        }
+
+        @Override
+        public OptionLong map(LongUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public <U> Option<U> mapToObj(LongFunction<? extends U> f) {
+            return Option.None();
+        }
+
+        @Override
+        public long mapOr(long defaultValue, LongUnaryOperator f) {
+            return defaultValue;
+        }
+
+        @Override
+        public OptionLong filter(LongPredicate predicate) {
+            return this;
+        }
+
+        @Override
+        public OptionLong inspect(LongConsumer action) {
+            return this;
+        }
+
+        @Override
+        public long unwrap() {
+            throw Panics.unwrapNone();
+        }
+
+        @Override
+        public long unwrapOr(long defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public long unwrapOrElse(LongSupplier supplier) {
+            return supplier.getAsLong();
+        }
+
+        @Override
+        public long expect(String message) {
+            throw Panics.noSuchElement(message);
+        }
+
+        @Override
+        public <E> ResultLong<E> okOr(E err) {
+            return ResultLong.err(err);
+        }
+
+        @Override
+        public <E> ResultLong<E> okOrElse(Supplier<E> errSupplier) {
+            return ResultLong.err(errSupplier.get());
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public LongStream stream() {
+            return LongStream.empty();
+        }
+
+        @Override
+        public Option<Long> boxed() {
+            return Option.None();
+        }
+
+        @Override
+        public String toDebugString() {
+            return "None";
+        }
+    }
+
+    /**
+     * Creates a {@code Some} {@code OptionLong} containing the given value.
+     *
+     * @param value the value to contain
+     * @return a {@code Some} {@code OptionLong} containing the value
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong some = OptionLong.Some(42L);
+     * // some.isSome() -> true
+     * // some.unwrap() -> 42L
+     * }</pre>
+     */
+    static OptionLong Some(long value) {
+        return new Some(value);
+    }
+
+    /**
+     * Returns the empty {@code None} {@code OptionLong}. The same shared instance is
+     * returned on every call.
+     *
+     * @return an empty {@code None} {@code OptionLong}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong none = OptionLong.None();
+     * // none.isNone() -> true
+     * }</pre>
+     */
+    static OptionLong None() {
+        return None.INSTANCE;
+    }
+
+    /**
+     * Converts a {@link java.util.OptionalLong} to an {@code OptionLong}.
+     *
+     * @param opt the {@link java.util.OptionalLong} to convert
+     * @return {@code Some} containing the value if {@code opt} is present, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong opt = OptionLong.fromOptional(OptionalLong.of(42L));
+     * // opt -> Some(42L)
+     * }</pre>
+     */
+    static OptionLong fromOptional(OptionalLong opt) {
+        return opt.isPresent() ? Some(opt.getAsLong()) : None();
+    }
+
+    /**
+     * Converts an {@code Option<Long>} to an {@code OptionLong}, unboxing the contained value.
+     *
+     * @param option the boxed {@code Option} to convert
+     * @return {@code Some} containing the unboxed value if {@code option} is {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong opt = OptionLong.fromBoxed(Option.Some(42L));
+     * // opt -> Some(42L)
+     * }</pre>
+     */
+    static OptionLong fromBoxed(Option<Long> option) {
+        return option instanceof Option.Some<Long> s ? Some(s.value()) : None();
+    }
+
+    /**
+     * Combines two {@code OptionLong}s with a function if both are {@code Some}.
+     *
+     * @param a the first {@code OptionLong}
+     * @param b the second {@code OptionLong}
+     * @param f the function to combine the two values
+     * @return {@code Some} containing the result of {@code f} if both are {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong sum = OptionLong.zipWith(OptionLong.Some(42L), OptionLong.Some(7L), Long::sum);
+     * // sum -> Some(49)
+     * }</pre>
+     */
+    static OptionLong zipWith(OptionLong a, OptionLong b, LongBinaryOperator f) {
+        if (a instanceof Some sa && b instanceof Some sb) return Some(f.applyAsLong(sa.value(), sb.value()));
+        return None();
+    }
+
+    /**
+     * Returns {@code true} if this {@code OptionLong} contains a value.
+     *
+     * @return {@code true} if this is {@code Some}, {@code false} if {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * assert OptionLong.Some(42L).isSome();
+     * assert !OptionLong.None().isSome();
+     * }</pre>
+     */
+    boolean isSome();
+
+    /**
+     * Returns {@code true} if this {@code OptionLong} is empty.
+     *
+     * @return {@code true} if this is {@code None}, {@code false} if {@code Some}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * assert OptionLong.None().isNone();
+     * }</pre>
+     */
+    boolean isNone();
+
+    /**
+     * Returns {@code true} if this is {@code Some} and the contained value matches the predicate.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return {@code true} if this is {@code Some} and the predicate returns {@code true}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * boolean big = OptionLong.Some(42L).isSomeAnd(v -> v > 7L); // -> true
+     * }</pre>
+     */
+    boolean isSomeAnd(LongPredicate predicate);
+
+    /**
+     * Returns {@code true} if this is {@code None} or the contained value matches the predicate.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return {@code true} if this is {@code None} or the predicate returns {@code true}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * boolean r = OptionLong.None().isNoneOr(v -> v > 7L); // -> true
+     * }</pre>
+     */
+    boolean isNoneOr(LongPredicate predicate);
+
+    /**
+     * Returns {@code other} if this is {@code Some}, otherwise {@code None}.
+     *
+     * @param other the {@code OptionLong} to return if this is {@code Some}
+     * @return {@code other} if this is {@code Some}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong r = OptionLong.Some(42L).and(OptionLong.Some(7L)); // -> Some(7L)
+     * }</pre>
+     */
+    OptionLong and(OptionLong other);
+
+    /**
+     * Calls {@code f} with the contained value if this is {@code Some}, otherwise returns {@code None}.
+     *
+     * @param f the function to apply to the contained value
+     * @return the {@code OptionLong} returned by {@code f}, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong r = OptionLong.Some(42L).andThen(v -> v > 7L ? OptionLong.Some(v) : OptionLong.None()); // -> Some(42L)
+     * }</pre>
+     */
+    OptionLong andThen(LongFunction<OptionLong> f);
+
+    /**
+     * Returns this {@code OptionLong} if it is {@code Some}, otherwise {@code other}.
+     *
+     * @param other the fallback {@code OptionLong}
+     * @return this if {@code Some}, otherwise {@code other}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong r = OptionLong.None().or(OptionLong.Some(7L)); // -> Some(7L)
+     * }</pre>
+     */
+    OptionLong or(OptionLong other);
+
+    /**
+     * Returns this {@code OptionLong} if it is {@code Some}, otherwise the result of the supplier.
+     *
+     * @param f the supplier that provides a fallback {@code OptionLong}
+     * @return this if {@code Some}, otherwise {@code f.get()}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong r = OptionLong.None().orElse(() -> OptionLong.Some(7L)); // -> Some(7L)
+     * }</pre>
+     */
+    OptionLong orElse(Supplier<OptionLong> f);
+
+    /**
+     * Applies {@code f} to the contained value, keeping the result primitive.
+     *
+     * @param f the mapping function
+     * @return {@code Some} containing the mapped value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong doubled = OptionLong.Some(42L).map(v -> v * 2); // -> Some(84)
+     * }</pre>
+     */
+    OptionLong map(LongUnaryOperator f);
+
+    /**
+     * Applies {@code f} to the contained value, producing a generic {@link Option}.
+     *
+     * @param <U> the type of the mapped value
+     * @param f   the mapping function
+     * @return {@code Some} containing the mapped value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<String> s = OptionLong.Some(42L).mapToObj(v -> "v=" + v); // -> Some("v=42")
+     * }</pre>
+     */
+    <U> Option<U> mapToObj(LongFunction<? extends U> f);
+
+    /**
+     * Returns {@code defaultValue} if this is {@code None}, otherwise applies {@code f} to the contained value.
+     *
+     * @param defaultValue the value to return if this is {@code None}
+     * @param f            the mapping function
+     * @return the mapped value, or {@code defaultValue}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long r = OptionLong.None().mapOr(7L, v -> v * 2); // -> 7L
+     * }</pre>
+     */
+    long mapOr(long defaultValue, LongUnaryOperator f);
+
+    /**
+     * Returns this {@code OptionLong} if it is {@code Some} and the predicate matches, otherwise {@code None}.
+     *
+     * @param predicate the predicate to test the contained value against
+     * @return this if the predicate returns {@code true}, otherwise {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong r = OptionLong.Some(42L).filter(v -> v > 7L); // -> Some(42L)
+     * }</pre>
+     */
+    OptionLong filter(LongPredicate predicate);
+
+    /**
+     * Calls {@code action} with the contained value if this is {@code Some}, then returns this unchanged.
+     *
+     * @param action the action to perform with the contained value
+     * @return this {@code OptionLong} unchanged
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionLong.Some(42L).inspect(v -> System.out.println("Found: " + v));
+     * }</pre>
+     */
+    OptionLong inspect(LongConsumer action);
+
+    /**
+     * Returns the contained value.
+     *
+     * @return the contained value
+     * @throws NoSuchElementException if this is {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long v = OptionLong.Some(42L).unwrap(); // -> 42L
+     * }</pre>
+     */
+    long unwrap();
+
+    /**
+     * Returns the contained value, or {@code defaultValue} if this is {@code None}.
+     *
+     * @param defaultValue the value to return if this is {@code None}
+     * @return the contained value or {@code defaultValue}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long v = OptionLong.None().unwrapOr(7L); // -> 7L
+     * }</pre>
+     */
+    long unwrapOr(long defaultValue);
+
+    /**
+     * Returns the contained value, or the result of the supplier if this is {@code None}.
+     *
+     * @param supplier the supplier that provides the default value
+     * @return the contained value or {@code supplier.getAsLong()}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long v = OptionLong.None().unwrapOrElse(() -> 7L); // -> 7L
+     * }</pre>
+     */
+    long unwrapOrElse(LongSupplier supplier);
+
+    /**
+     * Returns the contained value.
+     *
+     * @param message the message to use in the exception if this is {@code None}
+     * @return the contained value
+     * @throws NoSuchElementException if this is {@code None}, with the provided message
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long v = OptionLong.Some(42L).expect("value required"); // -> 42L
+     * }</pre>
+     */
+    long expect(String message);
+
+    /**
+     * Converts this {@code OptionLong} into a {@link ResultLong}, mapping {@code None} to {@code Err(err)}.
+     *
+     * @param <E> the error type
+     * @param err the error value to use if this is {@code None}
+     * @return {@code Ok} containing the value, or {@code Err} containing {@code err}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * ResultLong<String> r = OptionLong.None().okOr("missing"); // -> Err("missing")
+     * }</pre>
+     */
+    <E> ResultLong<E> okOr(E err);
+
+    /**
+     * Converts this {@code OptionLong} into a {@link ResultLong}, mapping {@code None} to a computed {@code Err}.
+     *
+     * @param <E>         the error type
+     * @param errSupplier the supplier that provides the error value if this is {@code None}
+     * @return {@code Ok} containing the value, or {@code Err} containing the computed error
+     *
+     * <p>Example:
+     * <pre>{@code
+     * ResultLong<String> r = OptionLong.None().okOrElse(() -> "missing"); // -> Err("missing")
+     * }</pre>
+     */
+    <E> ResultLong<E> okOrElse(Supplier<E> errSupplier);
+
+    /**
+     * Converts this {@code OptionLong} to a {@link java.util.OptionalLong}.
+     *
+     * @return an {@code OptionalLong} containing the value if this is {@code Some}, otherwise empty
+     *
+     * <p>Example:
+     * <pre>{@code
+     * OptionalLong o = OptionLong.Some(42L).toOptional(); // -> OptionalLong[42]
+     * }</pre>
+     */
+    OptionalLong toOptional();
+
+    /**
+     * Returns a {@link LongStream} containing the value if this is {@code Some}, otherwise an empty stream.
+     *
+     * @return a stream of zero or one element
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long total = Stream.of(OptionLong.Some(42L), OptionLong.None())
+     *         .flatMapToLong(OptionLong::stream)
+     *         .sum(); // -> 42L
+     * }</pre>
+     */
+    LongStream stream();
+
+    /**
+     * Converts this {@code OptionLong} to a generic {@code Option<Long>}, boxing the contained value.
+     *
+     * @return {@code Some} containing the boxed value, or {@code None}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Option<Long> boxed = OptionLong.Some(42L).boxed(); // -> Some(42L)
+     * }</pre>
+     */
+    Option<Long> boxed();
+
+    /**
+     * Returns a string representation of this {@code OptionLong} for debugging purposes.
+     *
+     * @return {@code "Some(value)"} or {@code "None"}
+     *
+     * <p>Example:
+     * <pre>{@code
+     * String s = OptionLong.Some(42L).toDebugString(); // -> "Some(42)"
+     * }</pre>
+     */
+    String toDebugString();
+}
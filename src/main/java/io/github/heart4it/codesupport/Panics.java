@@ -0,0 +1,143 @@
+package io.github.heart4it.codesupport;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Controls how the exceptions thrown by {@code unwrap}, {@code expect}, {@code unwrapErr},
+ * {@code expectErr} and {@code toOptionalOrThrow} are created. Filling in a stack trace is
+ * by far the most expensive part of throwing, which matters when such calls are used as
+ * control flow inside hot loops.
+ *
+ * <p>The mode can be set globally with {@link #setMode(Mode)}, or for a single call site with
+ * {@link #withMode(Mode, Supplier)}. The exception types stay the same in every mode, so
+ * existing {@code catch} blocks keep working; only the stack trace is left out.
+ *
+ * <p>The global mode is mutable, process-wide state shared by every library and thread in the
+ * JVM. Set it once during application startup; libraries should use
+ * {@link #withMode(Mode, Supplier)} instead, which only affects the calling thread.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * // per call site
+ * Config config = Panics.withMode(Panics.Mode.STACKLESS, () -> cached.expect("not loaded yet"));
+ *
+ * // for the whole application
+ * Panics.setMode(Panics.Mode.STACKLESS);
+ * }</pre>
+ */
+public final class Panics {
+
+    /**
+     * How exceptions are created.
+     */
+    public enum Mode {
+        /** A new exception with a full stack trace, as thrown by default. */
+        FULL_STACK_TRACE,
+        /** A new exception without a stack trace. */
+        STACKLESS
+    }
+
+    private static final ThreadLocal<Mode> SCOPED = new ThreadLocal<>();
+    private static volatile Mode mode = Mode.FULL_STACK_TRACE;
+
+    private Panics() {
+    }
+
+    /**
+     * Sets the mode used by all threads that are not inside {@link #withMode(Mode, Supplier)}.
+     * The change is visible to every thread immediately, including code that did not opt in,
+     * and lasts until the next call; it is meant to be made once at application startup.
+     *
+     * @param newMode the new global mode
+     */
+    public static void setMode(Mode newMode) {
+        mode = Objects.requireNonNull(newMode, "mode");
+    }
+
+    /**
+     * Returns the mode in effect for the current thread.
+     *
+     * @return the scoped mode if inside {@link #withMode(Mode, Supplier)}, otherwise the global mode
+     */
+    public static Mode mode() {
+        Mode scoped = SCOPED.get();
+        return scoped != null ? scoped : mode;
+    }
+
+    /**
+     * Runs {@code body} with {@code scopedMode} in effect for the current thread.
+     *
+     * @param <T>        the type of the body's result
+     * @param scopedMode the mode to use while {@code body} runs
+     * @param body       the code to run
+     * @return the result of {@code body}
+     */
+    public static <T> T withMode(Mode scopedMode, Supplier<? extends T> body) {
+        Objects.requireNonNull(scopedMode, "mode");
+        Mode previous = SCOPED.get();
+        SCOPED.set(scopedMode);
+        try {
+            return body.get();
+        } finally {
+            if (previous == null) {
+                SCOPED.remove();
+            } else {
+                SCOPED.set(previous);
+            }
+        }
+    }
+
+    static NoSuchElementException unwrapNone() {
+        return noSuchElement("called unwrap() on None");
+    }
+
+    static NoSuchElementException unwrapErr() {
+        return noSuchElement("called unwrap() on Err");
+    }
+
+    static NoSuchElementException unwrapErrOnOk() {
+        return noSuchElement("called unwrapErr() on Ok");
+    }
+
+    static NoSuchElementException noSuchElement(String message) {
+        return mode() == Mode.FULL_STACK_TRACE
+                ? new NoSuchElementException(message)
+                : new StacklessNoSuchElementException(message);
+    }
+
+    static IllegalStateException illegalState(String message) {
+        return mode() == Mode.FULL_STACK_TRACE
+                ? new IllegalStateException(message)
+                : new StacklessIllegalStateException(message);
+    }
+
+    private static final class StacklessNoSuchElementException extends NoSuchElementException {
+
+        private static final long serialVersionUID = 1L;
+
+        StacklessNoSuchElementException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class StacklessIllegalStateException extends IllegalStateException {
+
+        private static final long serialVersionUID = 1L;
+
+        StacklessIllegalStateException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package io.github.heart4it.codesupport;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A Result type that represents either a successful value (Ok) or an error value (Err).
  * This is similar to Either in functional programming and provides a type-safe way
  * to handle operations that can fail.
  *
+ * <p>Each variant implements the operations itself, so a call dispatches on the
+ * receiver's class instead of branching on {@code instanceof} inside a shared method body.
+ *
  * @param <T> the type of the success value
  * @param <E> the type of the error value
  */
-public sealed interface Result<T, E> permits Result.Ok, Result.Err {
+public sealed interface Result<T, E> extends Iterable<T> permits Result.Ok, Result.Err {
 
     /**
      * Record representing a successful result.
@@ -25,6 +41,190 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param value the successful value
      */
     record Ok<T, E>(T value) implements Result<T, E> {
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public boolean isOkAnd(Predicate<? super T> predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return false;
+        }
+
+        @Override
+        public <U> Result<U, E> and(Result<U, E> other) {
+            return other;
+        }
+
+        @Override
+        public <U> Result<U, E> andThen(Function<? super T, Result<U, E>> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public Result<T, E> or(Result<T, E> other) {
+            return this;
+        }
+
+        @Override
+        public Result<T, E> orElse(Supplier<Result<T, E>> f) {
+            return this;
+        }
+
+        @Override
+        public <U> Result<U, E> map(Function<? super T, ? extends U> f) {
+            return Result.ok(f.apply(value));
+        }
+
+        @Override
+        public <F> Result<T, F> mapErr(Function<? super E, ? extends F> f) {
+            return this.propagate();
+        }
+
+        @Override
+        public Result<T, ContextError> context(Supplier<String> message) {
+            Objects.requireNonNull(message, "message");
+            return this.propagate();
+        }
+
+        @Override
+        public <C> Result<T, ContextError> withContext(Function<? super E, ? extends C> context) {
+            Objects.requireNonNull(context, "context");
+            return this.propagate();
+        }
+
+        @Override
+        public <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public T unwrap() {
+            return value;
+        }
+
+        @Override
+        public T unwrapOr(T defaultValue) {
+            return value;
+        }
+
+        @Override
+        public T unwrapOrElse(Supplier<? extends T> f) {
+            return value;
+        }
+
+        @Override
+        public T expect(String msg) {
+            return value;
+        }
+
+        @Override
+        public T unwrapUnchecked() {
+            return value;
+        }
+
+        @Override
+        public E unwrapErr() {
+            throw Panics.unwrapErrOnOk();
+        }
+
+        @Override
+        public E unwrapErrUnchecked() {
+            return null;
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public Result<T, E> inspect(Consumer<? super T> action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public Result<T, E> inspectErr(Consumer<? super E> action) {
+            return this;
+        }
+
+        @Override
+        public List<T> iter() {
+            return Collections.singletonList(value);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new SingleElementSpliterator<>(value, 0);
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return new SingleElementSpliterator<>(value, 0);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        @Override
+        public Option<T> ok() {
+            return Option.Some(value);
+        }
+
+        @Override
+        public Result<Option<T>, E> transpose() {
+            return Result.ok(Option.Some(value));
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public <Ex extends RuntimeException> Optional<T> toOptionalOrThrow(
+                Function<? super E, ? extends Ex> exceptionSupplier) {
+            return Optional.ofNullable(value);
+        }
+
+        @Override
+        public Optional<T> toOptionalOrThrow() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Ok(" + value + ")";
+        }
+
+        /**
+         * Returns this {@code Ok} viewed with a different error type.
+         * An {@code Ok} never holds an error value, so the cast is safe and the
+         * value passes through {@link #mapErr(Function)} without a new allocation.
+         */
+        @SuppressWarnings("unchecked")
+        private <F> Result<T, F> propagate() {
+            return (Result<T, F>) this;
+        }
     }
 
     /**
@@ -35,6 +235,188 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param error the error value
      */
     record Err<T, E>(E error) implements Result<T, E> {
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public boolean isOkAnd(Predicate<? super T> predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return predicate.test(error);
+        }
+
+        @Override
+        public <U> Result<U, E> and(Result<U, E> other) {
+            return this.propagate();
+        }
+
+        @Override
+        public <U> Result<U, E> andThen(Function<? super T, Result<U, E>> f) {
+            return this.propagate();
+        }
+
+        @Override
+        public Result<T, E> or(Result<T, E> other) {
+            return other;
+        }
+
+        @Override
+        public Result<T, E> orElse(Supplier<Result<T, E>> f) {
+            return f.get();
+        }
+
+        @Override
+        public <U> Result<U, E> map(Function<? super T, ? extends U> f) {
+            return this.propagate();
+        }
+
+        @Override
+        public <F> Result<T, F> mapErr(Function<? super E, ? extends F> f) {
+            return Result.err(f.apply(error));
+        }
+
+        @Override
+        public Result<T, ContextError> context(Supplier<String> message) {
+            return Result.err(ContextError.of(error, Objects.requireNonNull(message, "message")));
+        }
+
+        @Override
+        public <C> Result<T, ContextError> withContext(Function<? super E, ? extends C> context) {
+            return Result.err(ContextError.of(error, Objects.requireNonNull(context, "context")));
+        }
+
+        @Override
+        public <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f) {
+            return defaultValue;
+        }
+
+        @Override
+        public <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f) {
+            return defaultSupplier.get();
+        }
+
+        @Override
+        public T unwrap() {
+            throw Panics.unwrapErr();
+        }
+
+        @Override
+        public T unwrapOr(T defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public T unwrapOrElse(Supplier<? extends T> f) {
+            return f.get();
+        }
+
+        @Override
+        public T expect(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public T unwrapUnchecked() {
+            return null;
+        }
+
+        @Override
+        public E unwrapErr() {
+            return error;
+        }
+
+        @Override
+        public E unwrapErrUnchecked() {
+            return error;
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            return error;
+        }
+
+        @Override
+        public Result<T, E> inspect(Consumer<? super T> action) {
+            return this;
+        }
+
+        @Override
+        public Result<T, E> inspectErr(Consumer<? super E> action) {
+            action.accept(error);
+            return this;
+        }
+
+        @Override
+        public List<T> iter() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return EmptySpliterator.ordered();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Option<T> ok() {
+            return Option.None();
+        }
+
+        @Override
+        public Result<Option<T>, E> transpose() {
+            return this.propagate();
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public <Ex extends RuntimeException> Optional<T> toOptionalOrThrow(
+                Function<? super E, ? extends Ex> exceptionSupplier) {
+            throw exceptionSupplier.apply(error);
+        }
+
+        @Override
+        public Optional<T> toOptionalOrThrow() {
+            throw Panics.illegalState("Cannot convert Err to Optional: " + error);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Err(" + error + ")";
+        }
+
+        /**
+         * Returns this {@code Err} viewed with a different success type.
+         * An {@code Err} never holds a success value, so the cast is safe and the
+         * error passes through type-changing combinators without a new allocation.
+         */
+        @SuppressWarnings("unchecked")
+        private <U> Result<U, E> propagate() {
+            return (Result<U, E>) this;
+        }
     }
 
     /**
@@ -47,13 +429,38 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * // result.unwrap() -> "success"
      * }</pre>
      *
+     * <p>For {@code null}, {@link Unit#INSTANCE}, booleans and integers in {@code [-128, 127]} a
+     * shared instance is returned, like {@link Integer#valueOf(int)} does for boxed integers,
+     * so e.g. {@code Result.ok(null)} and {@code Result.ok(true)} do not allocate.
+     *
      * @param <T>   the type of the success value
      * @param <E>   the type of the error value
      * @param value the successful value
      * @return a Result containing the successful value
      */
+    @SuppressWarnings("unchecked")
     static <T, E> Result<T, E> ok(T value) {
-        return new Ok<>(value);
+        Result<?, ?> cached = ValueCache.ok(value);
+        return cached != null ? (Result<T, E>) cached : new Ok<>(value);
+    }
+
+    /**
+     * Returns the shared successful Result carrying no value, for operations that only succeed
+     * or fail. Prefer it over {@code Result<Void, E>} with {@code ok(null)}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<Unit, String> handled = Result.okUnit();
+     * // handled.unwrap() -> ()
+     * // handled == Result.okUnit() -> true
+     * }</pre>
+     *
+     * @param <E> the type of the error value
+     * @return the shared {@code Ok(Unit.INSTANCE)}
+     */
+    @SuppressWarnings("unchecked")
+    static <E> Result<Unit, E> okUnit() {
+        return (Result<Unit, E>) ValueCache.okUnit();
     }
 
     /**
@@ -115,6 +522,26 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
         return err(error);
     }
 
+    /**
+     * Returns the shared error Result holding the given enum constant. Unlike
+     * {@link #err(Object)}, repeated calls return the same instance, so failing with a constant
+     * from an enum error catalog does not allocate. See {@link ErrCache}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<Order, OrderError> result = Result.errOf(OrderError.OUT_OF_STOCK);
+     * // result == Result.errOf(OrderError.OUT_OF_STOCK) -> true
+     * }</pre>
+     *
+     * @param <T>      the type of the success value
+     * @param <E>      the enum type of the error value
+     * @param constant the error constant
+     * @return the shared Result containing the error constant
+     */
+    static <T, E extends Enum<E>> Result<T, E> errOf(E constant) {
+        return ErrCache.of(constant);
+    }
+
     /**
      * Returns true if this Result is Ok (successful).
      *
@@ -129,9 +556,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      *
      * @return true if this Result is Ok, false otherwise
      */
-    default boolean isOk() {
-        return this instanceof Ok<T, E>;
-    }
+    boolean isOk();
 
     /**
      * Returns true if this Result is successful.
@@ -163,9 +588,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      *
      * @return true if this Result is Err, false otherwise
      */
-    default boolean isErr() {
-        return this instanceof Err<T, E>;
-    }
+    boolean isErr();
 
     /**
      * Returns true if this Result is an error.
@@ -201,9 +624,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return true if this Result is Ok and the predicate returns true for the value,
      * false otherwise
      */
-    default boolean isOkAnd(Predicate<? super T> predicate) {
-        return this instanceof Ok<T, E> ok && predicate.test(ok.value());
-    }
+    boolean isOkAnd(Predicate<? super T> predicate);
 
     /**
      * Returns true if this Result is Err and the error matches the predicate.
@@ -223,9 +644,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return true if this Result is Err and the predicate returns true for the error,
      * false otherwise
      */
-    default boolean isErrAnd(Predicate<? super E> predicate) {
-        return this instanceof Err<T, E> e && predicate.test(e.error());
-    }
+    boolean isErrAnd(Predicate<? super E> predicate);
 
     /**
      * Returns {@code other} if this Result is Ok, otherwise returns the Err value of this Result.
@@ -246,9 +665,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param other the other Result to return if this Result is Ok
      * @return {@code other} if this Result is Ok, otherwise this Result's Err
      */
-    default <U> Result<U, E> and(Result<U, E> other) {
-        return this.isOk() ? other : err(this.unwrapErr());
-    }
+    <U> Result<U, E> and(Result<U, E> other);
 
     /**
      * Calls the function {@code f} with the value of this Result if it is Ok,
@@ -272,9 +689,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param f   the function to apply to the value if this Result is Ok
      * @return the Result from applying {@code f} if this Result is Ok, otherwise this Result's Err
      */
-    default <U> Result<U, E> andThen(Function<? super T, Result<U, E>> f) {
-        return this instanceof Ok<T, E> ok ? f.apply(ok.value()) : err(this.unwrapErr());
-    }
+    <U> Result<U, E> andThen(Function<? super T, Result<U, E>> f);
 
     /**
      * Returns this Result if it is Ok, otherwise returns {@code other}.
@@ -291,9 +706,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param other the other Result to return if this Result is Err
      * @return this Result if it is Ok, otherwise {@code other}
      */
-    default Result<T, E> or(Result<T, E> other) {
-        return this.isOk() ? this : other;
-    }
+    Result<T, E> or(Result<T, E> other);
 
     /**
      * Returns this Result if it is Ok, otherwise calls the supplier function and returns its result.
@@ -309,9 +722,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param f the supplier function that provides a fallback Result
      * @return this Result if it is Ok, otherwise the result of {@code f.get()}
      */
-    default Result<T, E> orElse(Supplier<Result<T, E>> f) {
-        return this.isOk() ? this : f.get();
-    }
+    Result<T, E> orElse(Supplier<Result<T, E>> f);
 
     /**
      * Applies the given mapping function to the {@code Ok} value of this
@@ -333,9 +744,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return a {@code Result<U, E>} containing the mapped value if this is {@code Ok};
      * otherwise an {@code Err} containing the original error
      */
-    default <U> Result<U, E> map(Function<? super T, ? extends U> f) {
-        return this instanceof Ok<T, E> ok ? ok(f.apply(ok.value())) : err(this.unwrapErr());
-    }
+    <U> Result<U, E> map(Function<? super T, ? extends U> f);
 
     /**
      * Applies the given mapping function to the {@code Err} value of this
@@ -357,9 +766,44 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return a {@code Result<T, F>} containing the mapped error if this is {@code Err};
      * otherwise an {@code Ok} containing the original value
      */
-    default <F> Result<T, F> mapErr(Function<? super E, ? extends F> f) {
-        return this instanceof Err<T, E> e ? err(f.apply(e.error())) : ok(this.unwrap());
-    }
+    <F> Result<T, F> mapErr(Function<? super E, ? extends F> f);
+
+    /**
+     * Adds a context message to the error of this Result, like {@code anyhow}'s
+     * {@code .context()}. The error becomes a {@link ContextError}; if it already is one, the
+     * message is appended to its chain instead of wrapping it again. {@code message} is only
+     * called when the error is rendered, so formatting costs nothing on error paths that are
+     * never logged.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<String, ContextError> result = Result.<String, String>err("connection refused")
+     *     .context(() -> String.format("fetching user %d", id));
+     * // result.unwrapErr().toString() -> "fetching user 42: connection refused"
+     * }</pre>
+     *
+     * @param message supplies the context message when the error is rendered
+     * @return this Result if it is Ok, otherwise an Err holding the error with the added context
+     */
+    Result<T, ContextError> context(Supplier<String> message);
+
+    /**
+     * Adds a context to the error of this Result that is derived from the error itself. Like
+     * {@link #context(Supplier)}, {@code context} is only applied when the error is rendered,
+     * and the context is rendered with {@link String#valueOf(Object)}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<Order, ContextError> result = Result.<Order, Integer>err(404)
+     *     .withContext(status -> "order service returned " + status);
+     * // result.unwrapErr().message() -> "order service returned 404"
+     * }</pre>
+     *
+     * @param <C>     the type of the context
+     * @param context derives the context from the error when it is rendered
+     * @return this Result if it is Ok, otherwise an Err holding the error with the added context
+     */
+    <C> Result<T, ContextError> withContext(Function<? super E, ? extends C> context);
 
     /**
      * Returns the provided default value if this Result is Err,
@@ -381,9 +825,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param f            the mapping function to apply to the Ok value
      * @return the mapped value if this Result is Ok, otherwise the default value
      */
-    default <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f) {
-        return this instanceof Ok<T, E> ok ? f.apply(ok.value()) : defaultValue;
-    }
+    <U> U mapOr(U defaultValue, Function<? super T, ? extends U> f);
 
     /**
      * Returns the result of the default supplier if this Result is Err,
@@ -406,9 +848,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param f               the mapping function to apply to the Ok value
      * @return the mapped value if this Result is Ok, otherwise the result of the default supplier
      */
-    default <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f) {
-        return this instanceof Ok<T, E> ok ? f.apply(ok.value()) : defaultSupplier.get();
-    }
+    <U> U mapOrDefault(Supplier<? extends U> defaultSupplier, Function<? super T, ? extends U> f);
 
     /**
      * Returns the result of the default supplier if this Result is Err,
@@ -447,10 +887,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return the contained Ok value
      * @throws NoSuchElementException if this Result is Err
      */
-    default T unwrap() {
-        if (this instanceof Ok<T, E> ok) return ok.value();
-        throw new NoSuchElementException("called unwrap() on Err");
-    }
+    T unwrap();
 
     /**
      * Returns the contained Ok value or a provided default.
@@ -469,9 +906,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param defaultValue the default value to return if this Result is Err
      * @return the contained Ok value if this Result is Ok, otherwise the default value
      */
-    default T unwrapOr(T defaultValue) {
-        return this instanceof Ok<T, E> ok ? ok.value() : defaultValue;
-    }
+    T unwrapOr(T defaultValue);
 
     /**
      * Returns the contained Ok value or computes it from the supplier function.
@@ -487,9 +922,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param f the supplier function that provides a default value if this Result is Err
      * @return the contained Ok value if this Result is Ok, otherwise the result of {@code f.get()}
      */
-    default T unwrapOrElse(Supplier<? extends T> f) {
-        return this instanceof Ok<T, E> ok ? ok.value() : f.get();
-    }
+    T unwrapOrElse(Supplier<? extends T> f);
 
     /**
      * Returns the contained Ok value or computes it from the supplier function.
@@ -526,10 +959,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return the contained Ok value
      * @throws NoSuchElementException if this Result is Err, with the provided message
      */
-    default T expect(String msg) {
-        if (this instanceof Ok<T, E> ok) return ok.value();
-        throw new NoSuchElementException(msg);
-    }
+    T expect(String msg);
 
     /**
      * Returns the contained Ok value, or null if this Result is Err.
@@ -548,9 +978,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      *
      * @return the contained Ok value, or null if this Result is Err
      */
-    default T unwrapUnchecked() {
-        return this instanceof Ok<T, E> ok ? ok.value() : null;
-    }
+    T unwrapUnchecked();
 
     /**
      * Returns the contained Err value.
@@ -568,10 +996,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return the contained Err value
      * @throws NoSuchElementException if this Result is Ok
      */
-    default E unwrapErr() {
-        if (this instanceof Err<T, E> e) return e.error();
-        throw new NoSuchElementException("called unwrapErr() on Ok");
-    }
+    E unwrapErr();
 
     /**
      * Returns the contained Err value.
@@ -608,9 +1033,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      *
      * @return the contained Err value, or null if this Result is Ok
      */
-    default E unwrapErrUnchecked() {
-        return this instanceof Err<T, E> e ? e.error() : null;
-    }
+    E unwrapErrUnchecked();
 
     /**
      * Returns the contained Err value.
@@ -629,10 +1052,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return the contained Err value
      * @throws NoSuchElementException if this Result is Ok, with the provided message
      */
-    default E expectErr(String msg) {
-        if (this instanceof Err<T, E> e) return e.error();
-        throw new NoSuchElementException(msg);
-    }
+    E expectErr(String msg);
 
     /**
      * Calls the provided action with the contained value if this Result is Ok,
@@ -650,10 +1070,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param action the action to perform with the value if this Result is Ok
      * @return this Result unchanged
      */
-    default Result<T, E> inspect(Consumer<? super T> action) {
-        if (this instanceof Ok<T, E> ok) action.accept(ok.value());
-        return this;
-    }
+    Result<T, E> inspect(Consumer<? super T> action);
 
     /**
      * Executes the given action with the contained error if this result is an
@@ -674,10 +1091,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @param action the action to perform if this result is an {@code Err}
      * @return this result unchanged
      */
-    default Result<T, E> inspectErr(Consumer<? super E> action) {
-        if (this instanceof Err<T, E> e) action.accept(e.error());
-        return this;
-    }
+    Result<T, E> inspectErr(Consumer<? super E> action);
 
     /**
      * Flattens a nested {@code Result<Result<T, E>, E>} into a single
@@ -711,7 +1125,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return the flattened {@code Result<T, E>}
      */
     static <T, E> Result<T, E> flatten(Result<Result<T, E>, E> nested) {
-        return nested instanceof Ok<Result<T, E>, E> ok ? ok.value() : err(nested.unwrapErr());
+        return nested.andThen(Function.identity());
     }
 
     /**
@@ -733,14 +1147,223 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      *
      * @return a List containing the Ok value if this Result is Ok, otherwise an empty List
      */
-    default List<T> iter() {
-        if (this instanceof Ok<T, ?> ok) {
-            T value = ok.value();
-            return value != null ?
-                    java.util.Collections.singletonList(value) :
-                    java.util.Collections.singletonList(null);
+    List<T> iter();
+
+    /**
+     * Returns an iterator over the Ok value, so a Result can be used directly in a
+     * for-each loop without building a {@link List}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * for (String value : Result.<String, Integer>ok("hello")) {
+     *     System.out.println(value); // Prints "hello"
+     * }
+     * }</pre>
+     *
+     * @return an iterator over zero or one element; Err returns a shared empty iterator
+     */
+    @Override
+    Iterator<T> iterator();
+
+    /**
+     * Returns a spliterator over the Ok value. It reports {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED}, {@link Spliterator#IMMUTABLE} and {@link Spliterator#ORDERED}.
+     * The Ok value may be {@code null}, so {@link Spliterator#NONNULL} is not reported.
+     *
+     * @return a spliterator over zero or one element; Err returns a shared empty spliterator
+     */
+    @Override
+    Spliterator<T> spliterator();
+
+    /**
+     * Returns a {@link Stream} containing the Ok value if present, otherwise an empty stream.
+     * Unlike {@code iter().stream()} no intermediate {@link List} is created.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * long count = Result.err(404).stream().count();
+     * // count -> 0
+     * }</pre>
+     *
+     * @return a stream of zero or one element
+     */
+    Stream<T> stream();
+
+    /**
+     * Flattens a stream of Results into a stream of their Ok values, dropping every Err.
+     * Values are pushed downstream directly, so no per-element collection,
+     * spliterator or stream is created.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * List<Integer> values = Result.okStream(Stream.of(Result.ok(1), Result.err("bad"), Result.ok(3)))
+     *     .toList();
+     * // values -> [1, 3]
+     * }</pre>
+     *
+     * @param <T>     the type of the Ok values
+     * @param <E>     the type of the error values
+     * @param results the stream of Results
+     * @return a stream of the values of all Ok elements, in encounter order
+     */
+    static <T, E> Stream<T> okStream(Stream<? extends Result<? extends T, ? extends E>> results) {
+        return results.<T>mapMulti((result, sink) -> {
+            if (result instanceof Ok<? extends T, ? extends E> ok) sink.accept(ok.value());
+        });
+    }
+
+    /**
+     * Turns many Results into one Result of a list. Returns {@code Ok} with all values in
+     * iteration order if every element is Ok, otherwise the first Err encountered.
+     * Iteration stops at the first Err, so the remaining elements are never visited.
+     * If {@code results} is a {@link Collection} the output list is presized.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<List<Integer>, String> all = Result.sequence(List.of(Result.ok(1), Result.ok(2)));
+     * // all -> Ok([1, 2])
+     *
+     * Result<List<Integer>, String> failed = Result.sequence(List.of(Result.ok(1), Result.err("bad")));
+     * // failed -> Err("bad")
+     * }</pre>
+     *
+     * @param <T>     the type of the Ok values
+     * @param <E>     the type of the error values
+     * @param results the Results to combine
+     * @return {@code Ok} containing a new list of all values, or the first Err
+     */
+    static <T, E> Result<List<T>, E> sequence(Iterable<? extends Result<? extends T, ? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Turns an array of Results into one Result of a list, stopping at the first Err.
+     * See {@link #sequence(Iterable)}.
+     *
+     * @param <T>     the type of the Ok values
+     * @param <E>     the type of the error values
+     * @param results the Results to combine
+     * @return {@code Ok} containing a new list of all values, or the first Err
+     */
+    static <T, E> Result<List<T>, E> sequence(Result<? extends T, ? extends E>[] results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Turns a stream of Results into one Result of a list. Elements are pulled one at a
+     * time with {@link Spliterator#tryAdvance}, so upstream stages stop producing
+     * elements as soon as an Err is seen. See {@link #sequence(Iterable)}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<List<Integer>, String> parsed = Result.sequence(lines.stream().map(Parser::parse));
+     * }</pre>
+     *
+     * @param <T>     the type of the Ok values
+     * @param <E>     the type of the error values
+     * @param results the Results to combine
+     * @return {@code Ok} containing a new list of all values, or the first Err
+     */
+    static <T, E> Result<List<T>, E> sequence(Stream<? extends Result<? extends T, ? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Applies {@code f} to every element and collects the Ok values into a list.
+     * Returns the first Err produced by {@code f}; {@code f} is not applied to any
+     * element after it. If {@code source} is a {@link Collection} the output list is presized.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<List<Integer>, String> ids = Result.traverse(List.of("1", "2", "x", "4"), Parser::parseId);
+     * // ids -> Err("invalid id: x"), parseId is never called with "4"
+     * }</pre>
+     *
+     * @param <A>    the type of the source elements
+     * @param <T>    the type of the Ok values
+     * @param <E>    the type of the error values
+     * @param source the elements to transform
+     * @param f      the fallible transformation
+     * @return {@code Ok} containing a new list of all transformed values, or the first Err
+     */
+    static <A, T, E> Result<List<T>, E> traverse(
+            Iterable<? extends A> source,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> f) {
+        List<T> values = new ArrayList<>(source instanceof Collection<?> c ? c.size() : 10);
+        for (A element : source) {
+            Result<? extends T, ? extends E> result = f.apply(element);
+            if (result instanceof Ok<? extends T, ? extends E> ok) {
+                values.add(ok.value());
+            } else {
+                return Result.castErr(result);
+            }
+        }
+        return Result.ok(values);
+    }
+
+    /**
+     * Applies {@code f} to every array element, stopping at the first Err.
+     * See {@link #traverse(Iterable, Function)}.
+     *
+     * @param <A>    the type of the source elements
+     * @param <T>    the type of the Ok values
+     * @param <E>    the type of the error values
+     * @param source the elements to transform
+     * @param f      the fallible transformation
+     * @return {@code Ok} containing a new list of all transformed values, or the first Err
+     */
+    static <A, T, E> Result<List<T>, E> traverse(
+            A[] source,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> f) {
+        List<T> values = new ArrayList<>(source.length);
+        for (A element : source) {
+            Result<? extends T, ? extends E> result = f.apply(element);
+            if (result instanceof Ok<? extends T, ? extends E> ok) {
+                values.add(ok.value());
+            } else {
+                return Result.castErr(result);
+            }
+        }
+        return Result.ok(values);
+    }
+
+    /**
+     * Applies {@code f} to every stream element, stopping at the first Err. Elements are
+     * pulled one at a time with {@link Spliterator#tryAdvance}, so no element after the
+     * first Err is produced or transformed. The output list is presized when the stream
+     * reports an exact size. See {@link #traverse(Iterable, Function)}.
+     *
+     * @param <A>    the type of the source elements
+     * @param <T>    the type of the Ok values
+     * @param <E>    the type of the error values
+     * @param source the elements to transform
+     * @param f      the fallible transformation
+     * @return {@code Ok} containing a new list of all transformed values, or the first Err
+     */
+    static <A, T, E> Result<List<T>, E> traverse(
+            Stream<? extends A> source,
+            Function<? super A, ? extends Result<? extends T, ? extends E>> f) {
+        Spliterator<? extends A> spliterator = source.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+        List<T> values = new ArrayList<>(size >= 0 && size <= Integer.MAX_VALUE ? (int) size : 10);
+        final class Step implements Consumer<A> {
+            Result<? extends T, ? extends E> result;
+
+            @Override
+            public void accept(A element) {
+                result = f.apply(element);
+            }
+        }
+        Step step = new Step();
+        while (spliterator.tryAdvance(step)) {
+            Result<? extends T, ? extends E> result = step.result;
+            if (result instanceof Ok<? extends T, ? extends E> ok) {
+                values.add(ok.value());
+            } else {
+                return Result.castErr(result);
+            }
         }
-        return java.util.Collections.emptyList();
+        return Result.ok(values);
     }
 
     /**
@@ -764,9 +1387,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return an {@code Option} containing the {@code Ok} value if this result is {@code Ok};
      * otherwise {@code Option.None()}
      */
-    default Option<T> ok() {
-        return this instanceof Ok<T, E> ok ? Option.Some(ok.value()) : Option.None();
-    }
+    Option<T> ok();
 
     /**
      * Converts this {@code Result<T, E>} into a {@code Result<Option<T>, E>}.
@@ -795,10 +1416,94 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * otherwise an {@code Err} containing the original error
      * @throws IllegalStateException if an unknown Result variant is encountered
      */
-    default Result<Option<T>, E> transpose() {
-        if (this instanceof Ok<T, E> ok) return Result.ok(Option.Some(ok.value()));
-        if (this instanceof Err<T, E> e) return Result.err(e.error());
-        throw new IllegalStateException("Invalid state");
+    Result<Option<T>, E> transpose();
+
+    /**
+     * Splits Results into their Ok values and their errors in a single pass.
+     * Each element is matched once, without calling {@code unwrap()} or
+     * {@code unwrapErr()}. If {@code results} is a {@link Collection}, the list of
+     * Ok values is presized to its size.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Option.Pair<List<Integer>, List<String>> split =
+     *     Result.partition(List.of(Result.ok(1), Result.err("bad"), Result.ok(3)));
+     * // split.first()  -> [1, 3]
+     * // split.second() -> ["bad"]
+     * }</pre>
+     *
+     * @param <T>     the type of the Ok values
+     * @param <E>     the type of the error values
+     * @param results the Results to split
+     * @return a pair of new lists, the Ok values first and the errors second, both in iteration order
+     */
+    static <T, E> Option.Pair<List<T>, List<E>> partition(Iterable<? extends Result<? extends T, ? extends E>> results) {
+        List<T> values = new ArrayList<>(results instanceof Collection<?> c ? c.size() : 10);
+        List<E> errors = new ArrayList<>();
+        for (Result<? extends T, ? extends E> result : results) {
+            if (result instanceof Ok<? extends T, ? extends E> ok) {
+                values.add(ok.value());
+            } else if (result instanceof Err<? extends T, ? extends E> err) {
+                errors.add(err.error());
+            }
+        }
+        return new Option.Pair<>(values, errors);
+    }
+
+    /**
+     * Returns a {@link Collector} that splits a stream of Results into their Ok values
+     * and their errors in a single pass. The collector can be used on parallel streams;
+     * partial results are merged in encounter order.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Option.Pair<List<Row>, List<String>> report = rows.parallelStream()
+     *     .map(Validator::validate)
+     *     .collect(Result.partitioning());
+     * }</pre>
+     *
+     * @param <T> the type of the Ok values
+     * @param <E> the type of the error values
+     * @return a collector producing a pair of lists, the Ok values first and the errors second
+     */
+    static <T, E> Collector<Result<? extends T, ? extends E>, ?, Option.Pair<List<T>, List<E>>> partitioning() {
+        return partitioning(10, 10);
+    }
+
+    /**
+     * Returns a partitioning {@link Collector} like {@link #partitioning()} whose buffers are
+     * presized to the expected number of Ok values and errors. On a parallel stream
+     * every partial container is created with these capacities, so they should describe
+     * a sequential run or be chosen per split.
+     *
+     * @param <T>            the type of the Ok values
+     * @param <E>            the type of the error values
+     * @param expectedValues the initial capacity of the Ok value list
+     * @param expectedErrors the initial capacity of the error list
+     * @return a collector producing a pair of lists, the Ok values first and the errors second
+     * @throws IllegalArgumentException if a capacity is negative
+     */
+    static <T, E> Collector<Result<? extends T, ? extends E>, ?, Option.Pair<List<T>, List<E>>> partitioning(
+            int expectedValues,
+            int expectedErrors) {
+        if (expectedValues < 0 || expectedErrors < 0) {
+            throw new IllegalArgumentException("capacities must not be negative");
+        }
+        return Collector.<Result<? extends T, ? extends E>, Option.Pair<List<T>, List<E>>>of(
+                () -> new Option.Pair<>(new ArrayList<>(expectedValues), new ArrayList<>(expectedErrors)),
+                (pair, result) -> {
+                    if (result instanceof Ok<? extends T, ? extends E> ok) {
+                        pair.first().add(ok.value());
+                    } else if (result instanceof Err<? extends T, ? extends E> err) {
+                        pair.second().add(err.error());
+                    }
+                },
+                (left, right) -> {
+                    left.first().addAll(right.first());
+                    left.second().addAll(right.second());
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
     }
 
     /**
@@ -835,11 +1540,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
 
         return future.handle((value, throwable) -> {
             if (throwable != null) {
-                Throwable cause = throwable;
-                if (throwable instanceof CompletionException && throwable.getCause() != null) {
-                    cause = throwable.getCause();
-                }
-                E error = errorMapper.apply(cause);
+                E error = errorMapper.apply(Futures.unwrapCompletion(throwable));
                 return Result.err(error);
             } else {
                 return Result.ok(value);
@@ -847,6 +1548,517 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
         });
     }
 
+    /**
+     * Converts a {@code CompletableFuture<T>} into a {@code CompletableFuture<Result<T, E>>}
+     * that completes with {@code Err(timeoutError)} if the future has not completed within
+     * {@code timeout}. On timeout the original future is cancelled. Otherwise behaves like
+     * {@link #fromFuture(CompletableFuture, Function)}: if {@code errorMapper} throws, the
+     * returned future completes exceptionally. Cancelling the returned future cancels the
+     * original future and the timer.
+     *
+     * <p>The timeout is tracked on a single shared timer thread and the timer is removed as
+     * soon as the future completes, so any number of concurrent calls costs no extra threads.
+     * Because the timeout has its own error value, {@code errorMapper} never sees a
+     * {@link java.util.concurrent.TimeoutException}.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * CompletableFuture<Result<Profile, ApiError>> profile =
+     *     Result.fromFuture(client.profile(id), Duration.ofMillis(200), ApiError::from, ApiError.TIMEOUT);
+     * }</pre>
+     *
+     * @param <T>          the success type of the future
+     * @param <E>          the error type of the Result
+     * @param future       the CompletableFuture to convert
+     * @param timeout      the maximum time to wait for {@code future}
+     * @param errorMapper  a function mapping a {@link Throwable} to an error value of type {@code E}
+     * @param timeoutError the error value used when the timeout elapses
+     * @return a CompletableFuture that completes with a {@code Result}
+     */
+    static <T, E> CompletableFuture<Result<T, E>> fromFuture(
+            CompletableFuture<T> future,
+            Duration timeout,
+            Function<Throwable, E> errorMapper,
+            E timeoutError) {
+
+        if (future.isDone()) {
+            return fromFuture(future, errorMapper);
+        }
+        long timeoutNanos;
+        try {
+            timeoutNanos = timeout.toNanos();
+        } catch (ArithmeticException tooLong) {
+            timeoutNanos = Long.MAX_VALUE;
+        }
+        CompletableFuture<Result<T, E>> outcome = new CompletableFuture<>();
+        if (timeoutNanos <= 0) {
+            outcome.complete(Result.err(timeoutError));
+            future.cancel(true);
+            return outcome;
+        }
+        ScheduledFuture<?> timer = SharedScheduler.schedule(() -> {
+            if (outcome.complete(Result.err(timeoutError))) {
+                future.cancel(true);
+            }
+        }, timeoutNanos);
+        future.whenComplete((value, throwable) -> {
+            timer.cancel(false);
+            if (outcome.isDone()) {
+                return;
+            }
+            try {
+                outcome.complete(throwable == null
+                        ? Result.ok(value)
+                        : Result.err(errorMapper.apply(Futures.unwrapCompletion(throwable))));
+            } catch (Throwable mapperFailure) {
+                outcome.completeExceptionally(mapperFailure);
+            }
+        });
+        outcome.whenComplete((result, throwable) -> {
+            if (outcome.isCancelled()) {
+                timer.cancel(false);
+                future.cancel(true);
+            }
+        });
+        return outcome;
+    }
+
+    /**
+     * Converts a {@code CompletableFuture<T>} into a {@code CompletableFuture<Result<T, E>>}
+     * that completes with {@code Err(timeoutError)} if the future has not completed by
+     * {@code deadline}. A deadline already in the past times out immediately. See
+     * {@link #fromFuture(CompletableFuture, Duration, Function, Object)}.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * Instant deadline = request.receivedAt().plusSeconds(2);
+     * CompletableFuture<Result<Stock, String>> stock =
+     *     Result.fromFuture(inventory.check(sku), deadline, Throwable::getMessage, "deadline exceeded");
+     * }</pre>
+     *
+     * @param <T>          the success type of the future
+     * @param <E>          the error type of the Result
+     * @param future       the CompletableFuture to convert
+     * @param deadline     the point in time by which {@code future} must complete
+     * @param errorMapper  a function mapping a {@link Throwable} to an error value of type {@code E}
+     * @param timeoutError the error value used when the deadline passes
+     * @return a CompletableFuture that completes with a {@code Result}
+     */
+    static <T, E> CompletableFuture<Result<T, E>> fromFuture(
+            CompletableFuture<T> future,
+            Instant deadline,
+            Function<Throwable, E> errorMapper,
+            E timeoutError) {
+
+        return fromFuture(future, Duration.between(Instant.now(), deadline), errorMapper, timeoutError);
+    }
+
+    /**
+     * Runs a blocking call on its own virtual thread and captures its outcome as a
+     * {@code Result}. A value becomes {@code Ok(value)}; any exception, checked or not, becomes
+     * {@code Err(errorMapper(exception))}. Cancelling the returned future interrupts the thread.
+     *
+     * <p>Unlike {@link CompletableFuture#supplyAsync(Supplier)}, blocking JDBC or file calls
+     * do not occupy a thread of the common pool while they wait.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * CompletableFuture<Result<String, String>> content =
+     *     Result.attemptAsync(() -> Files.readString(path), Throwable::getMessage);
+     * }</pre>
+     *
+     * @param <T>         the type of the value
+     * @param <E>         the error type of the Result
+     * @param supplier    the blocking call
+     * @param errorMapper a function mapping the thrown exception to an error value of type {@code E}
+     * @return a CompletableFuture that completes with a {@code Result}
+     */
+    static <T, E> CompletableFuture<Result<T, E>> attemptAsync(
+            ThrowingSupplier<? extends T> supplier,
+            Function<Throwable, E> errorMapper) {
+
+        return VirtualThreads.supplyAsync(() -> attempt(supplier, errorMapper));
+    }
+
+    /**
+     * Runs many blocking calls, each on its own virtual thread, with at most
+     * {@code maxConcurrency} of them running at the same time. The waiting calls park their
+     * virtual thread on a semaphore, which costs no platform thread. The returned future
+     * completes with one {@code Result} per call, in input order, once every call has finished.
+     * Cancelling it cancels every call that has not finished yet, interrupting its thread.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * List<ThrowingSupplier<Row>> queries = ids.stream()
+     *     .map(id -> (ThrowingSupplier<Row>) () -> dao.load(id))
+     *     .toList();
+     * CompletableFuture<List<Result<Row, String>>> rows =
+     *     Result.attemptAllAsync(queries, 16, Throwable::getMessage);
+     * }</pre>
+     *
+     * @param <T>            the type of the values
+     * @param <E>            the error type of the Results
+     * @param suppliers      the blocking calls
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @param errorMapper    a function mapping a thrown exception to an error value of type {@code E}
+     * @return a CompletableFuture that completes with the {@code Result} of every call
+     * @throws IllegalArgumentException if {@code maxConcurrency} is less than 1
+     */
+    static <T, E> CompletableFuture<List<Result<T, E>>> attemptAllAsync(
+            List<? extends ThrowingSupplier<? extends T>> suppliers,
+            int maxConcurrency,
+            Function<Throwable, E> errorMapper) {
+
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1: " + maxConcurrency);
+        }
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<Result<T, E>>> futures = new ArrayList<>(suppliers.size());
+        for (ThrowingSupplier<? extends T> supplier : suppliers) {
+            futures.add(VirtualThreads.supplyAsync(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Result.err(errorMapper.apply(e));
+                }
+                try {
+                    return attempt(supplier, errorMapper);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        CompletableFuture<List<Result<T, E>>> outcome =
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+                    List<Result<T, E>> results = new ArrayList<>(futures.size());
+                    for (CompletableFuture<Result<T, E>> future : futures) {
+                        results.add(future.join());
+                    }
+                    return results;
+                });
+        outcome.whenComplete((results, failure) -> {
+            if (outcome.isCancelled()) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        });
+        return outcome;
+    }
+
+    /**
+     * Calls {@code supplier} and captures its outcome: a value becomes {@code Ok(value)}, an
+     * exception becomes {@code Err(exception)}. Errors such as {@link OutOfMemoryError} are not
+     * caught. If an {@link InterruptedException} is caught, the thread's interrupt flag is
+     * restored.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * Result<String, Exception> content = Result.catching(() -> Files.readString(path));
+     * }</pre>
+     *
+     * @param <T>      the type of the value
+     * @param supplier the call that may throw
+     * @return {@code Ok} of the value, or {@code Err} of the exception
+     */
+    static <T> Result<T, Exception> catching(ThrowingSupplier<? extends T> supplier) {
+        return attempt(supplier, Function.identity());
+    }
+
+    /**
+     * Calls {@code supplier} and captures its outcome, mapping an exception through
+     * {@code errorMapper}. See {@link #catching(ThrowingSupplier)}.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * Result<Config, String> config = Result.catching(() -> parser.parse(file), Throwable::getMessage);
+     * }</pre>
+     *
+     * @param <T>         the type of the value
+     * @param <E>         the error type of the Result
+     * @param supplier    the call that may throw
+     * @param errorMapper maps the exception to an error value of type {@code E}
+     * @return {@code Ok} of the value, or {@code Err} of the mapped exception
+     */
+    static <T, E> Result<T, E> catching(ThrowingSupplier<? extends T> supplier, Function<? super Exception, ? extends E> errorMapper) {
+        return attempt(supplier, errorMapper);
+    }
+
+    /**
+     * Calls {@code supplier} and captures an exception as a compact {@link CaughtError} that
+     * keeps only the exception's type and message. The exception, its stack trace and its
+     * causes can be garbage collected while the {@code Err} is still alive.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * Result<byte[], CaughtError> bytes = Result.catchingCompact(() -> Files.readAllBytes(path));
+     * // bytes -> Err(CaughtError[type=class java.nio.file.NoSuchFileException, message=...])
+     * }</pre>
+     *
+     * @param <T>      the type of the value
+     * @param supplier the call that may throw
+     * @return {@code Ok} of the value, or {@code Err} describing the exception
+     */
+    static <T> Result<T, CaughtError> catchingCompact(ThrowingSupplier<? extends T> supplier) {
+        return attempt(supplier, CaughtError::of);
+    }
+
+    /**
+     * Runs {@code action} and captures its outcome: completion becomes {@code Ok(Unit)}, an
+     * exception becomes {@code Err(exception)}. See {@link #catching(ThrowingSupplier)}.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * Result<Unit, Exception> deleted = Result.catchingRun(() -> Files.delete(path));
+     * }</pre>
+     *
+     * @param action the action that may throw
+     * @return {@code Ok(Unit)}, or {@code Err} of the exception
+     */
+    static Result<Unit, Exception> catchingRun(ThrowingRunnable action) {
+        return catchingRun(action, Function.identity());
+    }
+
+    /**
+     * Runs {@code action} and captures its outcome, mapping an exception through
+     * {@code errorMapper}. See {@link #catchingRun(ThrowingRunnable)}.
+     *
+     * @param <E>         the error type of the Result
+     * @param action      the action that may throw
+     * @param errorMapper maps the exception to an error value of type {@code E}
+     * @return {@code Ok(Unit)}, or {@code Err} of the mapped exception
+     */
+    static <E> Result<Unit, E> catchingRun(ThrowingRunnable action, Function<? super Exception, ? extends E> errorMapper) {
+        return attempt(() -> {
+            action.run();
+            return Unit.INSTANCE;
+        }, errorMapper);
+    }
+
+    /**
+     * Adapts a function that may throw into a function returning a {@code Result}, e.g. for use
+     * in streams. See {@link #catching(ThrowingSupplier)}.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * List<Result<String, Exception>> contents = paths.stream()
+     *     .map(Result.catching(Files::readString))
+     *     .toList();
+     * }</pre>
+     *
+     * @param <A>      the type of the argument
+     * @param <T>      the type of the value
+     * @param function the function that may throw
+     * @return a function returning {@code Ok} of the value, or {@code Err} of the exception
+     */
+    static <A, T> Function<A, Result<T, Exception>> catching(ThrowingFunction<? super A, ? extends T> function) {
+        return catching(function, Function.identity());
+    }
+
+    /**
+     * Adapts a function that may throw into a function returning a {@code Result}, mapping an
+     * exception through {@code errorMapper}. See {@link #catching(ThrowingFunction)}.
+     *
+     * @param <A>         the type of the argument
+     * @param <T>         the type of the value
+     * @param <E>         the error type of the Result
+     * @param function    the function that may throw
+     * @param errorMapper maps the exception to an error value of type {@code E}
+     * @return a function returning {@code Ok} of the value, or {@code Err} of the mapped exception
+     */
+    static <A, T, E> Function<A, Result<T, E>> catching(
+            ThrowingFunction<? super A, ? extends T> function,
+            Function<? super Exception, ? extends E> errorMapper) {
+
+        return argument -> attempt(() -> function.apply(argument), errorMapper);
+    }
+
+    /**
+     * Starts an asynchronous operation for every element and collects the values in input
+     * order. All operations run concurrently. As soon as one of them fails, the returned future
+     * completes with {@code Err(errorMapper(cause))} without waiting for the others, and all
+     * operations that are still outstanding are cancelled. No further operations are started
+     * once the outcome is known, and cancelling the returned future cancels all of them.
+     * If {@code errorMapper} throws, {@code f} throws an {@link Error}, or {@code f} returns
+     * {@code null}, the returned future completes exceptionally and the operations already
+     * started are cancelled.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * CompletableFuture<Result<List<Price>, String>> prices =
+     *     Result.traverseAsync(skus, pricing::fetch, Throwable::getMessage);
+     * // a single failed fetch completes the future and cancels the slow ones
+     * }</pre>
+     *
+     * @param <A>         the type of the source elements
+     * @param <T>         the type of the values
+     * @param <E>         the error type of the Result
+     * @param source      the elements to start operations for
+     * @param f           starts the operation for one element
+     * @param errorMapper a function mapping the first failure to an error value of type {@code E}
+     * @return a future completing with {@code Ok} of all values, or {@code Err} of the first failure
+     */
+    static <A, T, E> CompletableFuture<Result<List<T>, E>> traverseAsync(
+            List<? extends A> source,
+            Function<? super A, ? extends CompletableFuture<? extends T>> f,
+            Function<Throwable, E> errorMapper) {
+
+        int size = source.size();
+        CompletableFuture<Result<List<T>, E>> outcome = new CompletableFuture<>();
+        if (size == 0) {
+            outcome.complete(Result.ok(new ArrayList<>(0)));
+            return outcome;
+        }
+        Object[] values = new Object[size];
+        CompletableFuture<?>[] started = new CompletableFuture<?>[size];
+        AtomicInteger remaining = new AtomicInteger(size);
+        int i = 0;
+        for (A element : source) {
+            if (outcome.isDone()) break;
+            int index = i++;
+            CompletableFuture<? extends T> future;
+            try {
+                future = f.apply(element);
+            } catch (RuntimeException e) {
+                Futures.completeErr(outcome, errorMapper, e);
+                break;
+            } catch (Error e) {
+                outcome.completeExceptionally(e);
+                break;
+            }
+            if (future == null) {
+                outcome.completeExceptionally(new NullPointerException("f returned null for element " + index));
+                break;
+            }
+            started[index] = future;
+            future.whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    if (!outcome.isDone()) {
+                        Futures.completeErr(outcome, errorMapper, Futures.unwrapCompletion(throwable));
+                    }
+                } else {
+                    values[index] = value;
+                    if (remaining.decrementAndGet() == 0) {
+                        List<T> list = new ArrayList<>(size);
+                        for (Object v : values) {
+                            @SuppressWarnings("unchecked")
+                            T t = (T) v;
+                            list.add(t);
+                        }
+                        outcome.complete(Result.ok(list));
+                    }
+                }
+            });
+        }
+        // registered after the loop so the callback sees every started future
+        outcome.whenComplete((result, throwable) -> {
+            if (throwable != null || result.isErr()) {
+                for (CompletableFuture<?> future : started) {
+                    if (future != null) future.cancel(true);
+                }
+            }
+        });
+        return outcome;
+    }
+
+    /**
+     * Runs a blocking function for every element, each on its own virtual thread, and collects
+     * the values in input order. Behaves like
+     * {@link #traverseAsync(List, Function, Function)}: the first failure completes the returned
+     * future with {@code Err(errorMapper(cause))} and interrupts the threads still running.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * CompletableFuture<Result<List<Row>, String>> rows =
+     *     Result.traverseBlocking(ids, dao::loadRow, Throwable::getMessage);
+     * }</pre>
+     *
+     * @param <A>         the type of the source elements
+     * @param <T>         the type of the values
+     * @param <E>         the error type of the Result
+     * @param source      the elements to run the function for
+     * @param blocking    the blocking function, run on a virtual thread per element
+     * @param errorMapper a function mapping the first failure to an error value of type {@code E}
+     * @return a future completing with {@code Ok} of all values, or {@code Err} of the first failure
+     */
+    static <A, T, E> CompletableFuture<Result<List<T>, E>> traverseBlocking(
+            List<? extends A> source,
+            Function<? super A, ? extends T> blocking,
+            Function<Throwable, E> errorMapper) {
+
+        return traverseAsync(source, element -> VirtualThreads.supplyAsync(() -> blocking.apply(element)), errorMapper);
+    }
+
+    /**
+     * Sends a hedged request: starts {@code attempt}, and if it has not succeeded after
+     * {@code delay}, starts a backup attempt, up to {@code maxAttempts} in total. A failed
+     * attempt starts the next one immediately. The returned future completes with the first
+     * {@code Ok} and cancels all other attempts. It completes with {@code Err} only if every
+     * attempt fails; the mapped errors are combined with {@code mergeErrors} in the order
+     * the attempts failed. If {@code errorMapper} or {@code mergeErrors} throws, the returned
+     * future completes exceptionally with that exception.
+     *
+     * <p>The backup timers run on a single shared timer thread, which hands each backup attempt
+     * off to a new virtual thread, so a slow {@code attempt} never delays other timers. An
+     * adaptive {@code delay} learns from the latency of each successful call, measured from the
+     * start of the call rather than of the winning attempt.
+     *
+     * <p><b>Example usage:</b>
+     * <pre>{@code
+     * CompletableFuture<Result<Quote, String>> quote = Result.hedge(
+     *     () -> replicas.next().quote(symbol),
+     *     3,
+     *     HedgeDelay.percentile(0.95, Duration.ofMillis(50)),
+     *     Throwable::getMessage,
+     *     (a, b) -> a + "; " + b);
+     * }</pre>
+     *
+     * @param <T>         the type of the value
+     * @param <E>         the error type of the Result
+     * @param attempt     starts one attempt
+     * @param maxAttempts the maximum number of attempts, including the first
+     * @param delay       the delay before each backup attempt
+     * @param errorMapper a function mapping a failure to an error value of type {@code E}
+     * @param mergeErrors combines the errors of two failed attempts
+     * @return a future completing with the first {@code Ok}, or the merged {@code Err}
+     * @throws IllegalArgumentException if {@code maxAttempts} is less than 1
+     */
+    static <T, E> CompletableFuture<Result<T, E>> hedge(
+            Supplier<? extends CompletableFuture<? extends T>> attempt,
+            int maxAttempts,
+            HedgeDelay delay,
+            Function<Throwable, E> errorMapper,
+            BinaryOperator<E> mergeErrors) {
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        return new Hedge<>(attempt, maxAttempts, delay, errorMapper, mergeErrors).start();
+    }
+
+    /**
+     * Sends a hedged request with a fixed delay between attempts.
+     * See {@link #hedge(Supplier, int, HedgeDelay, Function, BinaryOperator)}.
+     *
+     * @param <T>         the type of the value
+     * @param <E>         the error type of the Result
+     * @param attempt     starts one attempt
+     * @param maxAttempts the maximum number of attempts, including the first
+     * @param delay       the delay before each backup attempt
+     * @param errorMapper a function mapping a failure to an error value of type {@code E}
+     * @param mergeErrors combines the errors of two failed attempts
+     * @return a future completing with the first {@code Ok}, or the merged {@code Err}
+     * @throws IllegalArgumentException if {@code maxAttempts} is less than 1 or {@code delay} is negative
+     */
+    static <T, E> CompletableFuture<Result<T, E>> hedge(
+            Supplier<? extends CompletableFuture<? extends T>> attempt,
+            int maxAttempts,
+            Duration delay,
+            Function<Throwable, E> errorMapper,
+            BinaryOperator<E> mergeErrors) {
+
+        return hedge(attempt, maxAttempts, HedgeDelay.fixed(delay), errorMapper, mergeErrors);
+    }
+
     /**
      * Converts this Result to a java.util.Optional.
      * Returns an Optional containing the Ok value if this Result is Ok, otherwise empty Optional.
@@ -865,9 +2077,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      *
      * @return an Optional containing the Ok value if this Result is Ok, otherwise empty Optional
      */
-    default java.util.Optional<T> toOptional() {
-        return this instanceof Ok<T, E> ok ? java.util.Optional.of(ok.value()) : java.util.Optional.empty();
-    }
+    java.util.Optional<T> toOptional();
 
     /**
      * Converts this Result to an Optional, throwing an exception if this is an Err.
@@ -878,18 +2088,8 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return an Optional containing the success value if this Result is Ok
      * @throws Ex if this Result is Err
      */
-    default <Ex extends RuntimeException> Optional<T> toOptionalOrThrow(
-            Function<? super E, ? extends Ex> exceptionSupplier) {
-        if (this instanceof Ok<T, E> ok) {
-            T value = ok.value();
-            return Optional.ofNullable(value);
-        }
-        if (this instanceof Err<T, E> err) {
-            E error = err.error();
-            throw exceptionSupplier.apply(error);
-        }
-        throw new IllegalStateException("Unknown Result type: " + this.getClass().getName());
-    }
+    <Ex extends RuntimeException> Optional<T> toOptionalOrThrow(
+            Function<? super E, ? extends Ex> exceptionSupplier);
 
     /**
      * Converts this Result to a java.util.Optional, throwing an IllegalStateException if this Result is Err.
@@ -907,14 +2107,7 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      * @return an Optional containing the Ok value if this Result is Ok
      * @throws IllegalStateException if this Result is Err
      */
-    default java.util.Optional<T> toOptionalOrThrow() {
-        if (this instanceof Ok<T, E> ok) {
-            return java.util.Optional.of(ok.value());
-        } else if (this instanceof Err<T, E> e) {
-            throw new IllegalStateException("Cannot convert Err to Optional: " + e.error());
-        }
-        throw new IllegalStateException("Unknown Result variant");
-    }
+    java.util.Optional<T> toOptionalOrThrow();
 
     /**
      * Returns a string representation of this Result for debugging purposes.
@@ -933,7 +2126,38 @@ public sealed interface Result<T, E> permits Result.Ok, Result.Err {
      *
      * @return a debug string representation of this Result
      */
-    default String toDebugString() {
-        return this.isOk() ? "Ok(" + this.unwrap() + ")" : "Err(" + this.unwrapErr() + ")";
+    String toDebugString();
+
+    /**
+     * Calls {@code supplier} and captures its value or exception, restoring the interrupt
+     * flag if the exception is an {@link InterruptedException}.
+     *
+     * @param supplier    the call
+     * @param errorMapper maps the thrown exception to an error value
+     * @return {@code Ok} of the value, or {@code Err} of the mapped exception
+     */
+    private static <T, E> Result<T, E> attempt(ThrowingSupplier<? extends T> supplier, Function<? super Exception, ? extends E> errorMapper) {
+        try {
+            return Result.ok(supplier.get());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return Result.err(errorMapper.apply(e));
+        }
+    }
+
+    /**
+     * Views an Err with different type arguments. An Err never holds a success value
+     * and its error is only ever read, so the cast is safe and avoids a new allocation.
+     *
+     * @param <T> the new success type
+     * @param <E> the new error type
+     * @param err the Result to cast, which must be an Err
+     * @return {@code err} itself
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, E> Result<T, E> castErr(Result<?, ? extends E> err) {
+        return (Result<T, E>) err;
     }
 }
\ No newline at end of file
@@ -0,0 +1,591 @@
+package io.github.heart4it.codesupport;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.*;
+
+/**
+ * A primitive specialization of {@link Result} whose success value is a {@code double}.
+ * <p>
+ * {@code Result<Double, E>} boxes every successful value. {@code ResultDouble} stores the
+ * {@code double} directly in its {@code Ok} record and all combinators take primitive
+ * functional interfaces, so a short-lived {@code Ok} is a candidate for scalar
+ * replacement by escape analysis. Conversion to and from the generic {@code Result}
+ * is always explicit, through {@link #boxed()} and {@link #fromBoxed(Result)}.
+ *
+ * @param <E> the type of the error value
+ */
+public sealed interface ResultDouble<E> permits ResultDouble.Ok, ResultDouble.Err {
+
+    /**
+     * Record representing a successful result.
+     *
+     * @param <E>   the type of the error value
+     * @param value the successful value
+     */
+    record Ok<E>(double value) implements ResultDouble<E> {
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public boolean isOkAnd(DoublePredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return false;
+        }
+
+        @Override
+        public ResultDouble<E> map(DoubleUnaryOperator f) {
+            return ResultDouble.ok(f.applyAsDouble(value));
+        }
+
+        @Override
+        public <U> Result<U, E> mapToObj(DoubleFunction<? extends U> f) {
+            return Result.ok(f.apply(value));
+        }
+
+        @Override
+        public ResultDouble<E> andThen(DoubleFunction<ResultDouble<E>> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public <F> ResultDouble<F> mapErr(Function<? super E, ? extends F> f) {
+            return this.propagate();
+        }
+
+        @Override
+        public ResultDouble<E> or(ResultDouble<E> other) {
+            return this;
+        }
+
+        @Override
+        public ResultDouble<E> orElse(Supplier<ResultDouble<E>> f) {
+            return this;
+        }
+
+        @Override
+        public double unwrap() {
+            return value;
+        }
+
+        @Override
+        public double unwrapOr(double defaultValue) {
+            return value;
+        }
+
+        @Override
+        public double unwrapOrElse(DoubleSupplier f) {
+            return value;
+        }
+
+        @Override
+        public double unwrapOrElseMap(ToDoubleFunction<? super E> f) {
+            return value;
+        }
+
+        @Override
+        public double expect(String msg) {
+            return value;
+        }
+
+        @Override
+        public E unwrapErr() {
+            throw Panics.unwrapErrOnOk();
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public ResultDouble<E> inspect(DoubleConsumer action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public ResultDouble<E> inspectErr(Consumer<? super E> action) {
+            return this;
+        }
+
+        @Override
+        public OptionDouble ok() {
+            return OptionDouble.Some(value);
+        }
+
+        @Override
+        public Option<E> err() {
+            return Option.None();
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public Result<Double, E> boxed() {
+            return Result.ok(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Ok(" + value + ")";
+        }
+
+        /**
+         * Returns this {@code Ok} viewed with a different error type, which is safe
+         * because an {@code Ok} never holds an error value.
+         */
+        @SuppressWarnings("unchecked")
+        private <F> ResultDouble<F> propagate() {
+            return (ResultDouble<F>) this;
+        }
+    }
+
+    /**
+     * Record representing an error result.
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value
+     */
+    record Err<E>(E error) implements ResultDouble<E> {
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public boolean isOkAnd(DoublePredicate predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return predicate.test(error);
+        }
+
+        @Override
+        public ResultDouble<E> map(DoubleUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public <U> Result<U, E> mapToObj(DoubleFunction<? extends U> f) {
+            return Result.err(error);
+        }
+
+        @Override
+        public ResultDouble<E> andThen(DoubleFunction<ResultDouble<E>> f) {
+            return this;
+        }
+
+        @Override
+        public <F> ResultDouble<F> mapErr(Function<? super E, ? extends F> f) {
+            return ResultDouble.err(f.apply(error));
+        }
+
+        @Override
+        public ResultDouble<E> or(ResultDouble<E> other) {
+            return other;
+        }
+
+        @Override
+        public ResultDouble<E> orElse(Supplier<ResultDouble<E>> f) {
+            return f.get();
+        }
+
+        @Override
+        public double unwrap() {
+            throw Panics.unwrapErr();
+        }
+
+        @Override
+        public double unwrapOr(double defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public double unwrapOrElse(DoubleSupplier f) {
+            return f.getAsDouble();
+        }
+
+        @Override
+        public double unwrapOrElseMap(ToDoubleFunction<? super E> f) {
+            return f.applyAsDouble(error);
+        }
+
+        @Override
+        public double expect(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public E unwrapErr() {
+            return error;
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            return error;
+        }
+
+        @Override
+        public ResultDouble<E> inspect(DoubleConsumer action) {
+            return this;
+        }
+
+        @Override
+        public ResultDouble<E> inspectErr(Consumer<? super E> action) {
+            action.accept(error);
+            return this;
+        }
+
+        @Override
+        public OptionDouble ok() {
+            return OptionDouble.None();
+        }
+
+        @Override
+        public Option<E> err() {
+            return error == null ? Option.None() : Option.Some(error);
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public Result<Double, E> boxed() {
+            return Result.err(error);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Err(" + error + ")";
+        }
+    }
+
+    /**
+     * Creates a successful {@code ResultDouble} with the given value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultDouble<String> result = ResultDouble.ok(4.5);
+     * // result.unwrap() -> 4.5
+     * }</pre>
+     *
+     * @param <E>   the type of the error value
+     * @param value the successful value
+     * @return a {@code ResultDouble} containing the successful value
+     */
+    static <E> ResultDouble<E> ok(double value) {
+        return new Ok<>(value);
+    }
+
+    /**
+     * Creates an error {@code ResultDouble} with the given error value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultDouble<String> result = ResultDouble.err("overflow");
+     * // result.unwrapErr() -> "overflow"
+     * }</pre>
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value
+     * @return a {@code ResultDouble} containing the error value
+     */
+    static <E> ResultDouble<E> err(E error) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Converts a generic {@code Result<Double, E>} into a {@code ResultDouble<E>}, unboxing the success value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultDouble<String> result = ResultDouble.fromBoxed(Result.ok(4.5));
+     * // result -> Ok(4.5)
+     * }</pre>
+     *
+     * @param <E>    the type of the error value
+     * @param result the boxed result to convert
+     * @return the equivalent {@code ResultDouble}
+     * @throws NullPointerException if {@code result} is {@code Ok} with a {@code null} value
+     */
+    static <E> ResultDouble<E> fromBoxed(Result<Double, E> result) {
+        if (result instanceof Result.Ok<Double, E> ok) {
+            return ok(Objects.requireNonNull(ok.value(), "fromBoxed requires a non-null Ok value"));
+        }
+        return err(result.unwrapErr());
+    }
+
+    /**
+     * Returns true if this {@code ResultDouble} is Ok.
+     *
+     * @return true if this is Ok, false otherwise
+     */
+    boolean isOk();
+
+    /**
+     * Returns true if this {@code ResultDouble} is Err.
+     *
+     * @return true if this is Err, false otherwise
+     */
+    boolean isErr();
+
+    /**
+     * Returns true if this is Ok and the value matches the predicate.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultDouble.ok(4.5).isOkAnd(v -> v > 1.5) -> true
+     * }</pre>
+     *
+     * @param predicate the predicate to test the value against
+     * @return true if this is Ok and the predicate returns true
+     */
+    boolean isOkAnd(DoublePredicate predicate);
+
+    /**
+     * Returns true if this is Err and the error matches the predicate.
+     *
+     * @param predicate the predicate to test the error against
+     * @return true if this is Err and the predicate returns true
+     */
+    boolean isErrAnd(Predicate<? super E> predicate);
+
+    /**
+     * Applies {@code f} to the Ok value, keeping the result primitive. An Err is returned unchanged.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultDouble<String> doubled = ResultDouble.<String>ok(4.5).map(v -> v * 2);
+     * // doubled -> Ok(9.0)
+     * }</pre>
+     *
+     * @param f the function applied to the Ok value
+     * @return a {@code ResultDouble} containing the mapped value, or this Err
+     */
+    ResultDouble<E> map(DoubleUnaryOperator f);
+
+    /**
+     * Applies {@code f} to the Ok value, producing a generic {@link Result}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<String, String> text = ResultDouble.<String>ok(4.5).mapToObj(v -> "v=" + v);
+     * // text -> Ok("v=4.5")
+     * }</pre>
+     *
+     * @param <U> the type produced by the mapping function
+     * @param f   the function applied to the Ok value
+     * @return a {@code Result} containing the mapped value, or the original error
+     */
+    <U> Result<U, E> mapToObj(DoubleFunction<? extends U> f);
+
+    /**
+     * Calls {@code f} with the Ok value, otherwise returns this Err.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultDouble<String> checked = ResultDouble.<String>ok(4.5)
+     *     .andThen(v -> v > 1.5 ? ResultDouble.ok(v) : ResultDouble.err("too small"));
+     * // checked -> Ok(4.5)
+     * }</pre>
+     *
+     * @param f the function to apply to the Ok value
+     * @return the result of {@code f}, or this Err
+     */
+    ResultDouble<E> andThen(DoubleFunction<ResultDouble<E>> f);
+
+    /**
+     * Applies {@code f} to the Err value. An Ok is returned unchanged without reallocation.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultDouble<Integer> mapped = ResultDouble.<String>err("bad").mapErr(String::length);
+     * // mapped -> Err(3)
+     * }</pre>
+     *
+     * @param <F> the type of the mapped error
+     * @param f   the function applied to the Err value
+     * @return a {@code ResultDouble} containing the mapped error, or this Ok
+     */
+    <F> ResultDouble<F> mapErr(Function<? super E, ? extends F> f);
+
+    /**
+     * Returns this if it is Ok, otherwise {@code other}.
+     *
+     * @param other the fallback result
+     * @return this if Ok, otherwise {@code other}
+     */
+    ResultDouble<E> or(ResultDouble<E> other);
+
+    /**
+     * Returns this if it is Ok, otherwise the result of the supplier.
+     *
+     * @param f the supplier that provides a fallback result
+     * @return this if Ok, otherwise {@code f.get()}
+     */
+    ResultDouble<E> orElse(Supplier<ResultDouble<E>> f);
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @return the contained Ok value
+     * @throws NoSuchElementException if this is Err
+     */
+    double unwrap();
+
+    /**
+     * Returns the contained Ok value or a provided default.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * double v = ResultDouble.err("bad").unwrapOr(1.5);
+     * // v -> 1.5
+     * }</pre>
+     *
+     * @param defaultValue the value to return if this is Err
+     * @return the Ok value, or {@code defaultValue}
+     */
+    double unwrapOr(double defaultValue);
+
+    /**
+     * Returns the contained Ok value or computes it from the supplier function, like
+     * {@link Result#unwrapOrElse(Supplier)}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * double v = ResultDouble.<String>err("bad").unwrapOrElse(() -> 1.5);
+     * // v -> 1.5
+     * }</pre>
+     *
+     * @param f the supplier function that provides a default value if this is Err
+     * @return the Ok value, or the result of {@code f}
+     */
+    double unwrapOrElse(DoubleSupplier f);
+
+    /**
+     * Returns the contained Ok value or computes one from the error.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * double v = ResultDouble.<String>err("bad").unwrapOrElseMap(String::length);
+     * // v -> 3.0
+     * }</pre>
+     *
+     * @param f the function that computes a value from the error
+     * @return the Ok value, or the result of {@code f}
+     */
+    double unwrapOrElseMap(ToDoubleFunction<? super E> f);
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @param msg the message to use in the exception if this is Err
+     * @return the contained Ok value
+     * @throws NoSuchElementException if this is Err, with the provided message
+     */
+    double expect(String msg);
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @return the contained Err value
+     * @throws NoSuchElementException if this is Ok
+     */
+    E unwrapErr();
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @param msg the message to use in the exception if this is Ok
+     * @return the contained Err value
+     * @throws NoSuchElementException if this is Ok, with the provided message
+     */
+    E expectErr(String msg);
+
+    /**
+     * Calls {@code action} with the Ok value, then returns this unchanged.
+     *
+     * @param action the action to perform with the Ok value
+     * @return this result unchanged
+     */
+    ResultDouble<E> inspect(DoubleConsumer action);
+
+    /**
+     * Calls {@code action} with the Err value, then returns this unchanged.
+     *
+     * @param action the action to perform with the Err value
+     * @return this result unchanged
+     */
+    ResultDouble<E> inspectErr(Consumer<? super E> action);
+
+    /**
+     * Converts this result into an {@link OptionDouble}, discarding any error.
+     *
+     * @return {@code Some} containing the Ok value, or {@code None}
+     */
+    OptionDouble ok();
+
+    /**
+     * Converts this result into an {@link Option} of the error, discarding any Ok value.
+     * An {@code Err} holding {@code null} yields {@code None}, since {@code Some} cannot hold
+     * {@code null}.
+     *
+     * @return {@code Some} containing the error, or {@code None} for an Ok or a {@code null} error
+     */
+    Option<E> err();
+
+    /**
+     * Converts this result to a {@link java.util.OptionalDouble}.
+     *
+     * @return an {@code OptionalDouble} containing the Ok value, or an empty one
+     */
+    OptionalDouble toOptional();
+
+    /**
+     * Converts this result to a generic {@code Result<Double, E>}, boxing the Ok value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<Double, String> boxed = ResultDouble.<String>ok(4.5).boxed();
+     * // boxed -> Ok(4.5)
+     * }</pre>
+     *
+     * @return the equivalent generic {@code Result}
+     */
+    Result<Double, E> boxed();
+
+    /**
+     * Returns a string representation of this result for debugging purposes,
+     * "Ok(value)" or "Err(error)".
+     *
+     * @return a debug string representation of this result
+     */
+    String toDebugString();
+}
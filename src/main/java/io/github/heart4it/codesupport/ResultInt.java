@@ -0,0 +1,591 @@
+package io.github.heart4it.codesupport;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.*;
+
+/**
+ * A primitive specialization of {@link Result} whose success value is a {@code int}.
+ * <p>
+ * {@code Result<Integer, E>} boxes every successful value. {@code ResultInt} stores the
+ * {@code int} directly in its {@code Ok} record and all combinators take primitive
+ * functional interfaces, so a short-lived {@code Ok} is a candidate for scalar
+ * replacement by escape analysis. Conversion to and from the generic {@code Result}
+ * is always explicit, through {@link #boxed()} and {@link #fromBoxed(Result)}.
+ *
+ * @param <E> the type of the error value
+ */
+public sealed interface ResultInt<E> permits ResultInt.Ok, ResultInt.Err {
+
+    /**
+     * Record representing a successful result.
+     *
+     * @param <E>   the type of the error value
+     * @param value the successful value
+     */
+    record Ok<E>(int value) implements ResultInt<E> {
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public boolean isOkAnd(IntPredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return false;
+        }
+
+        @Override
+        public ResultInt<E> map(IntUnaryOperator f) {
+            return ResultInt.ok(f.applyAsInt(value));
+        }
+
+        @Override
+        public <U> Result<U, E> mapToObj(IntFunction<? extends U> f) {
+            return Result.ok(f.apply(value));
+        }
+
+        @Override
+        public ResultInt<E> andThen(IntFunction<ResultInt<E>> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public <F> ResultInt<F> mapErr(Function<? super E, ? extends F> f) {
+            return this.propagate();
+        }
+
+        @Override
+        public ResultInt<E> or(ResultInt<E> other) {
+            return this;
+        }
+
+        @Override
+        public ResultInt<E> orElse(Supplier<ResultInt<E>> f) {
+            return this;
+        }
+
+        @Override
+        public int unwrap() {
+            return value;
+        }
+
+        @Override
+        public int unwrapOr(int defaultValue) {
+            return value;
+        }
+
+        @Override
+        public int unwrapOrElse(IntSupplier f) {
+            return value;
+        }
+
+        @Override
+        public int unwrapOrElseMap(ToIntFunction<? super E> f) {
+            return value;
+        }
+
+        @Override
+        public int expect(String msg) {
+            return value;
+        }
+
+        @Override
+        public E unwrapErr() {
+            throw Panics.unwrapErrOnOk();
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public ResultInt<E> inspect(IntConsumer action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public ResultInt<E> inspectErr(Consumer<? super E> action) {
+            return this;
+        }
+
+        @Override
+        public OptionInt ok() {
+            return OptionInt.Some(value);
+        }
+
+        @Override
+        public Option<E> err() {
+            return Option.None();
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public Result<Integer, E> boxed() {
+            return Result.ok(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Ok(" + value + ")";
+        }
+
+        /**
+         * Returns this {@code Ok} viewed with a different error type, which is safe
+         * because an {@code Ok} never holds an error value.
+         */
+        @SuppressWarnings("unchecked")
+        private <F> ResultInt<F> propagate() {
+            return (ResultInt<F>) this;
+        }
+    }
+
+    /**
+     * Record representing an error result.
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value
+     */
+    record Err<E>(E error) implements ResultInt<E> {
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public boolean isOkAnd(IntPredicate predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return predicate.test(error);
+        }
+
+        @Override
+        public ResultInt<E> map(IntUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public <U> Result<U, E> mapToObj(IntFunction<? extends U> f) {
+            return Result.err(error);
+        }
+
+        @Override
+        public ResultInt<E> andThen(IntFunction<ResultInt<E>> f) {
+            return this;
+        }
+
+        @Override
+        public <F> ResultInt<F> mapErr(Function<? super E, ? extends F> f) {
+            return ResultInt.err(f.apply(error));
+        }
+
+        @Override
+        public ResultInt<E> or(ResultInt<E> other) {
+            return other;
+        }
+
+        @Override
+        public ResultInt<E> orElse(Supplier<ResultInt<E>> f) {
+            return f.get();
+        }
+
+        @Override
+        public int unwrap() {
+            throw Panics.unwrapErr();
+        }
+
+        @Override
+        public int unwrapOr(int defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public int unwrapOrElse(IntSupplier f) {
+            return f.getAsInt();
+        }
+
+        @Override
+        public int unwrapOrElseMap(ToIntFunction<? super E> f) {
+            return f.applyAsInt(error);
+        }
+
+        @Override
+        public int expect(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public E unwrapErr() {
+            return error;
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            return error;
+        }
+
+        @Override
+        public ResultInt<E> inspect(IntConsumer action) {
+            return this;
+        }
+
+        @Override
+        public ResultInt<E> inspectErr(Consumer<? super E> action) {
+            action.accept(error);
+            return this;
+        }
+
+        @Override
+        public OptionInt ok() {
+            return OptionInt.None();
+        }
+
+        @Override
+        public Option<E> err() {
+            return error == null ? Option.None() : Option.Some(error);
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public Result<Integer, E> boxed() {
+            return Result.err(error);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Err(" + error + ")";
+        }
+    }
+
+    /**
+     * Creates a successful {@code ResultInt} with the given value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultInt<String> result = ResultInt.ok(42);
+     * // result.unwrap() -> 42
+     * }</pre>
+     *
+     * @param <E>   the type of the error value
+     * @param value the successful value
+     * @return a {@code ResultInt} containing the successful value
+     */
+    static <E> ResultInt<E> ok(int value) {
+        return new Ok<>(value);
+    }
+
+    /**
+     * Creates an error {@code ResultInt} with the given error value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultInt<String> result = ResultInt.err("overflow");
+     * // result.unwrapErr() -> "overflow"
+     * }</pre>
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value
+     * @return a {@code ResultInt} containing the error value
+     */
+    static <E> ResultInt<E> err(E error) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Converts a generic {@code Result<Integer, E>} into a {@code ResultInt<E>}, unboxing the success value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultInt<String> result = ResultInt.fromBoxed(Result.ok(42));
+     * // result -> Ok(42)
+     * }</pre>
+     *
+     * @param <E>    the type of the error value
+     * @param result the boxed result to convert
+     * @return the equivalent {@code ResultInt}
+     * @throws NullPointerException if {@code result} is {@code Ok} with a {@code null} value
+     */
+    static <E> ResultInt<E> fromBoxed(Result<Integer, E> result) {
+        if (result instanceof Result.Ok<Integer, E> ok) {
+            return ok(Objects.requireNonNull(ok.value(), "fromBoxed requires a non-null Ok value"));
+        }
+        return err(result.unwrapErr());
+    }
+
+    /**
+     * Returns true if this {@code ResultInt} is Ok.
+     *
+     * @return true if this is Ok, false otherwise
+     */
+    boolean isOk();
+
+    /**
+     * Returns true if this {@code ResultInt} is Err.
+     *
+     * @return true if this is Err, false otherwise
+     */
+    boolean isErr();
+
+    /**
+     * Returns true if this is Ok and the value matches the predicate.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultInt.ok(42).isOkAnd(v -> v > 7) -> true
+     * }</pre>
+     *
+     * @param predicate the predicate to test the value against
+     * @return true if this is Ok and the predicate returns true
+     */
+    boolean isOkAnd(IntPredicate predicate);
+
+    /**
+     * Returns true if this is Err and the error matches the predicate.
+     *
+     * @param predicate the predicate to test the error against
+     * @return true if this is Err and the predicate returns true
+     */
+    boolean isErrAnd(Predicate<? super E> predicate);
+
+    /**
+     * Applies {@code f} to the Ok value, keeping the result primitive. An Err is returned unchanged.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultInt<String> doubled = ResultInt.<String>ok(42).map(v -> v * 2);
+     * // doubled -> Ok(84)
+     * }</pre>
+     *
+     * @param f the function applied to the Ok value
+     * @return a {@code ResultInt} containing the mapped value, or this Err
+     */
+    ResultInt<E> map(IntUnaryOperator f);
+
+    /**
+     * Applies {@code f} to the Ok value, producing a generic {@link Result}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<String, String> text = ResultInt.<String>ok(42).mapToObj(v -> "v=" + v);
+     * // text -> Ok("v=42")
+     * }</pre>
+     *
+     * @param <U> the type produced by the mapping function
+     * @param f   the function applied to the Ok value
+     * @return a {@code Result} containing the mapped value, or the original error
+     */
+    <U> Result<U, E> mapToObj(IntFunction<? extends U> f);
+
+    /**
+     * Calls {@code f} with the Ok value, otherwise returns this Err.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultInt<String> checked = ResultInt.<String>ok(42)
+     *     .andThen(v -> v > 7 ? ResultInt.ok(v) : ResultInt.err("too small"));
+     * // checked -> Ok(42)
+     * }</pre>
+     *
+     * @param f the function to apply to the Ok value
+     * @return the result of {@code f}, or this Err
+     */
+    ResultInt<E> andThen(IntFunction<ResultInt<E>> f);
+
+    /**
+     * Applies {@code f} to the Err value. An Ok is returned unchanged without reallocation.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultInt<Integer> mapped = ResultInt.<String>err("bad").mapErr(String::length);
+     * // mapped -> Err(3)
+     * }</pre>
+     *
+     * @param <F> the type of the mapped error
+     * @param f   the function applied to the Err value
+     * @return a {@code ResultInt} containing the mapped error, or this Ok
+     */
+    <F> ResultInt<F> mapErr(Function<? super E, ? extends F> f);
+
+    /**
+     * Returns this if it is Ok, otherwise {@code other}.
+     *
+     * @param other the fallback result
+     * @return this if Ok, otherwise {@code other}
+     */
+    ResultInt<E> or(ResultInt<E> other);
+
+    /**
+     * Returns this if it is Ok, otherwise the result of the supplier.
+     *
+     * @param f the supplier that provides a fallback result
+     * @return this if Ok, otherwise {@code f.get()}
+     */
+    ResultInt<E> orElse(Supplier<ResultInt<E>> f);
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @return the contained Ok value
+     * @throws NoSuchElementException if this is Err
+     */
+    int unwrap();
+
+    /**
+     * Returns the contained Ok value or a provided default.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * int v = ResultInt.err("bad").unwrapOr(7);
+     * // v -> 7
+     * }</pre>
+     *
+     * @param defaultValue the value to return if this is Err
+     * @return the Ok value, or {@code defaultValue}
+     */
+    int unwrapOr(int defaultValue);
+
+    /**
+     * Returns the contained Ok value or computes it from the supplier function, like
+     * {@link Result#unwrapOrElse(Supplier)}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * int v = ResultInt.<String>err("bad").unwrapOrElse(() -> 7);
+     * // v -> 7
+     * }</pre>
+     *
+     * @param f the supplier function that provides a default value if this is Err
+     * @return the Ok value, or the result of {@code f}
+     */
+    int unwrapOrElse(IntSupplier f);
+
+    /**
+     * Returns the contained Ok value or computes one from the error.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * int v = ResultInt.<String>err("bad").unwrapOrElseMap(String::length);
+     * // v -> 3
+     * }</pre>
+     *
+     * @param f the function that computes a value from the error
+     * @return the Ok value, or the result of {@code f}
+     */
+    int unwrapOrElseMap(ToIntFunction<? super E> f);
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @param msg the message to use in the exception if this is Err
+     * @return the contained Ok value
+     * @throws NoSuchElementException if this is Err, with the provided message
+     */
+    int expect(String msg);
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @return the contained Err value
+     * @throws NoSuchElementException if this is Ok
+     */
+    E unwrapErr();
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @param msg the message to use in the exception if this is Ok
+     * @return the contained Err value
+     * @throws NoSuchElementException if this is Ok, with the provided message
+     */
+    E expectErr(String msg);
+
+    /**
+     * Calls {@code action} with the Ok value, then returns this unchanged.
+     *
+     * @param action the action to perform with the Ok value
+     * @return this result unchanged
+     */
+    ResultInt<E> inspect(IntConsumer action);
+
+    /**
+     * Calls {@code action} with the Err value, then returns this unchanged.
+     *
+     * @param action the action to perform with the Err value
+     * @return this result unchanged
+     */
+    ResultInt<E> inspectErr(Consumer<? super E> action);
+
+    /**
+     * Converts this result into an {@link OptionInt}, discarding any error.
+     *
+     * @return {@code Some} containing the Ok value, or {@code None}
+     */
+    OptionInt ok();
+
+    /**
+     * Converts this result into an {@link Option} of the error, discarding any Ok value.
+     * An {@code Err} holding {@code null} yields {@code None}, since {@code Some} cannot hold
+     * {@code null}.
+     *
+     * @return {@code Some} containing the error, or {@code None} for an Ok or a {@code null} error
+     */
+    Option<E> err();
+
+    /**
+     * Converts this result to a {@link java.util.OptionalInt}.
+     *
+     * @return an {@code OptionalInt} containing the Ok value, or an empty one
+     */
+    OptionalInt toOptional();
+
+    /**
+     * Converts this result to a generic {@code Result<Integer, E>}, boxing the Ok value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<Integer, String> boxed = ResultInt.<String>ok(42).boxed();
+     * // boxed -> Ok(42)
+     * }</pre>
+     *
+     * @return the equivalent generic {@code Result}
+     */
+    Result<Integer, E> boxed();
+
+    /**
+     * Returns a string representation of this result for debugging purposes,
+     * "Ok(value)" or "Err(error)".
+     *
+     * @return a debug string representation of this result
+     */
+    String toDebugString();
+}
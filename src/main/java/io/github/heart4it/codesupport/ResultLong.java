@@ -0,0 +1,591 @@
+package io.github.heart4it.codesupport;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.*;
+
+/**
+ * A primitive specialization of {@link Result} whose success value is a {@code long}.
+ * <p>
+ * {@code Result<Long, E>} boxes every successful value. {@code ResultLong} stores the
+ * {@code long} directly in its {@code Ok} record and all combinators take primitive
+ * functional interfaces, so a short-lived {@code Ok} is a candidate for scalar
+ * replacement by escape analysis. Conversion to and from the generic {@code Result}
+ * is always explicit, through {@link #boxed()} and {@link #fromBoxed(Result)}.
+ *
+ * @param <E> the type of the error value
+ */
+public sealed interface ResultLong<E> permits ResultLong.Ok, ResultLong.Err {
+
+    /**
+     * Record representing a successful result.
+     *
+     * @param <E>   the type of the error value
+     * @param value the successful value
+     */
+    record Ok<E>(long value) implements ResultLong<E> {
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public boolean isOkAnd(LongPredicate predicate) {
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return false;
+        }
+
+        @Override
+        public ResultLong<E> map(LongUnaryOperator f) {
+            return ResultLong.ok(f.applyAsLong(value));
+        }
+
+        @Override
+        public <U> Result<U, E> mapToObj(LongFunction<? extends U> f) {
+            return Result.ok(f.apply(value));
+        }
+
+        @Override
+        public ResultLong<E> andThen(LongFunction<ResultLong<E>> f) {
+            return f.apply(value);
+        }
+
+        @Override
+        public <F> ResultLong<F> mapErr(Function<? super E, ? extends F> f) {
+            return this.propagate();
+        }
+
+        @Override
+        public ResultLong<E> or(ResultLong<E> other) {
+            return this;
+        }
+
+        @Override
+        public ResultLong<E> orElse(Supplier<ResultLong<E>> f) {
+            return this;
+        }
+
+        @Override
+        public long unwrap() {
+            return value;
+        }
+
+        @Override
+        public long unwrapOr(long defaultValue) {
+            return value;
+        }
+
+        @Override
+        public long unwrapOrElse(LongSupplier f) {
+            return value;
+        }
+
+        @Override
+        public long unwrapOrElseMap(ToLongFunction<? super E> f) {
+            return value;
+        }
+
+        @Override
+        public long expect(String msg) {
+            return value;
+        }
+
+        @Override
+        public E unwrapErr() {
+            throw Panics.unwrapErrOnOk();
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public ResultLong<E> inspect(LongConsumer action) {
+            action.accept(value);
+            return this;
+        }
+
+        @Override
+        public ResultLong<E> inspectErr(Consumer<? super E> action) {
+            return this;
+        }
+
+        @Override
+        public OptionLong ok() {
+            return OptionLong.Some(value);
+        }
+
+        @Override
+        public Option<E> err() {
+            return Option.None();
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public Result<Long, E> boxed() {
+            return Result.ok(value);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Ok(" + value + ")";
+        }
+
+        /**
+         * Returns this {@code Ok} viewed with a different error type, which is safe
+         * because an {@code Ok} never holds an error value.
+         */
+        @SuppressWarnings("unchecked")
+        private <F> ResultLong<F> propagate() {
+            return (ResultLong<F>) this;
+        }
+    }
+
+    /**
+     * Record representing an error result.
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value
+     */
+    record Err<E>(E error) implements ResultLong<E> {
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public boolean isOkAnd(LongPredicate predicate) {
+            return false;
+        }
+
+        @Override
+        public boolean isErrAnd(Predicate<? super E> predicate) {
+            return predicate.test(error);
+        }
+
+        @Override
+        public ResultLong<E> map(LongUnaryOperator f) {
+            return this;
+        }
+
+        @Override
+        public <U> Result<U, E> mapToObj(LongFunction<? extends U> f) {
+            return Result.err(error);
+        }
+
+        @Override
+        public ResultLong<E> andThen(LongFunction<ResultLong<E>> f) {
+            return this;
+        }
+
+        @Override
+        public <F> ResultLong<F> mapErr(Function<? super E, ? extends F> f) {
+            return ResultLong.err(f.apply(error));
+        }
+
+        @Override
+        public ResultLong<E> or(ResultLong<E> other) {
+            return other;
+        }
+
+        @Override
+        public ResultLong<E> orElse(Supplier<ResultLong<E>> f) {
+            return f.get();
+        }
+
+        @Override
+        public long unwrap() {
+            throw Panics.unwrapErr();
+        }
+
+        @Override
+        public long unwrapOr(long defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public long unwrapOrElse(LongSupplier f) {
+            return f.getAsLong();
+        }
+
+        @Override
+        public long unwrapOrElseMap(ToLongFunction<? super E> f) {
+            return f.applyAsLong(error);
+        }
+
+        @Override
+        public long expect(String msg) {
+            throw Panics.noSuchElement(msg);
+        }
+
+        @Override
+        public E unwrapErr() {
+            return error;
+        }
+
+        @Override
+        public E expectErr(String msg) {
+            return error;
+        }
+
+        @Override
+        public ResultLong<E> inspect(LongConsumer action) {
+            return this;
+        }
+
+        @Override
+        public ResultLong<E> inspectErr(Consumer<? super E> action) {
+            action.accept(error);
+            return this;
+        }
+
+        @Override
+        public OptionLong ok() {
+            return OptionLong.None();
+        }
+
+        @Override
+        public Option<E> err() {
+            return error == null ? Option.None() : Option.Some(error);
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public Result<Long, E> boxed() {
+            return Result.err(error);
+        }
+
+        @Override
+        public String toDebugString() {
+            return "Err(" + error + ")";
+        }
+    }
+
+    /**
+     * Creates a successful {@code ResultLong} with the given value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultLong<String> result = ResultLong.ok(42L);
+     * // result.unwrap() -> 42L
+     * }</pre>
+     *
+     * @param <E>   the type of the error value
+     * @param value the successful value
+     * @return a {@code ResultLong} containing the successful value
+     */
+    static <E> ResultLong<E> ok(long value) {
+        return new Ok<>(value);
+    }
+
+    /**
+     * Creates an error {@code ResultLong} with the given error value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultLong<String> result = ResultLong.err("overflow");
+     * // result.unwrapErr() -> "overflow"
+     * }</pre>
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value
+     * @return a {@code ResultLong} containing the error value
+     */
+    static <E> ResultLong<E> err(E error) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Converts a generic {@code Result<Long, E>} into a {@code ResultLong<E>}, unboxing the success value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultLong<String> result = ResultLong.fromBoxed(Result.ok(42L));
+     * // result -> Ok(42)
+     * }</pre>
+     *
+     * @param <E>    the type of the error value
+     * @param result the boxed result to convert
+     * @return the equivalent {@code ResultLong}
+     * @throws NullPointerException if {@code result} is {@code Ok} with a {@code null} value
+     */
+    static <E> ResultLong<E> fromBoxed(Result<Long, E> result) {
+        if (result instanceof Result.Ok<Long, E> ok) {
+            return ok(Objects.requireNonNull(ok.value(), "fromBoxed requires a non-null Ok value"));
+        }
+        return err(result.unwrapErr());
+    }
+
+    /**
+     * Returns true if this {@code ResultLong} is Ok.
+     *
+     * @return true if this is Ok, false otherwise
+     */
+    boolean isOk();
+
+    /**
+     * Returns true if this {@code ResultLong} is Err.
+     *
+     * @return true if this is Err, false otherwise
+     */
+    boolean isErr();
+
+    /**
+     * Returns true if this is Ok and the value matches the predicate.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultLong.ok(42L).isOkAnd(v -> v > 7L) -> true
+     * }</pre>
+     *
+     * @param predicate the predicate to test the value against
+     * @return true if this is Ok and the predicate returns true
+     */
+    boolean isOkAnd(LongPredicate predicate);
+
+    /**
+     * Returns true if this is Err and the error matches the predicate.
+     *
+     * @param predicate the predicate to test the error against
+     * @return true if this is Err and the predicate returns true
+     */
+    boolean isErrAnd(Predicate<? super E> predicate);
+
+    /**
+     * Applies {@code f} to the Ok value, keeping the result primitive. An Err is returned unchanged.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultLong<String> doubled = ResultLong.<String>ok(42L).map(v -> v * 2);
+     * // doubled -> Ok(84)
+     * }</pre>
+     *
+     * @param f the function applied to the Ok value
+     * @return a {@code ResultLong} containing the mapped value, or this Err
+     */
+    ResultLong<E> map(LongUnaryOperator f);
+
+    /**
+     * Applies {@code f} to the Ok value, producing a generic {@link Result}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<String, String> text = ResultLong.<String>ok(42L).mapToObj(v -> "v=" + v);
+     * // text -> Ok("v=42")
+     * }</pre>
+     *
+     * @param <U> the type produced by the mapping function
+     * @param f   the function applied to the Ok value
+     * @return a {@code Result} containing the mapped value, or the original error
+     */
+    <U> Result<U, E> mapToObj(LongFunction<? extends U> f);
+
+    /**
+     * Calls {@code f} with the Ok value, otherwise returns this Err.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultLong<String> checked = ResultLong.<String>ok(42L)
+     *     .andThen(v -> v > 7L ? ResultLong.ok(v) : ResultLong.err("too small"));
+     * // checked -> Ok(42)
+     * }</pre>
+     *
+     * @param f the function to apply to the Ok value
+     * @return the result of {@code f}, or this Err
+     */
+    ResultLong<E> andThen(LongFunction<ResultLong<E>> f);
+
+    /**
+     * Applies {@code f} to the Err value. An Ok is returned unchanged without reallocation.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * ResultLong<Integer> mapped = ResultLong.<String>err("bad").mapErr(String::length);
+     * // mapped -> Err(3)
+     * }</pre>
+     *
+     * @param <F> the type of the mapped error
+     * @param f   the function applied to the Err value
+     * @return a {@code ResultLong} containing the mapped error, or this Ok
+     */
+    <F> ResultLong<F> mapErr(Function<? super E, ? extends F> f);
+
+    /**
+     * Returns this if it is Ok, otherwise {@code other}.
+     *
+     * @param other the fallback result
+     * @return this if Ok, otherwise {@code other}
+     */
+    ResultLong<E> or(ResultLong<E> other);
+
+    /**
+     * Returns this if it is Ok, otherwise the result of the supplier.
+     *
+     * @param f the supplier that provides a fallback result
+     * @return this if Ok, otherwise {@code f.get()}
+     */
+    ResultLong<E> orElse(Supplier<ResultLong<E>> f);
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @return the contained Ok value
+     * @throws NoSuchElementException if this is Err
+     */
+    long unwrap();
+
+    /**
+     * Returns the contained Ok value or a provided default.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * long v = ResultLong.err("bad").unwrapOr(7L);
+     * // v -> 7L
+     * }</pre>
+     *
+     * @param defaultValue the value to return if this is Err
+     * @return the Ok value, or {@code defaultValue}
+     */
+    long unwrapOr(long defaultValue);
+
+    /**
+     * Returns the contained Ok value or computes it from the supplier function, like
+     * {@link Result#unwrapOrElse(Supplier)}.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * long v = ResultLong.<String>err("bad").unwrapOrElse(() -> 7L);
+     * // v -> 7L
+     * }</pre>
+     *
+     * @param f the supplier function that provides a default value if this is Err
+     * @return the Ok value, or the result of {@code f}
+     */
+    long unwrapOrElse(LongSupplier f);
+
+    /**
+     * Returns the contained Ok value or computes one from the error.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * long v = ResultLong.<String>err("bad").unwrapOrElseMap(String::length);
+     * // v -> 3L
+     * }</pre>
+     *
+     * @param f the function that computes a value from the error
+     * @return the Ok value, or the result of {@code f}
+     */
+    long unwrapOrElseMap(ToLongFunction<? super E> f);
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @param msg the message to use in the exception if this is Err
+     * @return the contained Ok value
+     * @throws NoSuchElementException if this is Err, with the provided message
+     */
+    long expect(String msg);
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @return the contained Err value
+     * @throws NoSuchElementException if this is Ok
+     */
+    E unwrapErr();
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @param msg the message to use in the exception if this is Ok
+     * @return the contained Err value
+     * @throws NoSuchElementException if this is Ok, with the provided message
+     */
+    E expectErr(String msg);
+
+    /**
+     * Calls {@code action} with the Ok value, then returns this unchanged.
+     *
+     * @param action the action to perform with the Ok value
+     * @return this result unchanged
+     */
+    ResultLong<E> inspect(LongConsumer action);
+
+    /**
+     * Calls {@code action} with the Err value, then returns this unchanged.
+     *
+     * @param action the action to perform with the Err value
+     * @return this result unchanged
+     */
+    ResultLong<E> inspectErr(Consumer<? super E> action);
+
+    /**
+     * Converts this result into an {@link OptionLong}, discarding any error.
+     *
+     * @return {@code Some} containing the Ok value, or {@code None}
+     */
+    OptionLong ok();
+
+    /**
+     * Converts this result into an {@link Option} of the error, discarding any Ok value.
+     * An {@code Err} holding {@code null} yields {@code None}, since {@code Some} cannot hold
+     * {@code null}.
+     *
+     * @return {@code Some} containing the error, or {@code None} for an Ok or a {@code null} error
+     */
+    Option<E> err();
+
+    /**
+     * Converts this result to a {@link java.util.OptionalLong}.
+     *
+     * @return an {@code OptionalLong} containing the Ok value, or an empty one
+     */
+    OptionalLong toOptional();
+
+    /**
+     * Converts this result to a generic {@code Result<Long, E>}, boxing the Ok value.
+     *
+     * <p>Example usage:
+     * <pre>{@code
+     * Result<Long, String> boxed = ResultLong.<String>ok(42L).boxed();
+     * // boxed -> Ok(42)
+     * }</pre>
+     *
+     * @return the equivalent generic {@code Result}
+     */
+    Result<Long, E> boxed();
+
+    /**
+     * Returns a string representation of this result for debugging purposes,
+     * "Ok(value)" or "Err(error)".
+     *
+     * @return a debug string representation of this result
+     */
+    String toDebugString();
+}
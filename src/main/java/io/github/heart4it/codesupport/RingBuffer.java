@@ -0,0 +1,130 @@
+package io.github.heart4it.codesupport;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A bounded lock-free multi-producer multi-consumer ring buffer after Dmitry Vyukov's
+ * design. Every slot carries a sequence number that tells producers and consumers whether
+ * the slot is free for the current lap, so claiming a slot is a single CAS on the head or
+ * tail index and the element itself is published by a release-store of the sequence.
+ *
+ * <p>The head and tail indices are padded by the superclasses below so that producers and
+ * consumers do not invalidate each other's cache line.
+ *
+ * @param <T> the type of the elements
+ */
+final class RingBuffer<T> extends RingBufferPadHead {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(RingBufferHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(RingBufferTail.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int mask;
+    private final long[] sequences;
+    private final Object[] elements;
+
+    /**
+     * Creates a ring buffer holding at least {@code capacity} elements; the capacity is
+     * rounded up to a power of two.
+     */
+    RingBuffer(int capacity) {
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = size - 1;
+        this.sequences = new long[size];
+        this.elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /** Adds {@code element} unless the buffer is full. */
+    boolean offer(T element) {
+        long pos = (long) TAIL.getOpaque(this);
+        while (true) {
+            int index = (int) pos & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - pos;
+            if (difference == 0) {
+                long witness = (long) TAIL.compareAndExchange(this, pos, pos + 1);
+                if (witness == pos) {
+                    elements[index] = element;
+                    SEQUENCE.setRelease(sequences, index, pos + 1);
+                    return true;
+                }
+                pos = witness;
+            } else if (difference < 0) {
+                return false;
+            } else {
+                pos = (long) TAIL.getOpaque(this);
+            }
+        }
+    }
+
+    /** Removes the oldest element, or returns {@code null} if the buffer is empty. */
+    T poll() {
+        long pos = (long) HEAD.getOpaque(this);
+        while (true) {
+            int index = (int) pos & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, index) - (pos + 1);
+            if (difference == 0) {
+                long witness = (long) HEAD.compareAndExchange(this, pos, pos + 1);
+                if (witness == pos) {
+                    @SuppressWarnings("unchecked")
+                    T element = (T) elements[index];
+                    elements[index] = null;
+                    SEQUENCE.setRelease(sequences, index, pos + mask + 1);
+                    return element;
+                }
+                pos = witness;
+            } else if (difference < 0) {
+                return null;
+            } else {
+                pos = (long) HEAD.getOpaque(this);
+            }
+        }
+    }
+
+    /** An estimate of the number of elements, exact when no operation is in progress. */
+    int size() {
+        long head = (long) HEAD.getVolatile(this);
+        long tail = (long) TAIL.getVolatile(this);
+        return (int) Math.max(0, Math.min(tail - head, capacity()));
+    }
+}
+
+abstract class RingBufferPad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+abstract class RingBufferTail extends RingBufferPad0 {
+    volatile long tail;
+}
+
+abstract class RingBufferPad1 extends RingBufferTail {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p30, p31, p32, p33, p34, p35;
+}
+
+abstract class RingBufferHead extends RingBufferPad1 {
+    volatile long head;
+}
+
+abstract class RingBufferPadHead extends RingBufferHead {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p48, p49, p50, p51, p52, p53, p54, p55;
+}
@@ -0,0 +1,40 @@
+package io.github.heart4it.codesupport;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single timer thread used for hedging delays and timeouts. Scheduled tasks only
+ * complete futures or start non-blocking attempts, so one daemon thread serves any number
+ * of concurrent calls. Cancelled tasks are removed from the queue immediately, so a call
+ * that finishes early does not keep its timer alive until the deadline.
+ */
+final class SharedScheduler {
+
+    private static final ScheduledThreadPoolExecutor EXECUTOR = create();
+
+    private SharedScheduler() {
+    }
+
+    /**
+     * Runs {@code task} on the timer thread after {@code delayNanos}.
+     *
+     * @param task       a short, non-blocking task
+     * @param delayNanos the delay in nanoseconds
+     * @return a handle that can be used to cancel the task
+     */
+    static ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        return EXECUTOR.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static ScheduledThreadPoolExecutor create() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "codesupport-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.heart4it.codesupport;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A one-shot {@link Spliterator} and {@link Iterator} over a single element, used by
+ * {@code Some} and {@code Ok} for {@code stream()}, {@code spliterator()} and
+ * {@code iterator()}. A single object serves both protocols, so iterating a present
+ * value costs exactly one small allocation and never builds a collection.
+ *
+ * @param <T> the type of the element
+ */
+final class SingleElementSpliterator<T> implements Spliterator<T>, Iterator<T> {
+
+    private final T element;
+    private final int characteristics;
+    private boolean consumed;
+
+    /**
+     * Creates a spliterator over {@code element}.
+     *
+     * @param element         the single element, may be {@code null} if {@code characteristics}
+     *                        does not contain {@link Spliterator#NONNULL}
+     * @param characteristics the characteristics in addition to
+     *                        {@code SIZED | SUBSIZED | IMMUTABLE | ORDERED}
+     */
+    SingleElementSpliterator(T element, int characteristics) {
+        this.element = element;
+        this.characteristics = characteristics | SIZED | SUBSIZED | IMMUTABLE | ORDERED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (consumed) return false;
+        consumed = true;
+        action.accept(element);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        tryAdvance(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return consumed ? 0 : 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !consumed;
+    }
+
+    @Override
+    public T next() {
+        if (consumed) throw new NoSuchElementException();
+        consumed = true;
+        return element;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.heart4it.codesupport;
+
+/**
+ * A function that may throw a checked exception, for wrapping legacy APIs into a {@link Result}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ThrowingFunction<Path, String> read = Files::readString;
+ * }</pre>
+ *
+ * @param <A> the type of the argument
+ * @param <T> the type of the result
+ */
+@FunctionalInterface
+public interface ThrowingFunction<A, T> {
+
+    /**
+     * Applies the function.
+     *
+     * @param argument the argument
+     * @return the result
+     * @throws Exception if the function fails
+     */
+    T apply(A argument) throws Exception;
+}
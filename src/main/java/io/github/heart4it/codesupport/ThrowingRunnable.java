@@ -0,0 +1,20 @@
+package io.github.heart4it.codesupport;
+
+/**
+ * A runnable that may throw a checked exception, for wrapping legacy APIs into a {@link Result}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ThrowingRunnable delete = () -> Files.delete(path);
+ * }</pre>
+ */
+@FunctionalInterface
+public interface ThrowingRunnable {
+
+    /**
+     * Runs the action.
+     *
+     * @throws Exception if the action fails
+     */
+    void run() throws Exception;
+}
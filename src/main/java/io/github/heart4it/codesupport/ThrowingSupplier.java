@@ -0,0 +1,23 @@
+package io.github.heart4it.codesupport;
+
+/**
+ * A supplier that may throw a checked exception, for wrapping legacy APIs into a {@link Result}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ThrowingSupplier<String> read = () -> Files.readString(path);
+ * }</pre>
+ *
+ * @param <T> the type of the supplied value
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<T> {
+
+    /**
+     * Gets a value.
+     *
+     * @return the value
+     * @throws Exception if the value cannot be supplied
+     */
+    T get() throws Exception;
+}
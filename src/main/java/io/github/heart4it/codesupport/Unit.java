@@ -0,0 +1,25 @@
+package io.github.heart4it.codesupport;
+
+/**
+ * The type with exactly one value, like Rust's {@code ()}. Used as the success type of a
+ * {@link Result} that carries no value, e.g. {@code Result<Unit, String>}, whose shared
+ * success instance is {@link Result#okUnit()}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Result<Unit, T> sent = sender.trySend(message);
+ * if (sent.isErr()) {
+ *     T rejected = sent.unwrapErr();
+ * }
+ * }</pre>
+ */
+public enum Unit {
+
+    /** The only value of {@code Unit}. */
+    INSTANCE;
+
+    @Override
+    public String toString() {
+        return "()";
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.heart4it.codesupport;
+
+/**
+ * Shared {@code Ok} and {@code Some} instances for the values returned most often: booleans,
+ * small integers, {@link Unit} and, for {@code Ok}, {@code null}. Like
+ * {@link Integer#valueOf(int)}, the range of cached integers is {@code [-128, 127]}.
+ */
+final class ValueCache {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private static final Result<?, ?> OK_NULL = new Result.Ok<>(null);
+    private static final Result<?, ?> OK_UNIT = new Result.Ok<>(Unit.INSTANCE);
+    private static final Result<?, ?> OK_TRUE = new Result.Ok<>(Boolean.TRUE);
+    private static final Result<?, ?> OK_FALSE = new Result.Ok<>(Boolean.FALSE);
+    private static final Result<?, ?>[] OK_INTS = new Result<?, ?>[HIGH - LOW + 1];
+
+    private static final Option<?> SOME_UNIT = new Option.Some<>(Unit.INSTANCE);
+    private static final Option<?> SOME_TRUE = new Option.Some<>(Boolean.TRUE);
+    private static final Option<?> SOME_FALSE = new Option.Some<>(Boolean.FALSE);
+    private static final Option<?>[] SOME_INTS = new Option<?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < OK_INTS.length; i++) {
+            Integer value = LOW + i;
+            OK_INTS[i] = new Result.Ok<>(value);
+            SOME_INTS[i] = new Option.Some<>(value);
+        }
+    }
+
+    private ValueCache() {
+    }
+
+    /**
+     * Returns the shared {@code Ok(value)}, or {@code null} if {@code value} is not cached.
+     */
+    static Result<?, ?> ok(Object value) {
+        if (value == null) {
+            return OK_NULL;
+        } else if (value instanceof Boolean b) {
+            return b ? OK_TRUE : OK_FALSE;
+        } else if (value instanceof Integer i) {
+            int n = i;
+            return n >= LOW && n <= HIGH ? OK_INTS[n - LOW] : null;
+        } else if (value == Unit.INSTANCE) {
+            return OK_UNIT;
+        }
+        return null;
+    }
+
+    static Result<?, ?> okUnit() {
+        return OK_UNIT;
+    }
+
+    /**
+     * Returns the shared {@code Some(value)}, or {@code null} if {@code value} is not cached.
+     */
+    static Option<?> some(Object value) {
+        if (value instanceof Boolean b) {
+            return b ? SOME_TRUE : SOME_FALSE;
+        } else if (value instanceof Integer i) {
+            int n = i;
+            return n >= LOW && n <= HIGH ? SOME_INTS[n - LOW] : null;
+        } else if (value == Unit.INSTANCE) {
+            return SOME_UNIT;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.heart4it.codesupport;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs blocking tasks on virtual threads, one thread per task. The returned futures
+ * interrupt their thread when cancelled, so cancelling a sibling actually stops a
+ * blocked call instead of leaving it running in the background like
+ * {@link CompletableFuture#supplyAsync} does.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Starts {@code task} on a new virtual thread.
+     *
+     * @param <T>  the type of the task's result
+     * @param task the blocking task
+     * @return a future completing with the task's result or exception; cancelling it
+     *         interrupts the task's thread
+     */
+    static <T> CompletableFuture<T> supplyAsync(Callable<? extends T> task) {
+        TaskFuture<T> future = new TaskFuture<>(task);
+        future.thread.start();
+        return future;
+    }
+
+    /**
+     * Runs {@code task} on a new virtual thread, so that user code never runs on the shared
+     * timer thread.
+     *
+     * @param task the task to run
+     */
+    static void execute(Runnable task) {
+        Thread.ofVirtual().name("codesupport-task").start(task);
+    }
+
+    private static final class TaskFuture<T> extends CompletableFuture<T> {
+
+        private final Thread thread;
+
+        TaskFuture(Callable<? extends T> task) {
+            this.thread = Thread.ofVirtual().name("codesupport-task").unstarted(() -> {
+                try {
+                    complete(task.call());
+                } catch (Throwable t) {
+                    completeExceptionally(t);
+                }
+            });
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                thread.interrupt();
+            }
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.heart4it.codesupport;
+
+import org.junit.jupiter.api.Assumptions;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Test helper that measures how many heap bytes the current thread allocates
+ * while running an action.
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Runs {@code action} {@code iterations} times after an equally long warm-up and
+     * returns the number of bytes allocated by the current thread during the measured run.
+     * The calling test is skipped if the JVM does not support allocation tracking, so that it
+     * cannot pass without measuring anything.
+     *
+     * @param iterations how often the action is executed
+     * @param action     the action to measure
+     * @return the allocated bytes
+     */
+    public static long allocatedBytes(int iterations, Runnable action) {
+        Assumptions.assumeTrue(
+                THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled(),
+                "thread allocation tracking is not available");
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        return THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.heart4it.codesupport;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test helper that waits for state changes made by another thread.
+ */
+public final class Awaits {
+
+    private Awaits() {
+    }
+
+    /**
+     * Spins until {@code future} is cancelled or five seconds have passed. Losing attempts and
+     * timed-out futures are cancelled by the completing thread right after the {@code Result}
+     * is published, so a test that has already seen the {@code Result} may still have to wait.
+     *
+     * @param future the future expected to be cancelled
+     * @return {@code true} if the future was cancelled in time
+     */
+    public static boolean cancelled(Future<?> future) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!future.isCancelled() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return future.isCancelled();
+    }
+}
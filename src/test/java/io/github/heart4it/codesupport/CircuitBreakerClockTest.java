@@ -0,0 +1,95 @@
+package io.github.heart4it.codesupport;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the time-dependent transitions of CircuitBreaker, driven by a manual clock
+ */
+public class CircuitBreakerClockTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMinutes(10);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker<String> breaker() {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+                0.5, 1.0, Duration.ofSeconds(10), Duration.ofSeconds(60), 6, 4, OPEN_DURATION);
+        return CircuitBreaker.of("open", settings, now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void state_BeforeOpenDuration_ShouldStayOpen() {
+        // Given
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) breaker.call(() -> Result.err("bad"));
+
+        // When
+        advance(OPEN_DURATION.minusNanos(1));
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Result.err("open"), breaker.call(() -> Result.ok(1)));
+    }
+
+    @Test
+    void call_AfterOpenDuration_ShouldProbeAndCloseOnSuccess() {
+        // Given
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) breaker.call(() -> Result.err("bad"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        // When
+        advance(OPEN_DURATION);
+        Result<Integer, String> probe = breaker.call(() -> Result.ok(7));
+
+        // Then
+        assertEquals(Result.ok(7), probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void call_FailedProbe_ShouldReopen() {
+        // Given
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) breaker.call(() -> Result.err("bad"));
+
+        // When
+        advance(OPEN_DURATION);
+        Result<Integer, String> probe = breaker.call(() -> Result.err("still bad"));
+
+        // Then
+        assertEquals(Result.err("still bad"), probe);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Result.err("open"), breaker.call(() -> Result.ok(1)));
+    }
+
+    @Test
+    void callAsync_ProbeNeverCompletes_ShouldLetNextProbeThroughAfterOpenDuration() {
+        // Given
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) breaker.call(() -> Result.err("bad"));
+        advance(OPEN_DURATION);
+        CompletableFuture<Result<Integer, String>> hung = breaker.callAsync(CompletableFuture::new);
+        assertFalse(hung.isDone());
+
+        // When
+        Result<Integer, String> whileProbing = breaker.call(() -> Result.ok(1));
+        advance(OPEN_DURATION);
+        Result<Integer, String> nextProbe = breaker.call(() -> Result.ok(2));
+
+        // Then
+        assertEquals(Result.err("open"), whileProbing);
+        assertEquals(Result.ok(2), nextProbe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
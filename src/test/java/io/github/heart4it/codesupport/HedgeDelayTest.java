@@ -0,0 +1,57 @@
+package io.github.heart4it.codesupport;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for HedgeDelay
+ */
+public class HedgeDelayTest {
+
+    @Test
+    void fixed_ShouldIgnoreRecordedLatencies() {
+        // Given
+        HedgeDelay delay = HedgeDelay.fixed(Duration.ofMillis(5));
+
+        // When
+        for (int i = 0; i < 100; i++) delay.record(1_000_000_000L);
+
+        // Then
+        assertEquals(Duration.ofMillis(5), delay.delay());
+    }
+
+    @Test
+    void percentile_ShouldUseInitialDelayUntilEnoughSamples() {
+        // Given
+        HedgeDelay delay = HedgeDelay.percentile(0.9, Duration.ofMillis(50));
+
+        // When
+        for (int i = 0; i < 10; i++) delay.record(1_000L);
+
+        // Then
+        assertEquals(Duration.ofMillis(50), delay.delay());
+    }
+
+    @Test
+    void percentile_ShouldFollowRecordedLatencies() {
+        // Given
+        HedgeDelay delay = HedgeDelay.percentile(0.9, Duration.ofMillis(50));
+
+        // When
+        for (int i = 1; i <= 256; i++) delay.record(i * 1_000L);
+
+        // Then
+        assertEquals(Duration.ofNanos(231_000L), delay.delay());
+    }
+
+    @Test
+    void factories_InvalidArguments_ShouldThrow() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> HedgeDelay.fixed(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> HedgeDelay.percentile(0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> HedgeDelay.percentile(1.5, Duration.ZERO));
+    }
+}
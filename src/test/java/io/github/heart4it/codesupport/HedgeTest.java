@@ -0,0 +1,190 @@
+package io.github.heart4it.codesupport;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Hedge
+ */
+public class HedgeTest {
+
+    private static final HedgeDelay NEVER = HedgeDelay.fixed(Duration.ofHours(1));
+
+    private final List<ScheduledFuture<?>> timers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> due = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+
+    private ScheduledFuture<?> recordingSchedule(Runnable task, long delayNanos) {
+        ScheduledFuture<?> timer = SharedScheduler.schedule(task, delayNanos);
+        timers.add(timer);
+        return timer;
+    }
+
+    /** Keeps the task until the test fires it; firing moves the manual clock past the delay. */
+    private ScheduledFuture<?> manualSchedule(Runnable task, long delayNanos) {
+        due.add(() -> {
+            now.addAndGet(delayNanos);
+            task.run();
+        });
+        return recordingSchedule(() -> { }, TimeUnit.HOURS.toNanos(1));
+    }
+
+    @Test
+    void start_PrimaryFast_ShouldCancelBackupTimer() {
+        // Given
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        Hedge<String, String> hedge = new Hedge<>(() -> {
+            started.incrementAndGet();
+            return primary;
+        }, 3, NEVER, Throwable::getMessage, String::concat, this::recordingSchedule);
+
+        // When
+        CompletableFuture<Result<String, String>> outcome = hedge.start();
+        primary.complete("primary");
+
+        // Then
+        assertEquals(Result.ok("primary"), outcome.join());
+        assertEquals(1, started.get());
+        assertEquals(1, timers.size());
+        assertTrue(timers.get(0).isCancelled());
+    }
+
+    @Test
+    void start_SeveralAttemptsLaunched_ShouldCancelEveryTimer() {
+        // Given
+        AtomicInteger n = new AtomicInteger();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        Hedge<String, String> hedge = new Hedge<>(() -> n.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new IllegalStateException("down"))
+                : second,
+                3, NEVER, Throwable::getMessage, String::concat, this::recordingSchedule);
+
+        // When
+        CompletableFuture<Result<String, String>> outcome = hedge.start();
+        second.complete("second");
+
+        // Then
+        assertEquals(Result.ok("second"), outcome.join());
+        assertEquals(2, timers.size());
+        assertTrue(timers.get(0).isCancelled());
+        assertTrue(timers.get(1).isCancelled());
+    }
+
+    @Test
+    void start_AttemptFails_ShouldCancelItsTimerBeforeLaunchingReplacement() {
+        // Given
+        AtomicInteger n = new AtomicInteger();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        Hedge<String, String> hedge = new Hedge<>(() -> n.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new IllegalStateException("down"))
+                : second,
+                3, NEVER, Throwable::getMessage, String::concat, this::recordingSchedule);
+
+        // When
+        CompletableFuture<Result<String, String>> outcome = hedge.start();
+
+        // Then
+        assertFalse(outcome.isDone());
+        assertEquals(2, n.get());
+        assertEquals(2, timers.size());
+        assertTrue(timers.get(0).isCancelled());
+        assertFalse(timers.get(1).isCancelled());
+        second.complete("second");
+        assertEquals(Result.ok("second"), outcome.join());
+    }
+
+    @Test
+    void start_ErrorMapperThrows_ShouldCompleteExceptionally() {
+        // Given
+        Hedge<String, String> hedge = new Hedge<>(
+                () -> CompletableFuture.failedFuture(new IllegalStateException("down")),
+                2, NEVER, e -> { throw new IllegalArgumentException("mapper broke"); }, String::concat, this::recordingSchedule);
+
+        // When
+        CompletableFuture<Result<String, String>> outcome = hedge.start();
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, outcome::join);
+        assertEquals("mapper broke", thrown.getCause().getMessage());
+        assertTrue(timers.get(0).isCancelled());
+    }
+
+    @Test
+    void start_BackupWins_ShouldRecordLatencyFromStartOfCallSoDelayDoesNotShrink() {
+        // Given
+        HedgeDelay delay = HedgeDelay.percentile(0.5, Duration.ofMillis(20));
+
+        // When
+        for (int i = 0; i < 64; i++) {
+            AtomicInteger n = new AtomicInteger();
+            Hedge<String, String> hedge = new Hedge<>(() -> n.incrementAndGet() == 1
+                    ? new CompletableFuture<>()
+                    : CompletableFuture.completedFuture("backup"),
+                    2, delay, Throwable::getMessage, String::concat, this::manualSchedule, Runnable::run, now::get);
+            CompletableFuture<Result<String, String>> outcome = hedge.start();
+            due.remove(0).run();
+            assertEquals(Result.ok("backup"), outcome.join());
+        }
+
+        // Then
+        assertEquals(Duration.ofMillis(20), delay.delay());
+    }
+
+    @Test
+    void start_TimerFires_ShouldLaunchBackupOnExecutor() {
+        // Given
+        List<Runnable> submitted = new ArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+        Hedge<String, String> hedge = new Hedge<>(() -> {
+            started.incrementAndGet();
+            return new CompletableFuture<>();
+        }, 2, HedgeDelay.fixed(Duration.ofMillis(5)), Throwable::getMessage, String::concat,
+                this::manualSchedule, submitted::add, now::get);
+
+        // When
+        hedge.start();
+        due.remove(0).run();
+
+        // Then
+        assertEquals(1, started.get());
+        assertEquals(1, submitted.size());
+        submitted.get(0).run();
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    void start_AttemptThrowsError_ShouldCompleteExceptionallyAndCancelEverything() {
+        // Given
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        AtomicInteger n = new AtomicInteger();
+        Hedge<String, String> hedge = new Hedge<>(() -> {
+            if (n.incrementAndGet() == 2) throw new AssertionError("broken");
+            return primary;
+        }, 3, HedgeDelay.fixed(Duration.ofMillis(5)), Throwable::getMessage, String::concat,
+                this::manualSchedule, Runnable::run, now::get);
+
+        // When
+        CompletableFuture<Result<String, String>> outcome = hedge.start();
+        due.remove(0).run();
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, outcome::join);
+        assertTrue(thrown.getCause() instanceof AssertionError);
+        assertTrue(primary.isCancelled());
+        assertTrue(timers.get(0).isCancelled());
+        assertEquals(1, timers.size());
+    }
+}
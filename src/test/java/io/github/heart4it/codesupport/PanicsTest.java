@@ -0,0 +1,72 @@
+package io.github.heart4it.codesupport;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Panics
+ */
+public class PanicsTest {
+
+    private static <T extends Throwable> T thrownWith(Panics.Mode mode, Class<T> type, Runnable body) {
+        return Panics.withMode(mode, () -> assertThrows(type, body::run));
+    }
+
+    @Test
+    void defaultMode_ShouldThrowWithStackTrace() {
+        // When
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> Option.None().unwrap());
+
+        // Then
+        assertEquals(Panics.Mode.FULL_STACK_TRACE, Panics.mode());
+        assertEquals("called unwrap() on None", e.getMessage());
+        assertTrue(e.getStackTrace().length > 0);
+    }
+
+    @Test
+    void stacklessMode_ShouldThrowSameTypeWithoutStackTrace() {
+        // When
+        NoSuchElementException unwrap = thrownWith(Panics.Mode.STACKLESS, NoSuchElementException.class, () -> Result.err("bad").unwrap());
+        NoSuchElementException expect = thrownWith(Panics.Mode.STACKLESS, NoSuchElementException.class, () -> Option.None().expect("needed"));
+        IllegalStateException toOptional = thrownWith(Panics.Mode.STACKLESS, IllegalStateException.class, () -> Result.err("bad").toOptionalOrThrow());
+
+        // Then
+        assertEquals("called unwrap() on Err", unwrap.getMessage());
+        assertEquals("needed", expect.getMessage());
+        assertEquals("Cannot convert Err to Optional: bad", toOptional.getMessage());
+        assertEquals(0, unwrap.getStackTrace().length);
+        assertEquals(0, expect.getStackTrace().length);
+        assertEquals(0, toOptional.getStackTrace().length);
+        assertNotSame(unwrap, thrownWith(Panics.Mode.STACKLESS, NoSuchElementException.class, () -> Result.err("bad").unwrap()));
+    }
+
+    @Test
+    void withMode_ShouldRestorePreviousModeAfterwards() {
+        // When
+        Panics.Mode inner = Panics.withMode(Panics.Mode.STACKLESS,
+                () -> Panics.withMode(Panics.Mode.FULL_STACK_TRACE, Panics::mode));
+        Panics.Mode outer = Panics.withMode(Panics.Mode.STACKLESS, Panics::mode);
+
+        // Then
+        assertEquals(Panics.Mode.FULL_STACK_TRACE, inner);
+        assertEquals(Panics.Mode.STACKLESS, outer);
+        assertEquals(Panics.Mode.FULL_STACK_TRACE, Panics.mode());
+    }
+
+    @Test
+    void setMode_ShouldApplyGlobally() {
+        try {
+            // When
+            Panics.setMode(Panics.Mode.STACKLESS);
+            NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> ResultDouble.err("x").unwrap());
+
+            // Then
+            assertEquals(0, e.getStackTrace().length);
+        } finally {
+            Panics.setMode(Panics.Mode.FULL_STACK_TRACE);
+        }
+    }
+}
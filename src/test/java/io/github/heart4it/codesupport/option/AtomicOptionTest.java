@@ -0,0 +1,145 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.AtomicOption;
+import io.github.heart4it.codesupport.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicOptionTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    @Test
+    void givenCellWithValue_whenTake_thenValueIsMovedOut() {
+        // Given
+        AtomicOption<String> cell = new AtomicOption<>(Option.Some("a"));
+
+        // When
+        Option<String> taken = cell.take();
+
+        // Then
+        assertEquals(Option.Some("a"), taken);
+        assertTrue(cell.isNone());
+        assertSame(Option.None(), cell.take());
+    }
+
+    @Test
+    void givenCell_whenReplace_thenPreviousContentIsReturned() {
+        // Given
+        AtomicOption<String> cell = new AtomicOption<>();
+
+        // When
+        Option<String> first = cell.replace("a");
+        Option<String> second = cell.replace("b");
+
+        // Then
+        assertSame(Option.None(), first);
+        assertEquals(Option.Some("a"), second);
+        assertEquals(Option.Some("b"), cell.get());
+    }
+
+    @Test
+    void givenCell_whenInsert_thenValueIsStoredAndReturned() {
+        // Given
+        AtomicOption<String> cell = new AtomicOption<>(Option.Some("old"));
+
+        // When
+        String inserted = cell.insert("new");
+
+        // Then
+        assertEquals("new", inserted);
+        assertEquals(Option.Some("new"), cell.get());
+        assertThrows(NullPointerException.class, () -> cell.insert(null));
+    }
+
+    @Test
+    void givenFullCell_whenGetOrInsertWith_thenSupplierIsNotCalled() {
+        // Given
+        AtomicOption<String> cell = new AtomicOption<>(Option.Some("present"));
+
+        // When
+        String value = cell.getOrInsertWith(() -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertEquals("present", value);
+    }
+
+    @Test
+    void givenEmptyCell_whenGetOrInsertWith_thenSupplierRunsOnceAndValueIsKept() {
+        // Given
+        AtomicOption<String> cell = new AtomicOption<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String first = cell.getOrInsertWith(() -> "v" + calls.incrementAndGet());
+        String second = cell.getOrInsertWith(() -> "v" + calls.incrementAndGet());
+
+        // Then
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void givenCell_whenCompareAndSet_thenOnlyMatchingContentIsReplaced() {
+        // Given
+        String a = "a";
+        AtomicOption<String> cell = new AtomicOption<>();
+
+        // Then
+        assertFalse(cell.compareAndSet(Option.Some(a), Option.Some("b")));
+        assertTrue(cell.compareAndSet(Option.None(), Option.Some(a)));
+        assertTrue(cell.compareAndSet(Option.Some(a), Option.None()));
+        assertTrue(cell.isNone());
+    }
+
+    @Test
+    void givenConcurrentTakers_whenTake_thenExactlyOneReceivesTheValue() throws InterruptedException {
+        // Given
+        AtomicOption<String> cell = new AtomicOption<>(Option.Some("token"));
+        AtomicInteger winners = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (cell.take().isSome()) winners.incrementAndGet();
+            });
+            threads[i].start();
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+
+        // Then
+        assertEquals(1, winners.get());
+    }
+
+    @Test
+    void givenCell_whenUpdatedRepeatedly_thenCellDoesNotAllocate() {
+        // Given
+        AtomicOption<String> cell = new AtomicOption<>();
+        String value = "v";
+
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> {
+            cell.insert(value);
+            cell.compareAndSet(Option.None(), Option.None());
+            cell.getOrInsertWith(() -> value);
+        });
+
+        // Then
+        assertTrue(allocated < MEASUREMENT_SLACK, "allocated " + allocated + " bytes");
+    }
+}
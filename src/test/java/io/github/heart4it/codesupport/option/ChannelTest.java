@@ -0,0 +1,142 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.Channel;
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import io.github.heart4it.codesupport.Unit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    @Test
+    void givenEmptyChannel_whenTryRecv_thenNone() {
+        // Given
+        Channel<String> channel = Channel.bounded(4);
+
+        // Then
+        assertSame(Option.None(), channel.receiver().tryRecv());
+        assertEquals(0, channel.len());
+    }
+
+    @Test
+    void givenSentElements_whenTryRecv_thenReceivedInFifoOrder() {
+        // Given
+        Channel<String> channel = Channel.bounded(4);
+
+        // When
+        channel.sender().trySend("a");
+        channel.sender().trySend("b");
+
+        // Then
+        assertEquals(2, channel.len());
+        assertEquals(Option.Some("a"), channel.receiver().tryRecv());
+        assertEquals(Option.Some("b"), channel.receiver().tryRecv());
+        assertTrue(channel.receiver().tryRecv().isNone());
+    }
+
+    @Test
+    void givenFullChannel_whenTrySend_thenElementIsHandedBack() {
+        // Given
+        Channel<String> channel = Channel.bounded(2);
+        Channel.Sender<String> sender = channel.sender();
+
+        // When
+        Result<Unit, String> first = sender.trySend("a");
+        Result<Unit, String> second = sender.trySend("b");
+        Result<Unit, String> rejected = sender.trySend("c");
+
+        // Then
+        assertEquals(Result.ok(Unit.INSTANCE), first);
+        assertTrue(second.isOk());
+        assertEquals(Result.err("c"), rejected);
+        channel.receiver().tryRecv();
+        assertTrue(sender.trySend("c").isOk());
+    }
+
+    @Test
+    void givenCapacity_whenBounded_thenRoundedUpToPowerOfTwo() {
+        // Then
+        assertEquals(2, Channel.bounded(1).capacity());
+        assertEquals(8, Channel.bounded(5).capacity());
+        assertEquals(8, Channel.bounded(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> Channel.bounded(0));
+        assertThrows(NullPointerException.class, () -> Channel.<String>bounded(2).sender().trySend(null));
+    }
+
+    @Test
+    void givenChannel_whenSendingAndReceivingManyLaps_thenSendDoesNotAllocate() {
+        // Given
+        Channel<String> channel = Channel.bounded(4);
+        Channel.Sender<String> sender = channel.sender();
+        Channel.Receiver<String> receiver = channel.receiver();
+        String value = "v";
+
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> {
+            sender.trySend(value);
+            sender.trySend(value);
+            receiver.tryRecv();
+            receiver.tryRecv();
+            receiver.tryRecv();
+        });
+
+        // Then: only the two Some per iteration are allocated
+        assertTrue(allocated < ITERATIONS * 2L * 24 + MEASUREMENT_SLACK, "allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @Timeout(10)
+    void givenManyProducersAndConsumers_whenExchanging_thenEveryElementIsReceivedOnce() throws InterruptedException {
+        // Given
+        Channel<Long> channel = Channel.bounded(16);
+        int producers = 2;
+        int consumers = 2;
+        long perProducer = 5_000;
+        AtomicLong sum = new AtomicLong();
+        AtomicLong received = new AtomicLong();
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            long offset = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (long i = 1; i <= perProducer; i++) {
+                    while (channel.sender().trySend(offset + i).isErr()) Thread.yield();
+                }
+            });
+        }
+        long total = producers * perProducer;
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                while (received.get() < total) {
+                    Option<Long> value = channel.receiver().tryRecv();
+                    if (value instanceof Option.Some<Long> some) {
+                        sum.addAndGet(some.value());
+                        received.incrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+
+        // When: daemon threads, so that a lost element fails the test on timeout instead of
+        // keeping the JVM alive
+        for (Thread thread : threads) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        // Then
+        assertEquals(total, received.get());
+        assertEquals(total * (total + 1) / 2, sum.get());
+    }
+}
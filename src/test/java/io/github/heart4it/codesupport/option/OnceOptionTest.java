@@ -0,0 +1,175 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.OnceOption;
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OnceOptionTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    @Test
+    void givenNewCell_whenGet_thenNone() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+
+        // Then
+        assertSame(Option.None(), cell.get());
+        assertFalse(cell.isInitialized());
+    }
+
+    @Test
+    void givenCell_whenGetOrInitTwice_thenInitializerRunsOnce() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String first = cell.getOrInit(() -> "v" + calls.incrementAndGet());
+        String second = cell.getOrInit(() -> "v" + calls.incrementAndGet());
+
+        // Then
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals(1, calls.get());
+        assertEquals(Option.Some("v1"), cell.get());
+    }
+
+    @Test
+    void givenInitializedCell_whenGet_thenSameSomeInstanceWithoutAllocation() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+        cell.getOrInit(() -> "value");
+
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> {
+            cell.get();
+            cell.getOrInit(() -> "other");
+        });
+
+        // Then
+        assertSame(cell.get(), cell.get());
+        assertTrue(allocated < MEASUREMENT_SLACK, "allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void givenCell_whenSet_thenOnlyFirstValueIsKept() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+
+        // Then
+        assertTrue(cell.set("first"));
+        assertFalse(cell.set("second"));
+        assertEquals("first", cell.getOrInit(() -> "third"));
+    }
+
+    @Test
+    void givenFailingInitializer_whenGetOrTryInit_thenFailureIsNotCached() {
+        // Given
+        OnceOption<Integer> cell = new OnceOption<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Result<Integer, String> failed = cell.getOrTryInit(() -> calls.incrementAndGet() == 1 ? Result.err("unavailable") : Result.ok(7));
+        Result<Integer, String> succeeded = cell.getOrTryInit(() -> calls.incrementAndGet() == 1 ? Result.err("unavailable") : Result.ok(7));
+        Result<Integer, String> cached = cell.getOrTryInit(() -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertEquals(Result.err("unavailable"), failed);
+        assertEquals(Result.ok(7), succeeded);
+        assertEquals(Result.ok(7), cached);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void givenConcurrentCallers_whenGetOrInit_thenInitializerRunsExactlyOnce() throws InterruptedException {
+        // Given
+        OnceOption<Object> cell = new OnceOption<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Object[] seen = new Object[8];
+        Thread[] threads = new Thread[seen.length];
+        for (int i = 0; i < threads.length; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                seen[index] = cell.getOrInit(() -> {
+                    calls.incrementAndGet();
+                    return new Object();
+                });
+            });
+            threads[i].start();
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+
+        // Then
+        assertEquals(1, calls.get());
+        for (Object value : seen) assertSame(seen[0], value);
+    }
+
+    @Test
+    void givenReentrantInitializer_whenGetOrInit_thenIllegalStateException() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+
+        // Then
+        assertThrows(IllegalStateException.class, () -> cell.getOrInit(() -> cell.getOrInit(() -> "inner")));
+        assertFalse(cell.isInitialized());
+    }
+
+    @Test
+    void givenInitializer_whenItCallsSet_thenIllegalStateExceptionAndCellStaysEmpty() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+
+        // Then
+        assertThrows(IllegalStateException.class, () -> cell.getOrInit(() -> {
+            cell.set("inner");
+            return "outer";
+        }));
+        assertFalse(cell.isInitialized());
+    }
+
+    @Test
+    void givenInitializedCell_whenGetOrTryInit_thenSameOkWithoutAllocation() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+        cell.set("value");
+
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> cell.getOrTryInit(() -> Result.ok("other")));
+
+        // Then
+        assertSame(cell.getOrTryInit(() -> Result.ok("other")), cell.getOrTryInit(() -> Result.err("unused")));
+        assertEquals(Result.ok("value"), cell.getOrTryInit(() -> Result.ok("other")));
+        assertTrue(allocated < MEASUREMENT_SLACK, "allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void givenFailingInitializer_whenGetOrTryInit_thenSameErrIsReturned() {
+        // Given
+        OnceOption<String> cell = new OnceOption<>();
+        Result<String, String> failure = Result.err("unavailable");
+
+        // When
+        Result<String, String> result = cell.getOrTryInit(() -> failure);
+
+        // Then
+        assertSame(failure, result);
+    }
+}
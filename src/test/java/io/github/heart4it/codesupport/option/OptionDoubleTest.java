@@ -0,0 +1,178 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.OptionDouble;
+import io.github.heart4it.codesupport.ResultDouble;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionDoubleTest {
+
+    @Test
+    void givenSome_whenQueried_thenValueIsPresent() {
+        // Given
+        OptionDouble some = OptionDouble.Some(4.5);
+
+        // Then
+        assertTrue(some.isSome());
+        assertFalse(some.isNone());
+        assertEquals(4.5, some.unwrap());
+        assertEquals(4.5, some.expect("present"));
+        assertEquals("Some(4.5)", some.toDebugString());
+    }
+
+    @Test
+    void givenNone_whenQueried_thenSharedEmptyInstanceIsReturned() {
+        // Given
+        OptionDouble none = OptionDouble.None();
+
+        // Then
+        assertTrue(none.isNone());
+        assertSame(none, OptionDouble.None());
+        assertEquals(new OptionDouble.None(), none);
+        assertEquals("None", none.toDebugString());
+        assertThrows(NoSuchElementException.class, none::unwrap);
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> none.expect("missing"));
+        assertEquals("missing", e.getMessage());
+    }
+
+    @Test
+    void givenSome_whenMapAndFilter_thenPrimitiveResultIsReturned() {
+        // Given
+        OptionDouble some = OptionDouble.Some(4.5);
+
+        // When
+        OptionDouble doubled = some.map(v -> v * 2);
+        OptionDouble kept = some.filter(v -> v > 1.5);
+        OptionDouble dropped = some.filter(v -> v < 1.5);
+
+        // Then
+        assertEquals(OptionDouble.Some(9.0), doubled);
+        assertSame(some, kept);
+        assertSame(OptionDouble.None(), dropped);
+    }
+
+    @Test
+    void givenNone_whenMapAndFilter_thenFunctionsAreNotCalled() {
+        // Given
+        OptionDouble none = OptionDouble.None();
+
+        // When
+        OptionDouble mapped = none.map(v -> { throw new AssertionError("not called"); });
+        OptionDouble filtered = none.filter(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertSame(none, mapped);
+        assertSame(none, filtered);
+    }
+
+    @Test
+    void givenSomeAndNone_whenUnwrapOr_thenDefaultOnlyUsedForNone() {
+        // Then
+        assertEquals(4.5, OptionDouble.Some(4.5).unwrapOr(1.5));
+        assertEquals(1.5, OptionDouble.None().unwrapOr(1.5));
+        assertEquals(1.5, OptionDouble.None().unwrapOrElse(() -> 1.5));
+        assertEquals(1.5, OptionDouble.None().mapOr(1.5, v -> v * 2));
+        assertEquals(9.0, OptionDouble.Some(4.5).mapOr(1.5, v -> v * 2));
+    }
+
+    @Test
+    void givenSomeAndNone_whenOkOr_thenResultIsReturned() {
+        // Then
+        assertEquals(ResultDouble.ok(4.5), OptionDouble.Some(4.5).okOr("missing"));
+        assertEquals(ResultDouble.err("missing"), OptionDouble.None().okOr("missing"));
+        assertEquals(ResultDouble.err("computed"), OptionDouble.None().okOrElse(() -> "computed"));
+    }
+
+    @Test
+    void givenTwoOptions_whenZipWith_thenCombinedOnlyIfBothSome() {
+        // Given
+        OptionDouble a = OptionDouble.Some(4.5);
+        OptionDouble b = OptionDouble.Some(1.5);
+
+        // Then
+        assertEquals(OptionDouble.Some(6.0), OptionDouble.zipWith(a, b, Double::sum));
+        assertTrue(OptionDouble.zipWith(a, OptionDouble.None(), Double::sum).isNone());
+        assertTrue(OptionDouble.zipWith(OptionDouble.None(), b, Double::sum).isNone());
+    }
+
+    @Test
+    void givenSome_whenIsSomeAndOrIsNoneOr_thenPredicateIsApplied() {
+        // Given
+        OptionDouble some = OptionDouble.Some(4.5);
+        OptionDouble none = OptionDouble.None();
+
+        // Then
+        assertTrue(some.isSomeAnd(v -> v > 1.5));
+        assertFalse(some.isSomeAnd(v -> v < 1.5));
+        assertFalse(none.isSomeAnd(v -> true));
+        assertTrue(none.isNoneOr(v -> false));
+        assertFalse(some.isNoneOr(v -> v < 1.5));
+    }
+
+    @Test
+    void givenOptions_whenChained_thenAndOrBehaveLikeOption() {
+        // Given
+        OptionDouble some = OptionDouble.Some(4.5);
+        OptionDouble other = OptionDouble.Some(1.5);
+        OptionDouble none = OptionDouble.None();
+
+        // Then
+        assertSame(other, some.and(other));
+        assertSame(none, none.and(other));
+        assertSame(some, some.or(other));
+        assertSame(other, none.or(other));
+        assertSame(other, none.orElse(() -> other));
+        assertEquals(OptionDouble.Some(4.5), some.andThen(OptionDouble::Some));
+        assertSame(none, none.andThen(OptionDouble::Some));
+    }
+
+    @Test
+    void givenSome_whenInspect_thenActionReceivesValue() {
+        // Given
+        double[] seen = new double[1];
+
+        // When
+        OptionDouble result = OptionDouble.Some(4.5).inspect(v -> seen[0] = v);
+        OptionDouble.None().inspect(v -> seen[0] = 1.5);
+
+        // Then
+        assertEquals(4.5, seen[0]);
+        assertEquals(OptionDouble.Some(4.5), result);
+    }
+
+    @Test
+    void givenOptionalDouble_whenConverted_thenRoundTripsThroughOptionDouble() {
+        // Then
+        assertEquals(OptionDouble.Some(4.5), OptionDouble.fromOptional(OptionalDouble.of(4.5)));
+        assertSame(OptionDouble.None(), OptionDouble.fromOptional(OptionalDouble.empty()));
+        assertEquals(OptionalDouble.of(4.5), OptionDouble.Some(4.5).toOptional());
+        assertEquals(OptionalDouble.empty(), OptionDouble.None().toOptional());
+    }
+
+    @Test
+    void givenOptions_whenStreamed_thenOnlySomeValuesAreEmitted() {
+        // When
+        double[] values = Stream.of(OptionDouble.Some(4.5), OptionDouble.None(), OptionDouble.Some(1.5))
+                .flatMapToDouble(OptionDouble::stream)
+                .toArray();
+
+        // Then
+        assertArrayEquals(new double[]{4.5, 1.5}, values);
+    }
+
+    @Test
+    void givenOptions_whenBoxedAndUnboxed_thenGenericOptionIsProducedOnRequest() {
+        // Then
+        assertEquals(Option.Some(4.5), OptionDouble.Some(4.5).boxed());
+        assertSame(Option.None(), OptionDouble.None().boxed());
+        assertEquals(OptionDouble.Some(4.5), OptionDouble.fromBoxed(Option.Some(4.5)));
+        assertSame(OptionDouble.None(), OptionDouble.fromBoxed(Option.None()));
+        assertEquals(Option.Some("v=4.5"), OptionDouble.Some(4.5).mapToObj(v -> "v=" + v));
+    }
+}
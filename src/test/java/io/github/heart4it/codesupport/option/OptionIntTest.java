@@ -0,0 +1,178 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.OptionInt;
+import io.github.heart4it.codesupport.ResultInt;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionIntTest {
+
+    @Test
+    void givenSome_whenQueried_thenValueIsPresent() {
+        // Given
+        OptionInt some = OptionInt.Some(42);
+
+        // Then
+        assertTrue(some.isSome());
+        assertFalse(some.isNone());
+        assertEquals(42, some.unwrap());
+        assertEquals(42, some.expect("present"));
+        assertEquals("Some(42)", some.toDebugString());
+    }
+
+    @Test
+    void givenNone_whenQueried_thenSharedEmptyInstanceIsReturned() {
+        // Given
+        OptionInt none = OptionInt.None();
+
+        // Then
+        assertTrue(none.isNone());
+        assertSame(none, OptionInt.None());
+        assertEquals(new OptionInt.None(), none);
+        assertEquals("None", none.toDebugString());
+        assertThrows(NoSuchElementException.class, none::unwrap);
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> none.expect("missing"));
+        assertEquals("missing", e.getMessage());
+    }
+
+    @Test
+    void givenSome_whenMapAndFilter_thenPrimitiveResultIsReturned() {
+        // Given
+        OptionInt some = OptionInt.Some(42);
+
+        // When
+        OptionInt doubled = some.map(v -> v * 2);
+        OptionInt kept = some.filter(v -> v > 7);
+        OptionInt dropped = some.filter(v -> v < 7);
+
+        // Then
+        assertEquals(OptionInt.Some(84), doubled);
+        assertSame(some, kept);
+        assertSame(OptionInt.None(), dropped);
+    }
+
+    @Test
+    void givenNone_whenMapAndFilter_thenFunctionsAreNotCalled() {
+        // Given
+        OptionInt none = OptionInt.None();
+
+        // When
+        OptionInt mapped = none.map(v -> { throw new AssertionError("not called"); });
+        OptionInt filtered = none.filter(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertSame(none, mapped);
+        assertSame(none, filtered);
+    }
+
+    @Test
+    void givenSomeAndNone_whenUnwrapOr_thenDefaultOnlyUsedForNone() {
+        // Then
+        assertEquals(42, OptionInt.Some(42).unwrapOr(7));
+        assertEquals(7, OptionInt.None().unwrapOr(7));
+        assertEquals(7, OptionInt.None().unwrapOrElse(() -> 7));
+        assertEquals(7, OptionInt.None().mapOr(7, v -> v * 2));
+        assertEquals(84, OptionInt.Some(42).mapOr(7, v -> v * 2));
+    }
+
+    @Test
+    void givenSomeAndNone_whenOkOr_thenResultIsReturned() {
+        // Then
+        assertEquals(ResultInt.ok(42), OptionInt.Some(42).okOr("missing"));
+        assertEquals(ResultInt.err("missing"), OptionInt.None().okOr("missing"));
+        assertEquals(ResultInt.err("computed"), OptionInt.None().okOrElse(() -> "computed"));
+    }
+
+    @Test
+    void givenTwoOptions_whenZipWith_thenCombinedOnlyIfBothSome() {
+        // Given
+        OptionInt a = OptionInt.Some(42);
+        OptionInt b = OptionInt.Some(7);
+
+        // Then
+        assertEquals(OptionInt.Some(49), OptionInt.zipWith(a, b, Integer::sum));
+        assertTrue(OptionInt.zipWith(a, OptionInt.None(), Integer::sum).isNone());
+        assertTrue(OptionInt.zipWith(OptionInt.None(), b, Integer::sum).isNone());
+    }
+
+    @Test
+    void givenSome_whenIsSomeAndOrIsNoneOr_thenPredicateIsApplied() {
+        // Given
+        OptionInt some = OptionInt.Some(42);
+        OptionInt none = OptionInt.None();
+
+        // Then
+        assertTrue(some.isSomeAnd(v -> v > 7));
+        assertFalse(some.isSomeAnd(v -> v < 7));
+        assertFalse(none.isSomeAnd(v -> true));
+        assertTrue(none.isNoneOr(v -> false));
+        assertFalse(some.isNoneOr(v -> v < 7));
+    }
+
+    @Test
+    void givenOptions_whenChained_thenAndOrBehaveLikeOption() {
+        // Given
+        OptionInt some = OptionInt.Some(42);
+        OptionInt other = OptionInt.Some(7);
+        OptionInt none = OptionInt.None();
+
+        // Then
+        assertSame(other, some.and(other));
+        assertSame(none, none.and(other));
+        assertSame(some, some.or(other));
+        assertSame(other, none.or(other));
+        assertSame(other, none.orElse(() -> other));
+        assertEquals(OptionInt.Some(42), some.andThen(OptionInt::Some));
+        assertSame(none, none.andThen(OptionInt::Some));
+    }
+
+    @Test
+    void givenSome_whenInspect_thenActionReceivesValue() {
+        // Given
+        int[] seen = new int[1];
+
+        // When
+        OptionInt result = OptionInt.Some(42).inspect(v -> seen[0] = v);
+        OptionInt.None().inspect(v -> seen[0] = 7);
+
+        // Then
+        assertEquals(42, seen[0]);
+        assertEquals(OptionInt.Some(42), result);
+    }
+
+    @Test
+    void givenOptionalInt_whenConverted_thenRoundTripsThroughOptionInt() {
+        // Then
+        assertEquals(OptionInt.Some(42), OptionInt.fromOptional(OptionalInt.of(42)));
+        assertSame(OptionInt.None(), OptionInt.fromOptional(OptionalInt.empty()));
+        assertEquals(OptionalInt.of(42), OptionInt.Some(42).toOptional());
+        assertEquals(OptionalInt.empty(), OptionInt.None().toOptional());
+    }
+
+    @Test
+    void givenOptions_whenStreamed_thenOnlySomeValuesAreEmitted() {
+        // When
+        int[] values = Stream.of(OptionInt.Some(42), OptionInt.None(), OptionInt.Some(7))
+                .flatMapToInt(OptionInt::stream)
+                .toArray();
+
+        // Then
+        assertArrayEquals(new int[]{42, 7}, values);
+    }
+
+    @Test
+    void givenOptions_whenBoxedAndUnboxed_thenGenericOptionIsProducedOnRequest() {
+        // Then
+        assertEquals(Option.Some(42), OptionInt.Some(42).boxed());
+        assertSame(Option.None(), OptionInt.None().boxed());
+        assertEquals(OptionInt.Some(42), OptionInt.fromBoxed(Option.Some(42)));
+        assertSame(OptionInt.None(), OptionInt.fromBoxed(Option.None()));
+        assertEquals(Option.Some("v=42"), OptionInt.Some(42).mapToObj(v -> "v=" + v));
+    }
+}
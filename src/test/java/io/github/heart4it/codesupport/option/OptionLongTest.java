@@ -0,0 +1,178 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.OptionLong;
+import io.github.heart4it.codesupport.ResultLong;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionLongTest {
+
+    @Test
+    void givenSome_whenQueried_thenValueIsPresent() {
+        // Given
+        OptionLong some = OptionLong.Some(42L);
+
+        // Then
+        assertTrue(some.isSome());
+        assertFalse(some.isNone());
+        assertEquals(42L, some.unwrap());
+        assertEquals(42L, some.expect("present"));
+        assertEquals("Some(42)", some.toDebugString());
+    }
+
+    @Test
+    void givenNone_whenQueried_thenSharedEmptyInstanceIsReturned() {
+        // Given
+        OptionLong none = OptionLong.None();
+
+        // Then
+        assertTrue(none.isNone());
+        assertSame(none, OptionLong.None());
+        assertEquals(new OptionLong.None(), none);
+        assertEquals("None", none.toDebugString());
+        assertThrows(NoSuchElementException.class, none::unwrap);
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> none.expect("missing"));
+        assertEquals("missing", e.getMessage());
+    }
+
+    @Test
+    void givenSome_whenMapAndFilter_thenPrimitiveResultIsReturned() {
+        // Given
+        OptionLong some = OptionLong.Some(42L);
+
+        // When
+        OptionLong doubled = some.map(v -> v * 2);
+        OptionLong kept = some.filter(v -> v > 7L);
+        OptionLong dropped = some.filter(v -> v < 7L);
+
+        // Then
+        assertEquals(OptionLong.Some(84), doubled);
+        assertSame(some, kept);
+        assertSame(OptionLong.None(), dropped);
+    }
+
+    @Test
+    void givenNone_whenMapAndFilter_thenFunctionsAreNotCalled() {
+        // Given
+        OptionLong none = OptionLong.None();
+
+        // When
+        OptionLong mapped = none.map(v -> { throw new AssertionError("not called"); });
+        OptionLong filtered = none.filter(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertSame(none, mapped);
+        assertSame(none, filtered);
+    }
+
+    @Test
+    void givenSomeAndNone_whenUnwrapOr_thenDefaultOnlyUsedForNone() {
+        // Then
+        assertEquals(42L, OptionLong.Some(42L).unwrapOr(7L));
+        assertEquals(7L, OptionLong.None().unwrapOr(7L));
+        assertEquals(7L, OptionLong.None().unwrapOrElse(() -> 7L));
+        assertEquals(7L, OptionLong.None().mapOr(7L, v -> v * 2));
+        assertEquals(84, OptionLong.Some(42L).mapOr(7L, v -> v * 2));
+    }
+
+    @Test
+    void givenSomeAndNone_whenOkOr_thenResultIsReturned() {
+        // Then
+        assertEquals(ResultLong.ok(42L), OptionLong.Some(42L).okOr("missing"));
+        assertEquals(ResultLong.err("missing"), OptionLong.None().okOr("missing"));
+        assertEquals(ResultLong.err("computed"), OptionLong.None().okOrElse(() -> "computed"));
+    }
+
+    @Test
+    void givenTwoOptions_whenZipWith_thenCombinedOnlyIfBothSome() {
+        // Given
+        OptionLong a = OptionLong.Some(42L);
+        OptionLong b = OptionLong.Some(7L);
+
+        // Then
+        assertEquals(OptionLong.Some(49), OptionLong.zipWith(a, b, Long::sum));
+        assertTrue(OptionLong.zipWith(a, OptionLong.None(), Long::sum).isNone());
+        assertTrue(OptionLong.zipWith(OptionLong.None(), b, Long::sum).isNone());
+    }
+
+    @Test
+    void givenSome_whenIsSomeAndOrIsNoneOr_thenPredicateIsApplied() {
+        // Given
+        OptionLong some = OptionLong.Some(42L);
+        OptionLong none = OptionLong.None();
+
+        // Then
+        assertTrue(some.isSomeAnd(v -> v > 7L));
+        assertFalse(some.isSomeAnd(v -> v < 7L));
+        assertFalse(none.isSomeAnd(v -> true));
+        assertTrue(none.isNoneOr(v -> false));
+        assertFalse(some.isNoneOr(v -> v < 7L));
+    }
+
+    @Test
+    void givenOptions_whenChained_thenAndOrBehaveLikeOption() {
+        // Given
+        OptionLong some = OptionLong.Some(42L);
+        OptionLong other = OptionLong.Some(7L);
+        OptionLong none = OptionLong.None();
+
+        // Then
+        assertSame(other, some.and(other));
+        assertSame(none, none.and(other));
+        assertSame(some, some.or(other));
+        assertSame(other, none.or(other));
+        assertSame(other, none.orElse(() -> other));
+        assertEquals(OptionLong.Some(42L), some.andThen(OptionLong::Some));
+        assertSame(none, none.andThen(OptionLong::Some));
+    }
+
+    @Test
+    void givenSome_whenInspect_thenActionReceivesValue() {
+        // Given
+        long[] seen = new long[1];
+
+        // When
+        OptionLong result = OptionLong.Some(42L).inspect(v -> seen[0] = v);
+        OptionLong.None().inspect(v -> seen[0] = 7L);
+
+        // Then
+        assertEquals(42L, seen[0]);
+        assertEquals(OptionLong.Some(42L), result);
+    }
+
+    @Test
+    void givenOptionalLong_whenConverted_thenRoundTripsThroughOptionLong() {
+        // Then
+        assertEquals(OptionLong.Some(42L), OptionLong.fromOptional(OptionalLong.of(42L)));
+        assertSame(OptionLong.None(), OptionLong.fromOptional(OptionalLong.empty()));
+        assertEquals(OptionalLong.of(42L), OptionLong.Some(42L).toOptional());
+        assertEquals(OptionalLong.empty(), OptionLong.None().toOptional());
+    }
+
+    @Test
+    void givenOptions_whenStreamed_thenOnlySomeValuesAreEmitted() {
+        // When
+        long[] values = Stream.of(OptionLong.Some(42L), OptionLong.None(), OptionLong.Some(7L))
+                .flatMapToLong(OptionLong::stream)
+                .toArray();
+
+        // Then
+        assertArrayEquals(new long[]{42L, 7L}, values);
+    }
+
+    @Test
+    void givenOptions_whenBoxedAndUnboxed_thenGenericOptionIsProducedOnRequest() {
+        // Then
+        assertEquals(Option.Some(42L), OptionLong.Some(42L).boxed());
+        assertSame(Option.None(), OptionLong.None().boxed());
+        assertEquals(OptionLong.Some(42L), OptionLong.fromBoxed(Option.Some(42L)));
+        assertSame(OptionLong.None(), OptionLong.fromBoxed(Option.None()));
+        assertEquals(Option.Some("v=42"), OptionLong.Some(42L).mapToObj(v -> "v=" + v));
+    }
+}
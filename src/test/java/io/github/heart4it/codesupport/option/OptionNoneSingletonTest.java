@@ -0,0 +1,116 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionNoneSingletonTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    /**
+     * Upper bound for bytes attributed to the measurement itself, far below the
+     * 1.6 MB that a single 16 byte allocation per iteration would produce.
+     */
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    private static final Function<String, Option<String>> TO_SOME = Option::Some;
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Predicate<String> ALWAYS = s -> true;
+
+    @Test
+    void whenNoneCalledRepeatedly_thenSameInstanceIsReturned() {
+        // When
+        Option<String> first = Option.None();
+        Option<Integer> second = Option.None();
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    void givenNone_whenCombinatorsReturnNone_thenSharedInstanceIsReturned() {
+        // Given
+        Option<String> none = Option.None();
+        Option<String> some = Option.Some("value");
+
+        // Then
+        assertSame(none, none.and(some));
+        assertSame(none, none.andThen(TO_SOME));
+        assertSame(none, none.map(LENGTH));
+        assertSame(none, none.filter(ALWAYS));
+        assertSame(none, none.xor(none));
+        assertSame(none, none.take());
+        assertSame(none, none.takeIf(ALWAYS));
+        assertSame(none, none.replace("new"));
+        assertSame(none, Option.flatten(Option.<Option<String>>None()));
+        assertSame(none, Option.zip(some, none));
+        assertSame(none, Option.zipWith(none, some, (a, b) -> a + b));
+    }
+
+    @Test
+    void givenSome_whenCombinatorsProduceNone_thenSharedInstanceIsReturned() {
+        // Given
+        Option<String> none = Option.None();
+        Option<String> some = Option.Some("value");
+
+        // Then
+        assertSame(none, some.filter(s -> false));
+        assertSame(none, some.takeIf(s -> false));
+        assertSame(none, some.xor(Option.Some("other")));
+        assertSame(none, some.andThen(s -> Option.None()));
+        assertSame(none, Option.flatten(Option.Some(Option.<String>None())));
+        assertSame(none, Result.<String, Integer>err(1).ok());
+    }
+
+    @Test
+    void givenSeparatelyConstructedNone_whenCompared_thenEqualsAndHashCodeMatch() {
+        // Given
+        Option<String> shared = Option.None();
+        Option<String> constructed = new Option.None<>();
+
+        // Then
+        assertEquals(shared, constructed);
+        assertEquals(shared.hashCode(), constructed.hashCode());
+        assertEquals(constructed.toString(), shared.toString());
+    }
+
+    @Test
+    void givenSharedNone_whenPatternMatched_thenNoneBranchIsTaken() {
+        // Given
+        Option<String> none = Option.None();
+
+        // When
+        String result = none instanceof Option.Some<String> s ? s.value() : "none";
+
+        // Then
+        assertEquals("none", result);
+        assertTrue(none instanceof Option.None<String>);
+    }
+
+    @Test
+    void givenNone_whenPropagatedThroughCombinators_thenNothingIsAllocated() {
+        // Given
+        Option<String> none = Option.None();
+        Option<String> some = Option.Some("value");
+
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> {
+            Option<String> r = Option.None();
+            r = r.and(some).andThen(TO_SOME).filter(ALWAYS).xor(none).take().takeIf(ALWAYS).replace("x");
+            Option<Integer> mapped = r.map(LENGTH);
+            Option.zip(some, mapped);
+            Option.zipWith(mapped, some, (a, b) -> a);
+            Option.flatten(Option.<Option<String>>None());
+        });
+
+        // Then
+        assertTrue(allocated <= MEASUREMENT_SLACK, () -> "None path allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionSequenceTest {
+
+    @Test
+    void givenAllSome_whenSequence_thenSomeWithValuesInOrder() {
+        // Given
+        List<Option<Integer>> options = List.of(Option.Some(1), Option.Some(2), Option.Some(3));
+
+        // When
+        Option<List<Integer>> result = Option.sequence(options);
+
+        // Then
+        assertEquals(Option.Some(List.of(1, 2, 3)), result);
+    }
+
+    @Test
+    void givenOneNone_whenSequence_thenSharedNoneIsReturned() {
+        // Given
+        List<Option<Integer>> options = List.of(Option.Some(1), Option.None(), Option.Some(3));
+
+        // When
+        Option<List<Integer>> result = Option.sequence(options);
+
+        // Then
+        assertSame(Option.None(), result);
+    }
+
+    @Test
+    void givenEmptyList_whenSequence_thenSomeWithEmptyList() {
+        // When
+        Option<List<Integer>> result = Option.sequence(List.<Option<Integer>>of());
+
+        // Then
+        assertEquals(Option.Some(List.of()), result);
+    }
+
+    @Test
+    void givenNonRandomAccessCollections_whenSequence_thenValuesAreCollected() {
+        // Given
+        LinkedList<Option<String>> linked = new LinkedList<>(List.of(Option.Some("a"), Option.Some("b")));
+        Set<Option<String>> withNone = Set.of(Option.Some("a"), Option.None());
+
+        // Then
+        assertEquals(Option.Some(List.of("a", "b")), Option.sequence(linked));
+        assertTrue(Option.sequence(withNone).isNone());
+    }
+
+    @Test
+    void givenArray_whenSequence_thenBehavesLikeList() {
+        // Given
+        @SuppressWarnings("unchecked")
+        Option<Integer>[] all = (Option<Integer>[]) new Option<?>[]{Option.Some(1), Option.Some(2)};
+        @SuppressWarnings("unchecked")
+        Option<Integer>[] withNone = (Option<Integer>[]) new Option<?>[]{Option.Some(1), Option.None()};
+
+        // Then
+        assertEquals(Option.Some(List.of(1, 2)), Option.sequence(all));
+        assertSame(Option.None(), Option.sequence(withNone));
+    }
+}
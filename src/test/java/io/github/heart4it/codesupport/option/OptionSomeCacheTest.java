@@ -0,0 +1,67 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Unit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionSomeCacheTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    @Test
+    void givenBoolean_whenSomeCalledRepeatedly_thenSameInstanceIsReturned() {
+        // When & Then
+        assertSame(Option.Some(true), Option.Some(true));
+        assertSame(Option.Some(false), Option.Some(false));
+        assertNotEquals(Option.Some(true), Option.Some(false));
+    }
+
+    @Test
+    void givenSmallInteger_whenSomeCalledRepeatedly_thenSameInstanceIsReturned() {
+        // When & Then
+        assertSame(Option.Some(0), Option.Some(0));
+        assertSame(Option.Some(-128), Option.Some(-128));
+        assertSame(Option.Some(127), Option.Some(127));
+        assertEquals(42, Option.Some(42).unwrap());
+    }
+
+    @Test
+    void givenIntegerOutsideCache_whenSome_thenEqualValueIsReturned() {
+        // When
+        Option<Integer> first = Option.Some(128);
+        Option<Integer> second = Option.Some(128);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void givenUnit_whenSome_thenSameInstanceIsReturned() {
+        // When & Then
+        assertSame(Option.Some(Unit.INSTANCE), Option.Some(Unit.INSTANCE));
+    }
+
+    @Test
+    void givenNull_whenSome_thenNullPointerExceptionIsThrown() {
+        // When & Then
+        assertThrows(NullPointerException.class, () -> Option.Some(null));
+    }
+
+    @Test
+    void givenCachedValues_whenSomeCalledRepeatedly_thenNothingIsAllocated() {
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> {
+            Option.Some(true);
+            Option.Some(7);
+            Option.Some(Unit.INSTANCE);
+        });
+
+        // Then
+        assertTrue(allocated <= MEASUREMENT_SLACK, () -> "Some allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionStreamTest {
+
+    @Test
+    void givenSome_whenStream_thenSingleElementIsEmitted() {
+        // Given
+        Option<String> some = Option.Some("hello");
+
+        // When
+        List<String> values = some.stream().collect(Collectors.toList());
+
+        // Then
+        assertEquals(List.of("hello"), values);
+    }
+
+    @Test
+    void givenNone_whenStream_thenStreamIsEmpty() {
+        // Given
+        Option<String> none = Option.None();
+
+        // Then
+        assertEquals(0, none.stream().count());
+    }
+
+    @Test
+    void givenSome_whenSpliterator_thenReportsSizedImmutableNonNull() {
+        // Given
+        Option<String> some = Option.Some("hello");
+
+        // When
+        Spliterator<String> spliterator = some.spliterator();
+
+        // Then
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(1, spliterator.getExactSizeIfKnown());
+        assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    void givenSome_whenSpliteratorAdvanced_thenElementIsDeliveredOnce() {
+        // Given
+        Spliterator<String> spliterator = Option.Some("hello").spliterator();
+        List<String> seen = new ArrayList<>();
+
+        // When
+        boolean first = spliterator.tryAdvance(seen::add);
+        boolean second = spliterator.tryAdvance(seen::add);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(List.of("hello"), seen);
+        assertEquals(0, spliterator.estimateSize());
+    }
+
+    @Test
+    void givenNone_whenSpliteratorRequested_thenSharedEmptyInstanceIsReturned() {
+        // Given
+        Option<String> none = Option.None();
+        Option<Integer> other = Option.None();
+
+        // Then
+        assertSame(none.spliterator(), other.spliterator());
+        assertSame(none.iterator(), other.iterator());
+        assertEquals(0, none.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    void givenNone_whenSpliterator_thenReportsSameCharacteristicsAsSome() {
+        // Given
+        Spliterator<String> none = Option.<String>None().spliterator();
+        Spliterator<String> some = Option.Some("hello").spliterator();
+
+        // Then
+        assertEquals(some.characteristics(), none.characteristics());
+        assertEquals(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                | Spliterator.ORDERED | Spliterator.NONNULL, none.characteristics());
+        assertFalse(none.tryAdvance(value -> fail("no element expected")));
+        assertNull(none.trySplit());
+    }
+
+    @Test
+    void givenSome_whenUsedInForEachLoop_thenValueIsVisited() {
+        // Given
+        Option<String> some = Option.Some("item");
+        StringBuilder builder = new StringBuilder();
+
+        // When
+        for (String item : some) {
+            builder.append(item);
+        }
+
+        // Then
+        assertEquals("item", builder.toString());
+    }
+
+    @Test
+    void givenSome_whenIteratorExhausted_thenNextThrows() {
+        // Given
+        Iterator<String> iterator = Option.Some("x").iterator();
+
+        // When
+        String value = iterator.next();
+
+        // Then
+        assertEquals("x", value);
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void givenStreamOfOptions_whenFlattenStream_thenOnlySomeValuesRemainInOrder() {
+        // Given
+        Stream<Option<String>> options = Stream.of(Option.Some("a"), Option.None(), Option.Some("b"), Option.None());
+
+        // When
+        List<String> values = Option.flattenStream(options).collect(Collectors.toList());
+
+        // Then
+        assertEquals(List.of("a", "b"), values);
+    }
+
+    @Test
+    void givenParallelStreamOfOptions_whenFlattenStream_thenAllValuesAreKept() {
+        // Given
+        List<Option<Integer>> options = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            options.add(i % 3 == 0 ? Option.None() : Option.Some(i));
+        }
+
+        // When
+        long sum = Option.flattenStream(options.parallelStream()).mapToLong(Integer::longValue).sum();
+
+        // Then
+        long expected = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 3 != 0) expected += i;
+        }
+        assertEquals(expected, sum);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.heart4it.codesupport.option;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.OptionDouble;
+import io.github.heart4it.codesupport.OptionInt;
+import io.github.heart4it.codesupport.OptionLong;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionTraverseTest {
+
+    private static Option<Integer> parse(String s) {
+        try {
+            return Option.Some(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return Option.None();
+        }
+    }
+
+    @Test
+    void givenAllParsable_whenTraverse_thenSomeWithMappedValues() {
+        // When
+        Option<List<Integer>> result = Option.traverse(List.of("1", "2", "3"), OptionTraverseTest::parse);
+
+        // Then
+        assertEquals(Option.Some(List.of(1, 2, 3)), result);
+    }
+
+    @Test
+    void givenUnparsableElement_whenTraverse_thenStopsAtFirstNone() {
+        // Given
+        List<String> seen = new ArrayList<>();
+
+        // When
+        Option<List<Integer>> result = Option.traverse(List.of("1", "x", "3"), s -> {
+            seen.add(s);
+            return parse(s);
+        });
+
+        // Then
+        assertSame(Option.None(), result);
+        assertEquals(List.of("1", "x"), seen);
+    }
+
+    @Test
+    void givenLinkedList_whenTraverse_thenStopsAtFirstNone() {
+        // Given
+        List<String> seen = new ArrayList<>();
+        LinkedList<String> source = new LinkedList<>(List.of("1", "x", "3"));
+
+        // When
+        Option<List<Integer>> result = Option.traverse(source, s -> {
+            seen.add(s);
+            return parse(s);
+        });
+
+        // Then
+        assertTrue(result.isNone());
+        assertEquals(List.of("1", "x"), seen);
+        assertEquals(Option.Some(List.of(1, 3)), Option.traverse(new LinkedList<>(List.of("1", "3")), OptionTraverseTest::parse));
+    }
+
+    @Test
+    void givenArray_whenTraverse_thenBehavesLikeList() {
+        // Then
+        assertEquals(Option.Some(List.of(1, 2)), Option.traverse(new String[]{"1", "2"}, OptionTraverseTest::parse));
+        assertSame(Option.None(), Option.traverse(new String[]{"1", "x"}, OptionTraverseTest::parse));
+    }
+
+    @Test
+    void givenIntArray_whenTraverse_thenSomeWithPrimitiveArray() {
+        // Given
+        int[] source = {2, 4, 6};
+
+        // When
+        Option<int[]> halves = Option.traverse(source, n -> n % 2 == 0 ? OptionInt.Some(n / 2) : OptionInt.None());
+        Option<int[]> rejected = Option.traverse(new int[]{2, 3, 4}, n -> n % 2 == 0 ? OptionInt.Some(n / 2) : OptionInt.None());
+
+        // Then
+        assertArrayEquals(new int[]{1, 2, 3}, halves.unwrap());
+        assertSame(Option.None(), rejected);
+    }
+
+    @Test
+    void givenLongAndDoubleArrays_whenTraverse_thenSomeWithPrimitiveArrays() {
+        // When
+        Option<long[]> longs = Option.traverse(new long[]{1L, 2L}, n -> OptionLong.Some(n * 10));
+        Option<double[]> doubles = Option.traverse(new double[]{1.0, -1.0}, d -> d > 0 ? OptionDouble.Some(Math.sqrt(d)) : OptionDouble.None());
+
+        // Then
+        assertArrayEquals(new long[]{10L, 20L}, longs.unwrap());
+        assertTrue(doubles.isNone());
+    }
+
+    @Test
+    void givenEmptyPrimitiveArray_whenTraverse_thenSomeWithEmptyArray() {
+        // When
+        Option<int[]> result = Option.traverse(new int[0], n -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertEquals(0, result.unwrap().length);
+    }
+}
@@ -0,0 +1,235 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.AsyncResult;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for AsyncResult
+ */
+public class AsyncResultTest {
+
+    @Test
+    void fromFuture_CompletedValue_ShouldBeKnownImmediately() {
+        // When
+        AsyncResult<Integer, String> async = AsyncResult.fromFuture(CompletableFuture.completedFuture(21), Throwable::getMessage);
+
+        // Then
+        assertTrue(async.isCompleted());
+        assertEquals(Result.ok(42), async.map(v -> v * 2).join());
+    }
+
+    @Test
+    void fromFuture_FailedFuture_ShouldMapToErr() {
+        // Given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        // When
+        AsyncResult<Integer, String> async = AsyncResult.fromFuture(future, Throwable::getMessage);
+        future.completeExceptionally(new IllegalStateException("boom"));
+
+        // Then
+        assertEquals(Result.err("boom"), async.join());
+    }
+
+    @Test
+    void map_KnownErr_ShouldReturnSameInstanceWithoutCallingFunction() {
+        // Given
+        AsyncResult<Integer, String> err = AsyncResult.err("bad");
+
+        // When
+        AsyncResult<String, String> mapped = err.map(v -> { throw new AssertionError("not called"); });
+        AsyncResult<String, String> chained = err.andThen(v -> { throw new AssertionError("not called"); });
+        AsyncResult<String, String> onExecutor = err.map(v -> "x", command -> { throw new AssertionError("not scheduled"); });
+
+        // Then
+        assertSame(err, mapped);
+        assertSame(err, chained);
+        assertSame(err, onExecutor);
+        assertTrue(mapped.isCompleted());
+    }
+
+    @Test
+    void map_Pending_ShouldFuseStepsAndApplyThemInOrderOnCompletion() {
+        // Given
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+        List<String> trace = new ArrayList<>();
+
+        // When
+        CompletableFuture<Result<String, Integer>> future = AsyncResult.of(source)
+                .map(v -> { trace.add("map1"); return v + 1; })
+                .inspect(v -> trace.add("inspect " + v))
+                .map(v -> { trace.add("map2"); return "v" + v; })
+                .mapErr(String::length)
+                .toFuture();
+
+        // Then
+        assertTrue(trace.isEmpty());
+        source.complete(Result.ok(1));
+        assertEquals(Result.ok("v2"), future.join());
+        assertEquals(List.of("map1", "inspect 2", "map2"), trace);
+    }
+
+    @Test
+    void toFuture_PendingWithSteps_ShouldRunStepsOnceAcrossCalls() {
+        // Given
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+        AtomicInteger inspected = new AtomicInteger();
+        AsyncResult<Integer, String> async = AsyncResult.of(source).inspect(v -> inspected.incrementAndGet());
+
+        // When
+        CompletableFuture<Result<Integer, String>> first = async.toFuture();
+        CompletableFuture<Result<Integer, String>> second = async.toFuture();
+        source.complete(Result.ok(1));
+
+        // Then
+        assertSame(first, second);
+        assertEquals(Result.ok(1), async.join());
+        assertEquals(Result.ok(1), first.join());
+        assertEquals(1, inspected.get());
+    }
+
+    @Test
+    void toFuture_PendingWithoutSteps_ShouldReturnSourceFuture() {
+        // Given
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+
+        // Then
+        assertSame(source, AsyncResult.of(source).toFuture());
+    }
+
+    @Test
+    void andThen_Pending_ShouldChainAsyncCalls() {
+        // Given
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+
+        // When
+        AsyncResult<String, String> chained = AsyncResult.fromFuture(first, Throwable::getMessage)
+                .andThen(v -> AsyncResult.fromFuture(second, Throwable::getMessage).map(s -> s + v));
+        first.complete(7);
+        second.complete("n=");
+
+        // Then
+        assertEquals(Result.ok("n=7"), chained.join());
+    }
+
+    @Test
+    void andThen_PendingErr_ShouldSkipFunction() {
+        // Given
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+
+        // When
+        AsyncResult<Integer, String> chained = AsyncResult.of(source)
+                .andThen(v -> { throw new AssertionError("not called"); });
+        source.complete(Result.err("bad"));
+
+        // Then
+        assertEquals(Result.err("bad"), chained.join());
+    }
+
+    @Test
+    void orElse_ShouldOnlyFallBackOnErr() {
+        // Given
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+        AsyncResult<Integer, String> ok = AsyncResult.ok(1);
+
+        // When
+        AsyncResult<Integer, String> recovered = AsyncResult.of(source).orElse(() -> AsyncResult.ok(2));
+        source.complete(Result.err("bad"));
+
+        // Then
+        assertSame(ok, ok.orElse(() -> { throw new AssertionError("not called"); }));
+        assertEquals(Result.ok(2), AsyncResult.<Integer, String>err("bad").orElse(() -> AsyncResult.ok(2)).join());
+        assertEquals(Result.ok(2), recovered.join());
+    }
+
+    @Test
+    void inspectErr_ShouldOnlyRunForErr() {
+        // Given
+        List<String> seen = new ArrayList<>();
+
+        // When
+        AsyncResult.<Integer, String>ok(1).inspectErr(seen::add);
+        AsyncResult.<Integer, String>err("bad").inspectErr(seen::add).inspect(v -> seen.add("ok"));
+
+        // Then
+        assertEquals(List.of("bad"), seen);
+    }
+
+    @Test
+    void map_KnownOkFunctionThrows_ShouldCompleteExceptionallyInsteadOfThrowing() {
+        // Given
+        AsyncResult<Integer, String> ok = AsyncResult.ok(1);
+        IllegalStateException failure = new IllegalStateException("map broke");
+
+        // When
+        AsyncResult<Integer, String> mapped = ok.map(v -> { throw failure; });
+
+        // Then
+        assertFalse(mapped.isCompleted());
+        CompletionException thrown = assertThrows(CompletionException.class, mapped::join);
+        assertSame(failure, thrown.getCause());
+        assertTrue(mapped.map(v -> v + 1).toFuture().isCompletedExceptionally());
+    }
+
+    @Test
+    void combinators_KnownOutcomeFunctionThrows_ShouldCompleteExceptionally() {
+        // Given
+        AsyncResult<Integer, String> ok = AsyncResult.ok(1);
+        AsyncResult<Integer, String> err = AsyncResult.err("bad");
+
+        // When
+        List<AsyncResult<?, ?>> failed = List.of(
+                err.mapErr(e -> { throw new IllegalStateException("mapErr"); }),
+                ok.andThen(v -> { throw new IllegalStateException("andThen"); }),
+                err.orElse(() -> { throw new IllegalStateException("orElse"); }),
+                ok.inspect(v -> { throw new IllegalStateException("inspect"); }),
+                err.inspectErr(e -> { throw new IllegalStateException("inspectErr"); }));
+
+        // Then
+        List<String> messages = new ArrayList<>();
+        for (AsyncResult<?, ?> async : failed) {
+            CompletionException thrown = assertThrows(CompletionException.class, async::join);
+            messages.add(thrown.getCause().getMessage());
+        }
+        assertEquals(List.of("mapErr", "andThen", "orElse", "inspect", "inspectErr"), messages);
+    }
+
+    @Test
+    void andThen_KnownOkFunctionReturnsNull_ShouldCompleteExceptionally() {
+        // When
+        AsyncResult<Integer, String> chained = AsyncResult.<Integer, String>ok(1).andThen(v -> null);
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, chained::join);
+        assertTrue(thrown.getCause() instanceof NullPointerException);
+    }
+
+    @Test
+    void executorVariants_ShouldRunOnGivenExecutor() {
+        // Given
+        AtomicInteger scheduled = new AtomicInteger();
+        Executor executor = command -> {
+            scheduled.incrementAndGet();
+            command.run();
+        };
+
+        // When
+        AsyncResult<Integer, String> mapped = AsyncResult.<Integer, String>ok(1).map(v -> v + 1, executor);
+        AsyncResult<Integer, String> chained = mapped.andThen(v -> AsyncResult.ok(v * 10), executor);
+
+        // Then
+        assertEquals(Result.ok(20), chained.join());
+        assertEquals(2, scheduled.get());
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.BatchLoader;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BatchLoader
+ */
+public class BatchLoaderTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<Map<Integer, String>> lookup(List<Integer> keys) {
+        batches.add(List.copyOf(keys));
+        Map<Integer, String> values = new HashMap<>();
+        for (Integer key : keys) {
+            if (key > 0) values.put(key, "v" + key);
+        }
+        return CompletableFuture.completedFuture(values);
+    }
+
+    @Test
+    void load_WithinWindow_ShouldCoalesceIntoOneBatch() {
+        // Given
+        BatchLoader<Integer, String, String> loader =
+                BatchLoader.of(this::lookup, Duration.ofSeconds(10), 100, Throwable::getMessage, k -> "missing " + k);
+
+        // When
+        CompletableFuture<Result<String, String>> one = loader.load(1);
+        CompletableFuture<Result<String, String>> two = loader.load(2);
+        loader.dispatch();
+
+        // Then
+        assertEquals(Result.ok("v1"), one.join());
+        assertEquals(Result.ok("v2"), two.join());
+        assertEquals(List.of(List.of(1, 2)), batches);
+    }
+
+    @Test
+    void load_WindowElapses_ShouldDispatchAutomatically() {
+        // Given
+        BatchLoader<Integer, String, String> loader =
+                BatchLoader.of(this::lookup, Duration.ofMillis(5), 100, Throwable::getMessage, k -> "missing " + k);
+
+        // When
+        Result<String, String> result = loader.load(3).orTimeout(5, TimeUnit.SECONDS).join();
+
+        // Then
+        assertEquals(Result.ok("v3"), result);
+        assertEquals(List.of(List.of(3)), batches);
+    }
+
+    @Test
+    void load_WindowElapses_ShouldCallBatchFunctionOnExecutorNotTimerThread() {
+        // Given
+        List<String> threads = new CopyOnWriteArrayList<>();
+        AtomicInteger submitted = new AtomicInteger();
+        BatchLoader<Integer, String, String> loader = BatchLoader.of(keys -> {
+            threads.add(Thread.currentThread().getName());
+            return lookup(keys);
+        }, Duration.ofMillis(5), 100, Throwable::getMessage, k -> "missing " + k, task -> {
+            submitted.incrementAndGet();
+            new Thread(task, "batch-executor").start();
+        });
+
+        // When
+        Result<String, String> result = loader.load(4).orTimeout(5, TimeUnit.SECONDS).join();
+
+        // Then
+        assertEquals(Result.ok("v4"), result);
+        assertEquals(1, submitted.get());
+        assertEquals(List.of("batch-executor"), threads);
+    }
+
+    @Test
+    void load_MaxBatchSizeReached_ShouldDispatchImmediately() {
+        // Given
+        BatchLoader<Integer, String, String> loader =
+                BatchLoader.of(this::lookup, Duration.ofSeconds(10), 2, Throwable::getMessage, k -> "missing " + k);
+
+        // When
+        List<CompletableFuture<Result<String, String>>> futures = loader.loadAll(List.of(1, 2, 3));
+
+        // Then
+        assertTrue(futures.get(0).isDone());
+        assertTrue(futures.get(1).isDone());
+        assertFalse(futures.get(2).isDone());
+        loader.dispatch();
+        assertEquals(Result.ok("v3"), futures.get(2).join());
+        assertEquals(List.of(List.of(1, 2), List.of(3)), batches);
+    }
+
+    @Test
+    void load_SameKeyTwice_ShouldRequestOnceAndCompleteBothCallers() {
+        // Given
+        BatchLoader<Integer, String, String> loader =
+                BatchLoader.of(this::lookup, Duration.ofSeconds(10), 100, Throwable::getMessage, k -> "missing " + k);
+
+        // When
+        CompletableFuture<Result<String, String>> first = loader.load(7);
+        CompletableFuture<Result<String, String>> second = loader.load(7);
+        loader.dispatch();
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(Result.ok("v7"), first.join());
+        assertEquals(Result.ok("v7"), second.join());
+        assertEquals(List.of(List.of(7)), batches);
+    }
+
+    @Test
+    void load_SameKeyOneCallerCancels_ShouldNotAffectOtherCaller() {
+        // Given
+        BatchLoader<Integer, String, String> loader =
+                BatchLoader.of(this::lookup, Duration.ofSeconds(10), 100, Throwable::getMessage, k -> "missing " + k);
+        CompletableFuture<Result<String, String>> first = loader.load(7);
+        CompletableFuture<Result<String, String>> second = loader.load(7);
+
+        // When
+        first.cancel(true);
+        second.obtrudeValue(Result.err("overridden"));
+        CompletableFuture<Result<String, String>> third = loader.load(7);
+        loader.dispatch();
+
+        // Then
+        assertTrue(first.isCancelled());
+        assertEquals(Result.ok("v7"), third.join());
+        assertEquals(List.of(List.of(7)), batches);
+    }
+
+    @Test
+    void load_KeyInFlight_ShouldNotBeRequestedAgain() {
+        // Given
+        CompletableFuture<Map<Integer, String>> response = new CompletableFuture<>();
+        BatchLoader<Integer, String, String> loader = BatchLoader.of(keys -> {
+            batches.add(List.copyOf(keys));
+            return response;
+        }, Duration.ofSeconds(10), 100, Throwable::getMessage, k -> "missing " + k);
+
+        // When
+        CompletableFuture<Result<String, String>> first = loader.load(1);
+        loader.dispatch();
+        CompletableFuture<Result<String, String>> again = loader.load(1);
+        loader.dispatch();
+        response.complete(Map.of(1, "one"));
+
+        // Then
+        assertEquals(Result.ok("one"), first.join());
+        assertEquals(Result.ok("one"), again.join());
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void load_MissingKey_ShouldReturnErrForThatKeyOnly() {
+        // Given
+        BatchLoader<Integer, String, String> loader =
+                BatchLoader.of(this::lookup, Duration.ofSeconds(10), 100, Throwable::getMessage, k -> "missing " + k);
+
+        // When
+        CompletableFuture<Result<String, String>> present = loader.load(1);
+        CompletableFuture<Result<String, String>> missing = loader.load(-1);
+        loader.dispatch();
+
+        // Then
+        assertEquals(Result.ok("v1"), present.join());
+        assertEquals(Result.err("missing -1"), missing.join());
+    }
+
+    @Test
+    void load_BatchFails_ShouldReturnErrForEveryKey() {
+        // Given
+        BatchLoader<Integer, String, String> loader = BatchLoader.of(
+                keys -> CompletableFuture.failedFuture(new IllegalStateException("store down")),
+                Duration.ofSeconds(10), 100, Throwable::getMessage, k -> "missing " + k);
+
+        // When
+        CompletableFuture<Result<String, String>> one = loader.load(1);
+        CompletableFuture<Result<String, String>> two = loader.load(2);
+        loader.dispatch();
+
+        // Then
+        assertEquals(Result.err("store down"), one.join());
+        assertEquals(Result.err("store down"), two.join());
+    }
+
+    @Test
+    void load_ErrorMapperThrows_ShouldFailFuturesAndReleaseKeys() {
+        // Given
+        List<Boolean> failNext = new CopyOnWriteArrayList<>(List.of(true));
+        BatchLoader<Integer, String, String> loader = BatchLoader.of(
+                keys -> failNext.remove(0) ? CompletableFuture.failedFuture(new IllegalStateException("store down")) : lookup(keys),
+                Duration.ofSeconds(10), 100,
+                e -> { throw new IllegalArgumentException("mapper broke"); },
+                k -> "missing " + k);
+
+        // When
+        CompletableFuture<Result<String, String>> failed = loader.load(1);
+        loader.dispatch();
+        failNext.add(false);
+        CompletableFuture<Result<String, String>> retried = loader.load(1);
+        loader.dispatch();
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, () -> failed.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals("mapper broke", thrown.getCause().getMessage());
+        assertNotSame(failed, retried);
+        assertEquals(Result.ok("v1"), retried.orTimeout(5, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    void load_MissingKeyErrorThrows_ShouldStillCompleteOtherKeys() {
+        // Given
+        BatchLoader<Integer, String, String> loader = BatchLoader.of(this::lookup, Duration.ofSeconds(10), 100, Throwable::getMessage, k -> {
+            if (k == -1) throw new IllegalArgumentException("no error for " + k);
+            return "missing " + k;
+        });
+
+        // When
+        CompletableFuture<Result<String, String>> broken = loader.load(-1);
+        CompletableFuture<Result<String, String>> missing = loader.load(-2);
+        CompletableFuture<Result<String, String>> present = loader.load(3);
+        loader.dispatch();
+
+        // Then
+        assertThrows(CompletionException.class, () -> broken.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(Result.err("missing -2"), missing.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(Result.ok("v3"), present.orTimeout(5, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    void load_BatchFunctionReturnsNull_ShouldReturnErrForEveryKey() {
+        // Given
+        BatchLoader<Integer, String, String> loader = BatchLoader.of(
+                keys -> null, Duration.ofSeconds(10), 100, e -> e.getClass().getSimpleName(), k -> "missing " + k);
+
+        // When
+        CompletableFuture<Result<String, String>> one = loader.load(1);
+        loader.dispatch();
+
+        // Then
+        assertEquals(Result.err("NullPointerException"), one.orTimeout(5, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    void of_InvalidArguments_ShouldThrow() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> BatchLoader.of(this::lookup, Duration.ofMillis(-1), 1, Throwable::getMessage, k -> "m"));
+        assertThrows(IllegalArgumentException.class, () -> BatchLoader.of(this::lookup, Duration.ZERO, 0, Throwable::getMessage, k -> "m"));
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.CircuitBreaker;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CircuitBreaker
+ */
+public class CircuitBreakerTest {
+
+    private static CircuitBreaker.Settings settings(Duration openDuration) {
+        return new CircuitBreaker.Settings(0.5, 1.0, Duration.ofSeconds(10), Duration.ofSeconds(60), 6, 4, openDuration);
+    }
+
+    @Test
+    void call_Healthy_ShouldStayClosedAndPassResultsThrough() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open", settings(Duration.ofSeconds(30)));
+
+        // When
+        for (int i = 0; i < 10; i++) breaker.call(() -> Result.ok(1));
+        Result<Integer, String> err = breaker.call(() -> Result.err("bad"));
+
+        // Then
+        assertEquals(Result.err("bad"), err);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void call_FailureRateReached_ShouldOpenAndFailFastWithoutCallingDownstream() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open", settings(Duration.ofSeconds(30)));
+        AtomicInteger downstream = new AtomicInteger();
+
+        // When
+        breaker.call(() -> Result.ok(1));
+        breaker.call(() -> Result.ok(1));
+        breaker.call(() -> Result.err("bad"));
+        breaker.call(() -> Result.err("bad"));
+        Result<Integer, String> rejected = breaker.call(() -> {
+            downstream.incrementAndGet();
+            return Result.ok(1);
+        });
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Result.err("open"), rejected);
+        assertEquals(0, downstream.get());
+    }
+
+    @Test
+    void call_BelowMinimumCalls_ShouldNotOpen() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open", settings(Duration.ofSeconds(30)));
+
+        // When
+        for (int i = 0; i < 3; i++) breaker.call(() -> Result.err("bad"));
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void call_SlowCallRateReached_ShouldOpen() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open",
+                new CircuitBreaker.Settings(1.0, 0.5, Duration.ofMillis(1), Duration.ofSeconds(60), 6, 2, Duration.ofSeconds(30)));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            breaker.call(() -> {
+                sleep(5);
+                return Result.ok(1);
+            });
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void call_SupplierThrows_ShouldCountAsFailureAndRethrow() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open", settings(Duration.ofSeconds(30)));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> breaker.call(() -> { throw new IllegalStateException(); }));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void callAsync_ShouldRecordOutcomeOnCompletionAndFailFastWhenOpen() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open", settings(Duration.ofSeconds(30)));
+        CompletableFuture<Result<Integer, String>> pending = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Result<Integer, String>> returned = breaker.callAsync(() -> pending);
+        for (int i = 0; i < 3; i++) {
+            breaker.callAsync(() -> CompletableFuture.failedFuture(new IllegalStateException()));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        pending.complete(Result.err("bad"));
+        CompletableFuture<Result<Integer, String>> rejected = breaker.callAsync(() -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertSame(pending, returned);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Result.err("open"), rejected.join());
+    }
+
+    @Test
+    void call_SupplierReturnsNull_ShouldCountAsFailureAndThrow() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open", settings(Duration.ofSeconds(30)));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThrows(NullPointerException.class, () -> breaker.call(() -> null));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void callAsync_NullResult_ShouldCountAsFailure() {
+        // Given
+        CircuitBreaker<String> breaker = CircuitBreaker.of("open", settings(Duration.ofSeconds(30)));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            breaker.callAsync(() -> CompletableFuture.<Result<Integer, String>>completedFuture(null));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void settings_Invalid_ShouldThrow() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker.Settings(0, 1, Duration.ofSeconds(1), Duration.ofSeconds(1), 1, 1, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker.Settings(1, 1, Duration.ZERO, Duration.ofSeconds(1), 1, 1, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker.Settings(1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1), 0, 1, Duration.ofSeconds(1)));
+        assertNotNull(CircuitBreaker.Settings.defaults());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.ErrCache;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ErrCache and Result.errOf()
+ */
+public class ErrCacheTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    enum ValidationError { BLANK_NAME, NAME_TOO_LONG, DUPLICATE }
+
+    enum ApiError { BAD_REQUEST, CONFLICT }
+
+    enum Severity {
+        LOW {
+            @Override
+            public String toString() {
+                return "low";
+            }
+        },
+        HIGH
+    }
+
+    private static final ErrCache.Table<ValidationError, ApiError> TO_API = ErrCache.table(ValidationError.class, e -> switch (e) {
+        case BLANK_NAME, NAME_TOO_LONG -> ApiError.BAD_REQUEST;
+        case DUPLICATE -> ApiError.CONFLICT;
+    });
+
+    @Test
+    void errOf_SameConstant_ShouldReturnSameInstance() {
+        // When
+        Result<String, ValidationError> first = Result.errOf(ValidationError.DUPLICATE);
+        Result<Integer, ValidationError> second = Result.errOf(ValidationError.DUPLICATE);
+
+        // Then
+        assertSame(first, second);
+        assertSame(first, ErrCache.of(ValidationError.DUPLICATE));
+        assertEquals(Result.err(ValidationError.DUPLICATE), first);
+        assertEquals(ValidationError.DUPLICATE, first.unwrapErr());
+    }
+
+    @Test
+    void errOf_DifferentConstants_ShouldReturnDistinctErrs() {
+        // When
+        Result<String, ValidationError> blank = Result.errOf(ValidationError.BLANK_NAME);
+        Result<String, ValidationError> tooLong = Result.errOf(ValidationError.NAME_TOO_LONG);
+
+        // Then
+        assertNotEquals(blank, tooLong);
+        assertEquals(ValidationError.NAME_TOO_LONG, tooLong.unwrapErr());
+    }
+
+    @Test
+    void errOf_ConstantWithBody_ShouldUseDeclaringEnum() {
+        // When
+        Result<String, Severity> low = Result.errOf(Severity.LOW);
+
+        // Then
+        assertSame(low, Result.errOf(Severity.LOW));
+        assertSame(Severity.LOW, low.unwrapErr());
+    }
+
+    @Test
+    void errOf_Null_ShouldThrowNullPointerException() {
+        // When & Then
+        assertThrows(NullPointerException.class, () -> Result.errOf((ValidationError) null));
+    }
+
+    @Test
+    void errOf_ShouldNotAllocate() {
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> Result.errOf(ValidationError.BLANK_NAME));
+
+        // Then
+        assertTrue(allocated <= MEASUREMENT_SLACK, () -> "errOf allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void table_Apply_ShouldMapConstants() {
+        // When & Then
+        assertEquals(ApiError.BAD_REQUEST, TO_API.apply(ValidationError.BLANK_NAME));
+        assertEquals(ApiError.BAD_REQUEST, TO_API.apply(ValidationError.NAME_TOO_LONG));
+        assertEquals(ApiError.CONFLICT, TO_API.apply(ValidationError.DUPLICATE));
+        assertSame(Result.errOf(ApiError.CONFLICT), TO_API.err(ValidationError.DUPLICATE));
+    }
+
+    @Test
+    void table_NullMapping_ShouldThrowNullPointerException() {
+        // When & Then
+        assertThrows(NullPointerException.class, () -> ErrCache.table(ValidationError.class, e -> null));
+    }
+
+    @Test
+    void translate_Err_ShouldReturnSharedErr() {
+        // Given
+        Result<String, ValidationError> result = Result.err(ValidationError.NAME_TOO_LONG);
+
+        // When
+        Result<String, ApiError> translated = TO_API.translate(result);
+
+        // Then
+        assertSame(Result.errOf(ApiError.BAD_REQUEST), translated);
+    }
+
+    @Test
+    void translate_Ok_ShouldReturnSameInstance() {
+        // Given
+        Result<String, ValidationError> result = Result.ok("alice");
+
+        // When
+        Result<String, ApiError> translated = TO_API.translate(result);
+
+        // Then
+        assertSame(result, translated);
+    }
+
+    @Test
+    void translate_Err_ShouldNotAllocate() {
+        // Given
+        Result<String, ValidationError> result = Result.errOf(ValidationError.DUPLICATE);
+
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> TO_API.translate(result));
+
+        // Then
+        assertTrue(allocated <= MEASUREMENT_SLACK, () -> "translate allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void mapErr_WithTable_ShouldMapLikeAnyFunction() {
+        // Given
+        Result<String, ValidationError> result = Result.err(ValidationError.DUPLICATE);
+
+        // When
+        Result<String, ApiError> mapped = result.mapErr(TO_API);
+
+        // Then
+        assertEquals(Result.err(ApiError.CONFLICT), mapped);
+    }
+
+    @Test
+    void or_WithSharedErr_ShouldReturnIt() {
+        // Given
+        Result<String, ApiError> fallback = Result.errOf(ApiError.CONFLICT);
+
+        // When
+        Result<String, ApiError> result = Result.<String, ApiError>errOf(ApiError.BAD_REQUEST).or(fallback);
+
+        // Then
+        assertSame(fallback, result);
+    }
+}
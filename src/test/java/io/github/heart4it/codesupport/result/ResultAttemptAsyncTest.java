@@ -0,0 +1,133 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Result;
+import io.github.heart4it.codesupport.ThrowingSupplier;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.attemptAsync() and Result.attemptAllAsync()
+ */
+public class ResultAttemptAsyncTest {
+
+    @Test
+    void attemptAsync_Value_ShouldReturnOk() {
+        // When
+        Result<String, String> result = Result.<String, String>attemptAsync(() -> "value", Throwable::getMessage).join();
+
+        // Then
+        assertEquals(Result.ok("value"), result);
+    }
+
+    @Test
+    void attemptAsync_CheckedException_ShouldReturnErr() {
+        // When
+        Result<String, String> result = Result.<String, String>attemptAsync(() -> {
+            throw new IOException("disk gone");
+        }, Throwable::getMessage).join();
+
+        // Then
+        assertEquals(Result.err("disk gone"), result);
+    }
+
+    @Test
+    void attemptAsync_ShouldNotRunOnCallingThread() {
+        // Given
+        Thread caller = Thread.currentThread();
+
+        // When
+        Result<Thread, String> result = Result.<Thread, String>attemptAsync(Thread::currentThread, Throwable::getMessage).join();
+
+        // Then
+        assertNotSame(caller, result.unwrap());
+    }
+
+    @Test
+    void attemptAllAsync_ShouldReturnResultsInInputOrder() {
+        // Given
+        List<ThrowingSupplier<Integer>> suppliers = List.of(
+                () -> 1,
+                () -> { throw new IOException("two"); },
+                () -> 3);
+
+        // When
+        List<Result<Integer, String>> results = Result.attemptAllAsync(suppliers, 2, Throwable::getMessage).join();
+
+        // Then
+        assertEquals(List.of(Result.ok(1), Result.err("two"), Result.ok(3)), results);
+    }
+
+    @Test
+    void attemptAllAsync_ShouldBoundConcurrency() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<ThrowingSupplier<Integer>> suppliers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int n = i;
+            suppliers.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return n;
+            });
+        }
+
+        // When
+        List<Result<Integer, String>> results = Result.attemptAllAsync(suppliers, 3, Throwable::getMessage)
+                .orTimeout(10, TimeUnit.SECONDS).join();
+
+        // Then
+        assertEquals(20, results.size());
+        assertEquals(Result.ok(19), results.get(19));
+        assertTrue(maxRunning.get() <= 3, "max running " + maxRunning.get());
+    }
+
+    @Test
+    void attemptAllAsync_EmptyList_ShouldReturnEmptyList() {
+        // Then
+        assertEquals(List.of(), Result.<Integer, String>attemptAllAsync(List.of(), 1, Throwable::getMessage).join());
+    }
+
+    @Test
+    void attemptAllAsync_Cancelled_ShouldInterruptRunningCalls() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<ThrowingSupplier<Integer>> suppliers = List.of(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 1;
+        }, () -> 2);
+        CompletableFuture<List<Result<Integer, String>>> results =
+                Result.attemptAllAsync(suppliers, 1, Throwable::getMessage);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        results.cancel(true);
+
+        // Then
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void attemptAllAsync_InvalidConcurrency_ShouldThrow() {
+        // Then
+        assertThrows(IllegalArgumentException.class,
+                () -> Result.<Integer, String>attemptAllAsync(List.of(), 0, Throwable::getMessage));
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.CaughtError;
+import io.github.heart4it.codesupport.Result;
+import io.github.heart4it.codesupport.Unit;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.catching(), Result.catchingRun() and Result.catchingCompact()
+ */
+public class ResultCatchingTest {
+
+    @Test
+    void catching_Value_ShouldReturnOk() {
+        // When
+        Result<String, Exception> result = Result.catching(() -> "value");
+
+        // Then
+        assertEquals(Result.ok("value"), result);
+    }
+
+    @Test
+    void catching_CheckedException_ShouldReturnErrWithException() {
+        // Given
+        IOException exception = new IOException("disk gone");
+
+        // When
+        Result<String, Exception> result = Result.catching(() -> {
+            throw exception;
+        });
+
+        // Then
+        assertSame(exception, result.unwrapErr());
+    }
+
+    @Test
+    void catching_WithErrorMapper_ShouldMapException() {
+        // When
+        Result<Integer, String> result = Result.catching(() -> Integer.parseInt("x"), Throwable::getMessage);
+
+        // Then
+        assertEquals(Result.err("For input string: \"x\""), result);
+    }
+
+    @Test
+    void catching_Error_ShouldPropagate() {
+        // When & Then
+        assertThrows(AssertionError.class, () -> Result.catching(() -> {
+            throw new AssertionError("boom");
+        }));
+    }
+
+    @Test
+    void catching_InterruptedException_ShouldRestoreInterruptFlag() {
+        try {
+            // When
+            Result<String, Exception> result = Result.catching(() -> {
+                throw new InterruptedException();
+            });
+
+            // Then
+            assertTrue(result.unwrapErr() instanceof InterruptedException);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void catchingRun_Completes_ShouldReturnOkUnit() {
+        // Given
+        StringBuilder log = new StringBuilder();
+
+        // When
+        Result<Unit, Exception> result = Result.catchingRun(() -> log.append("ran"));
+
+        // Then
+        assertEquals(Result.ok(Unit.INSTANCE), result);
+        assertEquals("ran", log.toString());
+    }
+
+    @Test
+    void catchingRun_Throws_ShouldReturnMappedErr() {
+        // When
+        Result<Unit, String> result = Result.catchingRun(() -> {
+            throw new IOException("read-only");
+        }, Throwable::getMessage);
+
+        // Then
+        assertEquals(Result.err("read-only"), result);
+    }
+
+    @Test
+    void catching_Function_ShouldAdaptEachCall() {
+        // Given
+        Function<String, Result<Integer, Exception>> parse = Result.catching(Integer::parseInt);
+
+        // When
+        List<Result<Integer, Exception>> results = List.of("1", "x").stream().map(parse).toList();
+
+        // Then
+        assertEquals(Result.ok(1), results.get(0));
+        assertTrue(results.get(1).unwrapErr() instanceof NumberFormatException);
+    }
+
+    @Test
+    void catching_FunctionWithErrorMapper_ShouldMapException() {
+        // Given
+        Function<String, Result<Integer, String>> parse = Result.catching(Integer::parseInt, e -> e.getClass().getSimpleName());
+
+        // When
+        Result<Integer, String> result = parse.apply("x");
+
+        // Then
+        assertEquals(Result.err("NumberFormatException"), result);
+    }
+
+    @Test
+    void catchingCompact_Throws_ShouldKeepOnlyTypeAndMessage() {
+        // When
+        Result<String, CaughtError> result = Result.catchingCompact(() -> {
+            throw new FileNotFoundException("config.yml");
+        });
+
+        // Then
+        CaughtError error = result.unwrapErr();
+        assertEquals(FileNotFoundException.class, error.type());
+        assertEquals("config.yml", error.message());
+        assertTrue(error.is(IOException.class));
+        assertFalse(error.is(RuntimeException.class));
+        assertEquals("java.io.FileNotFoundException: config.yml", error.toString());
+    }
+
+    @Test
+    void catchingCompact_Value_ShouldReturnOk() {
+        // When
+        Result<String, CaughtError> result = Result.catchingCompact(() -> "value");
+
+        // Then
+        assertEquals(Result.ok("value"), result);
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.ContextError;
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.context(), Result.withContext() and ContextError
+ */
+public class ResultContextTest {
+
+    @Test
+    void context_Ok_ShouldReturnSameInstanceWithoutCallingSupplier() {
+        // Given
+        Result<String, String> result = Result.ok("value");
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Result<String, ContextError> withContext = result.context(() -> "ctx " + calls.incrementAndGet());
+
+        // Then
+        assertSame(result, withContext);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void context_Err_ShouldNotFormatUntilRendered() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Result<String, ContextError> result = Result.<String, String>err("connection refused")
+                .context(() -> "fetching user " + calls.incrementAndGet());
+
+        // Then
+        assertEquals(0, calls.get());
+        assertEquals("fetching user 1", result.unwrapErr().message());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void context_Err_ShouldRenderChainWithRoot() {
+        // When
+        Result<String, ContextError> result = Result.<String, String>err("connection refused")
+                .context(() -> "fetching user 42");
+
+        // Then
+        ContextError error = result.unwrapErr();
+        assertEquals("fetching user 42: connection refused", error.toString());
+        assertEquals("connection refused", error.root());
+        assertEquals(1, error.depth());
+    }
+
+    @Test
+    void context_CalledRepeatedly_ShouldAppendFramesInsteadOfNesting() {
+        // When
+        Result<String, ContextError> result = Result.<String, String>err("timeout")
+                .context(() -> "reading row")
+                .context(() -> "loading account")
+                .context(() -> "handling request");
+
+        // Then
+        ContextError error = result.unwrapErr();
+        assertEquals(3, error.depth());
+        assertEquals("timeout", error.root());
+        assertEquals(List.of("handling request", "loading account", "reading row"), error.contexts());
+        assertEquals("handling request", error.message());
+        assertEquals("handling request: loading account: reading row: timeout", error.toString());
+    }
+
+    @Test
+    void context_Appended_ShouldNotChangeEarlierError() {
+        // Given
+        Result<String, ContextError> inner = Result.<String, String>err("timeout").context(() -> "inner");
+
+        // When
+        inner.context(() -> "outer");
+
+        // Then
+        assertEquals("inner: timeout", inner.unwrapErr().toString());
+    }
+
+    @Test
+    void withContext_ShouldDeriveContextFromError() {
+        // When
+        Result<String, ContextError> result = Result.<String, Integer>err(404)
+                .withContext(status -> "order service returned " + status);
+
+        // Then
+        assertEquals("order service returned 404", result.unwrapErr().message());
+        assertEquals("order service returned 404: 404", result.unwrapErr().toString());
+    }
+
+    @Test
+    void withContext_OnContextError_ShouldSeeChainBeforeIt() {
+        // When
+        Result<String, ContextError> result = Result.<String, String>err("timeout")
+                .context(() -> "reading row")
+                .context(() -> "loading account")
+                .withContext(e -> "after " + e.depth() + " frames");
+
+        // Then
+        assertEquals("after 2 frames", result.unwrapErr().message());
+    }
+
+    @Test
+    void withContext_Ok_ShouldNotCallFunction() {
+        // Given
+        Result<String, Integer> result = Result.ok("value");
+
+        // When
+        Result<String, ContextError> withContext = result.withContext(e -> {
+            throw new AssertionError("must not be called");
+        });
+
+        // Then
+        assertSame(result, withContext);
+    }
+
+    @Test
+    void rootAs_ShouldDowncastRootError() {
+        // Given
+        IOException cause = new IOException("disk gone");
+
+        // When
+        ContextError error = Result.<String, Exception>err(cause).context(() -> "saving").unwrapErr();
+
+        // Then
+        assertEquals(Option.Some(cause), error.rootAs(IOException.class));
+        assertEquals(Option.None(), error.rootAs(IllegalStateException.class));
+    }
+
+    @Test
+    void context_NullSupplier_ShouldThrowNullPointerException() {
+        // When & Then
+        assertThrows(NullPointerException.class, () -> Result.err("e").context(null));
+        assertThrows(NullPointerException.class, () -> Result.ok("v").context(null));
+    }
+}
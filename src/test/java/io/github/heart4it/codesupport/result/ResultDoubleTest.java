@@ -0,0 +1,200 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.OptionDouble;
+import io.github.heart4it.codesupport.Result;
+import io.github.heart4it.codesupport.ResultDouble;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the primitive ResultDouble type
+ */
+public class ResultDoubleTest {
+
+    @Test
+    void ok_ShouldHoldPrimitiveValue() {
+        // Given
+        ResultDouble<String> ok = ResultDouble.ok(4.5);
+
+        // Then
+        assertTrue(ok.isOk());
+        assertFalse(ok.isErr());
+        assertEquals(4.5, ok.unwrap());
+        assertEquals(4.5, ok.expect("present"));
+        assertEquals("Ok(4.5)", ok.toDebugString());
+        assertThrows(NoSuchElementException.class, ok::unwrapErr);
+    }
+
+    @Test
+    void err_ShouldHoldError() {
+        // Given
+        ResultDouble<String> err = ResultDouble.err("bad");
+
+        // Then
+        assertTrue(err.isErr());
+        assertEquals("bad", err.unwrapErr());
+        assertEquals("bad", err.expectErr("error expected"));
+        assertEquals("Err(bad)", err.toDebugString());
+        assertThrows(NoSuchElementException.class, err::unwrap);
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> err.expect("value required"));
+        assertEquals("value required", e.getMessage());
+    }
+
+    @Test
+    void map_Ok_ShouldApplyPrimitiveFunction() {
+        // Given
+        ResultDouble<String> ok = ResultDouble.ok(4.5);
+
+        // When
+        ResultDouble<String> mapped = ok.map(v -> v * 2);
+
+        // Then
+        assertEquals(ResultDouble.ok(9.0), mapped);
+    }
+
+    @Test
+    void map_Err_ShouldReturnSameInstance() {
+        // Given
+        ResultDouble<String> err = ResultDouble.err("bad");
+
+        // When
+        ResultDouble<String> mapped = err.map(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertSame(err, mapped);
+    }
+
+    @Test
+    void andThen_ShouldChainOnOkAndShortCircuitOnErr() {
+        // Given
+        ResultDouble<String> ok = ResultDouble.ok(4.5);
+        ResultDouble<String> err = ResultDouble.err("bad");
+
+        // When
+        ResultDouble<String> checked = ok.andThen(v -> v > 1.5 ? ResultDouble.ok(v) : ResultDouble.err("too small"));
+        ResultDouble<String> rejected = ok.andThen(v -> ResultDouble.err("rejected"));
+        ResultDouble<String> skipped = err.andThen(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertEquals(ResultDouble.ok(4.5), checked);
+        assertEquals(ResultDouble.err("rejected"), rejected);
+        assertSame(err, skipped);
+    }
+
+    @Test
+    void mapErr_ShouldMapErrAndReturnSameOkInstance() {
+        // Given
+        ResultDouble<String> ok = ResultDouble.ok(4.5);
+        ResultDouble<String> err = ResultDouble.err("bad");
+
+        // When
+        ResultDouble<Integer> okMapped = ok.mapErr(String::length);
+        ResultDouble<Integer> errMapped = err.mapErr(String::length);
+
+        // Then
+        assertSame(ok, okMapped);
+        assertEquals(ResultDouble.err(3), errMapped);
+    }
+
+    @Test
+    void unwrapOr_ShouldReturnDefaultOnlyForErr() {
+        // Then
+        assertEquals(4.5, ResultDouble.ok(4.5).unwrapOr(1.5));
+        assertEquals(1.5, ResultDouble.err("bad").unwrapOr(1.5));
+        assertEquals(4.5, ResultDouble.<String>ok(4.5).unwrapOrElse(() -> 1.5));
+        assertEquals(1.5, ResultDouble.<String>err("bad").unwrapOrElse(() -> 1.5));
+        assertEquals(4.5, ResultDouble.<String>ok(4.5).unwrapOrElseMap(String::length));
+        assertEquals(3.0, ResultDouble.<String>err("bad").unwrapOrElseMap(String::length));
+    }
+
+    @Test
+    void isOkAndIsErrAnd_ShouldTestContainedValue() {
+        // Given
+        ResultDouble<String> ok = ResultDouble.ok(4.5);
+        ResultDouble<String> err = ResultDouble.err("bad");
+
+        // Then
+        assertTrue(ok.isOkAnd(v -> v > 1.5));
+        assertFalse(ok.isOkAnd(v -> v < 1.5));
+        assertFalse(err.isOkAnd(v -> true));
+        assertTrue(err.isErrAnd(e -> e.equals("bad")));
+        assertFalse(ok.isErrAnd(e -> true));
+    }
+
+    @Test
+    void inspect_ShouldOnlyRunMatchingAction() {
+        // Given
+        List<String> seen = new ArrayList<>();
+
+        // When
+        ResultDouble.<String>ok(4.5).inspect(v -> seen.add("ok " + v)).inspectErr(e -> seen.add("err " + e));
+        ResultDouble.<String>err("bad").inspect(v -> seen.add("ok " + v)).inspectErr(e -> seen.add("err " + e));
+
+        // Then
+        assertEquals(List.of("ok 4.5", "err bad"), seen);
+    }
+
+    @Test
+    void orAndOrElse_ShouldFallBackOnlyForErr() {
+        // Given
+        ResultDouble<String> ok = ResultDouble.ok(4.5);
+        ResultDouble<String> err = ResultDouble.err("bad");
+        ResultDouble<String> fallback = ResultDouble.ok(1.5);
+
+        // Then
+        assertSame(ok, ok.or(fallback));
+        assertSame(fallback, err.or(fallback));
+        assertSame(ok, ok.orElse(() -> { throw new AssertionError("not called"); }));
+        assertSame(fallback, err.orElse(() -> fallback));
+    }
+
+    @Test
+    void okAndErr_ShouldConvertToOptions() {
+        // Then
+        assertEquals(OptionDouble.Some(4.5), ResultDouble.ok(4.5).ok());
+        assertSame(OptionDouble.None(), ResultDouble.err("bad").ok());
+        assertEquals(Option.Some("bad"), ResultDouble.err("bad").err());
+        assertSame(Option.None(), ResultDouble.ok(4.5).err());
+    }
+
+    @Test
+    void err_NullError_ShouldReturnNone() {
+        // Then
+        assertSame(Option.None(), ResultDouble.err(null).err());
+    }
+
+    @Test
+    void toOptional_ShouldReturnPrimitiveOptional() {
+        // Then
+        assertEquals(OptionalDouble.of(4.5), ResultDouble.ok(4.5).toOptional());
+        assertEquals(OptionalDouble.empty(), ResultDouble.err("bad").toOptional());
+    }
+
+    @Test
+    void boxedAndFromBoxed_ShouldBridgeExplicitlyToGenericResult() {
+        // Then
+        assertEquals(Result.ok(4.5), ResultDouble.ok(4.5).boxed());
+        assertEquals(Result.err("bad"), ResultDouble.err("bad").boxed());
+        assertEquals(ResultDouble.ok(4.5), ResultDouble.fromBoxed(Result.ok(4.5)));
+        assertEquals(ResultDouble.err("bad"), ResultDouble.fromBoxed(Result.err("bad")));
+        assertEquals(Result.ok("v=4.5"), ResultDouble.<String>ok(4.5).mapToObj(v -> "v=" + v));
+        assertEquals(Result.err("bad"), ResultDouble.<String>err("bad").mapToObj(v -> "v=" + v));
+    }
+
+    @Test
+    void fromBoxed_OkNull_ShouldThrowWithMessage() {
+        // When
+        NullPointerException thrown = assertThrows(NullPointerException.class,
+                () -> ResultDouble.fromBoxed(Result.<Double, String>ok(null)));
+
+        // Then
+        assertEquals("fromBoxed requires a non-null Ok value", thrown.getMessage());
+    }
+}
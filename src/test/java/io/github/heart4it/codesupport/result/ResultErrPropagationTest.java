@@ -0,0 +1,125 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for passing Err and Ok through type-changing combinators without reallocation
+ */
+public class ResultErrPropagationTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    private static final Function<Integer, Integer> INCREMENT = n -> n + 1;
+    private static final Function<Integer, String> TO_STRING = String::valueOf;
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Function<Integer, Result<Integer, String>> CHECKED = Result::ok;
+
+    @Test
+    void map_Err_ShouldReturnSameInstance() {
+        // Given
+        Result<Integer, String> err = Result.err("failure");
+
+        // When
+        Result<String, String> mapped = err.map(TO_STRING);
+
+        // Then
+        assertSame(err, mapped);
+        assertEquals("failure", mapped.unwrapErr());
+    }
+
+    @Test
+    void andThen_Err_ShouldReturnSameInstance() {
+        // Given
+        Result<Integer, String> err = Result.err("failure");
+
+        // When
+        Result<Integer, String> chained = err.andThen(CHECKED);
+
+        // Then
+        assertSame(err, chained);
+    }
+
+    @Test
+    void and_Err_ShouldReturnSameInstance() {
+        // Given
+        Result<Integer, String> err = Result.err("failure");
+
+        // When
+        Result<String, String> combined = err.and(Result.ok("next"));
+
+        // Then
+        assertSame(err, combined);
+    }
+
+    @Test
+    void mapErr_Ok_ShouldReturnSameInstance() {
+        // Given
+        Result<Integer, String> ok = Result.ok(42);
+
+        // When
+        Result<Integer, Integer> mapped = ok.mapErr(LENGTH);
+
+        // Then
+        assertSame(ok, mapped);
+        assertEquals(42, mapped.unwrap());
+    }
+
+    @Test
+    void flattenAndTranspose_Err_ShouldReturnSameInstance() {
+        // Given
+        Result<Result<Integer, String>, String> nested = Result.err("outer");
+        Result<Integer, String> err = Result.err("failure");
+
+        // When
+        Result<Integer, String> flattened = Result.flatten(nested);
+        Result<Option<Integer>, String> transposed = err.transpose();
+
+        // Then
+        assertSame(nested, flattened);
+        assertSame(err, transposed);
+    }
+
+    @Test
+    void propagatedErr_ShouldStillEqualFreshErr() {
+        // Given
+        Result<Integer, String> err = Result.err("failure");
+
+        // When
+        Result<String, String> mapped = err.map(TO_STRING);
+
+        // Then
+        assertEquals(Result.<String, String>err("failure"), mapped);
+        assertEquals(Result.err("failure").hashCode(), mapped.hashCode());
+    }
+
+    @Test
+    void tenStagePipeline_OnErrPath_ShouldNotAllocateAfterFirstErr() {
+        // Given
+        Result<Integer, String> err = Result.err("failure");
+        Result<String, String> next = Result.ok("next");
+
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> err
+                .map(INCREMENT)
+                .andThen(CHECKED)
+                .map(TO_STRING)
+                .map(LENGTH)
+                .and(next)
+                .map(LENGTH)
+                .andThen(CHECKED)
+                .map(INCREMENT)
+                .map(TO_STRING)
+                .and(next));
+
+        // Then
+        assertTrue(allocated <= MEASUREMENT_SLACK, () -> "Err pipeline allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Awaits;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the timeout and deadline overloads of Result.fromFuture()
+ */
+public class ResultFromFutureTimeoutTest {
+
+    @Test
+    void fromFuture_CompletesInTime_ShouldReturnOk() {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Result<String, String>> result =
+                Result.fromFuture(future, Duration.ofSeconds(10), Throwable::getMessage, "timeout");
+        future.complete("value");
+
+        // Then
+        assertEquals(Result.ok("value"), result.join());
+    }
+
+    @Test
+    void fromFuture_FailsInTime_ShouldMapError() {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Result<String, String>> result =
+                Result.fromFuture(future, Duration.ofSeconds(10), Throwable::getMessage, "timeout");
+        future.completeExceptionally(new IllegalStateException("boom"));
+
+        // Then
+        assertEquals(Result.err("boom"), result.join());
+    }
+
+    @Test
+    void fromFuture_TimesOut_ShouldReturnTimeoutErrorAndCancelFuture() {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+        AtomicInteger mapped = new AtomicInteger();
+
+        // When
+        Result<String, String> result = Result.fromFuture(future, Duration.ofMillis(20), t -> {
+            mapped.incrementAndGet();
+            return t.getMessage();
+        }, "timeout").orTimeout(5, TimeUnit.SECONDS).join();
+
+        // Then
+        assertEquals(Result.err("timeout"), result);
+        assertTrue(Awaits.cancelled(future));
+        assertEquals(0, mapped.get());
+    }
+
+    @Test
+    void fromFuture_AlreadyCompleted_ShouldIgnoreTimeout() {
+        // When
+        Result<String, String> result = Result.fromFuture(
+                CompletableFuture.completedFuture("done"), Duration.ZERO, Throwable::getMessage, "timeout").join();
+
+        // Then
+        assertEquals(Result.ok("done"), result);
+    }
+
+    @Test
+    void fromFuture_DeadlineInPast_ShouldTimeOutImmediately() {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Result<String, String>> result = Result.fromFuture(
+                future, Instant.now().minusSeconds(1), Throwable::getMessage, "deadline exceeded");
+
+        // Then
+        assertTrue(result.isDone());
+        assertEquals(Result.err("deadline exceeded"), result.join());
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void fromFuture_FarDeadline_ShouldNotOverflow() {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Result<String, String>> result = Result.fromFuture(
+                future, Instant.MAX, Throwable::getMessage, "deadline exceeded");
+        future.complete("value");
+
+        // Then
+        assertEquals(Result.ok("value"), result.join());
+    }
+
+    // the timer completes the Result first and cancels the future right after
+    @Test
+    void fromFuture_ErrorMapperThrows_ShouldCompleteExceptionally() {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<Result<String, String>> outcome = Result.fromFuture(future, Duration.ofSeconds(10), e -> {
+            throw new IllegalStateException("mapper broke");
+        }, "timeout");
+
+        // When
+        future.completeExceptionally(new IOException("down"));
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, () -> outcome.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals("mapper broke", thrown.getCause().getMessage());
+    }
+
+    @Test
+    void fromFuture_OutcomeCancelled_ShouldCancelFuture() {
+        // Given
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<Result<String, String>> outcome =
+                Result.fromFuture(future, Duration.ofSeconds(10), Throwable::getMessage, "timeout");
+
+        // When
+        outcome.cancel(true);
+
+        // Then
+        assertTrue(future.isCancelled());
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Awaits;
+import io.github.heart4it.codesupport.HedgeDelay;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.hedge()
+ */
+public class ResultHedgeTest {
+
+    @Test
+    void hedge_PrimaryFast_ShouldNotStartBackup() {
+        // Given
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        Result<String, String> result = Result.<String, String>hedge(() -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("primary");
+        }, 3, HedgeDelay.fixed(Duration.ofHours(1)), Throwable::getMessage, String::concat).join();
+
+        // Then
+        assertEquals(Result.ok("primary"), result);
+        assertEquals(1, started.get());
+    }
+
+    @Test
+    void hedge_PrimarySlow_ShouldReturnBackupAndCancelPrimary() {
+        // Given
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        // When
+        Result<String, String> result = Result.<String, String>hedge(() -> {
+            CompletableFuture<String> future = attempts.isEmpty()
+                    ? new CompletableFuture<>()
+                    : CompletableFuture.completedFuture("backup");
+            attempts.add(future);
+            return future;
+        }, 2, Duration.ofMillis(10), Throwable::getMessage, String::concat).orTimeout(5, TimeUnit.SECONDS).join();
+
+        // Then
+        assertEquals(Result.ok("backup"), result);
+        assertEquals(2, attempts.size());
+        assertTrue(Awaits.cancelled(attempts.get(0)));
+    }
+
+    @Test
+    void hedge_AllFail_ShouldMergeErrorsInFailureOrder() {
+        // Given
+        AtomicInteger n = new AtomicInteger();
+
+        // When
+        Result<String, String> result = Result.<String, String>hedge(
+                () -> CompletableFuture.failedFuture(new IllegalStateException("e" + n.incrementAndGet())),
+                3, Duration.ofSeconds(10), Throwable::getMessage, (a, b) -> a + "," + b)
+                .orTimeout(5, TimeUnit.SECONDS).join();
+
+        // Then
+        assertEquals(Result.err("e1,e2,e3"), result);
+    }
+
+    @Test
+    void hedge_FailureThenSuccess_ShouldStartNextAttemptWithoutWaiting() {
+        // Given
+        AtomicInteger n = new AtomicInteger();
+
+        // When
+        Result<String, String> result = Result.<String, String>hedge(() -> n.incrementAndGet() == 1
+                        ? CompletableFuture.failedFuture(new IllegalStateException("down"))
+                        : CompletableFuture.completedFuture("second"),
+                2, Duration.ofSeconds(10), Throwable::getMessage, String::concat).join();
+
+        // Then
+        assertEquals(Result.ok("second"), result);
+    }
+
+    @Test
+    void hedge_SupplierThrows_ShouldCountAsFailedAttempt() {
+        // When
+        Result<String, String> result = Result.<String, String>hedge(() -> {
+            throw new IllegalArgumentException("no replica");
+        }, 1, HedgeDelay.fixed(Duration.ZERO), Throwable::getMessage, String::concat).join();
+
+        // Then
+        assertEquals(Result.err("no replica"), result);
+    }
+
+    @Test
+    void hedge_InvalidMaxAttempts_ShouldThrow() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> Result.<String, String>hedge(
+                CompletableFuture::new, 0, Duration.ZERO, Throwable::getMessage, String::concat));
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.OptionInt;
+import io.github.heart4it.codesupport.Result;
+import io.github.heart4it.codesupport.ResultInt;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the primitive ResultInt type
+ */
+public class ResultIntTest {
+
+    @Test
+    void ok_ShouldHoldPrimitiveValue() {
+        // Given
+        ResultInt<String> ok = ResultInt.ok(42);
+
+        // Then
+        assertTrue(ok.isOk());
+        assertFalse(ok.isErr());
+        assertEquals(42, ok.unwrap());
+        assertEquals(42, ok.expect("present"));
+        assertEquals("Ok(42)", ok.toDebugString());
+        assertThrows(NoSuchElementException.class, ok::unwrapErr);
+    }
+
+    @Test
+    void err_ShouldHoldError() {
+        // Given
+        ResultInt<String> err = ResultInt.err("bad");
+
+        // Then
+        assertTrue(err.isErr());
+        assertEquals("bad", err.unwrapErr());
+        assertEquals("bad", err.expectErr("error expected"));
+        assertEquals("Err(bad)", err.toDebugString());
+        assertThrows(NoSuchElementException.class, err::unwrap);
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> err.expect("value required"));
+        assertEquals("value required", e.getMessage());
+    }
+
+    @Test
+    void map_Ok_ShouldApplyPrimitiveFunction() {
+        // Given
+        ResultInt<String> ok = ResultInt.ok(42);
+
+        // When
+        ResultInt<String> mapped = ok.map(v -> v * 2);
+
+        // Then
+        assertEquals(ResultInt.ok(84), mapped);
+    }
+
+    @Test
+    void map_Err_ShouldReturnSameInstance() {
+        // Given
+        ResultInt<String> err = ResultInt.err("bad");
+
+        // When
+        ResultInt<String> mapped = err.map(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertSame(err, mapped);
+    }
+
+    @Test
+    void andThen_ShouldChainOnOkAndShortCircuitOnErr() {
+        // Given
+        ResultInt<String> ok = ResultInt.ok(42);
+        ResultInt<String> err = ResultInt.err("bad");
+
+        // When
+        ResultInt<String> checked = ok.andThen(v -> v > 7 ? ResultInt.ok(v) : ResultInt.err("too small"));
+        ResultInt<String> rejected = ok.andThen(v -> ResultInt.err("rejected"));
+        ResultInt<String> skipped = err.andThen(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertEquals(ResultInt.ok(42), checked);
+        assertEquals(ResultInt.err("rejected"), rejected);
+        assertSame(err, skipped);
+    }
+
+    @Test
+    void mapErr_ShouldMapErrAndReturnSameOkInstance() {
+        // Given
+        ResultInt<String> ok = ResultInt.ok(42);
+        ResultInt<String> err = ResultInt.err("bad");
+
+        // When
+        ResultInt<Integer> okMapped = ok.mapErr(String::length);
+        ResultInt<Integer> errMapped = err.mapErr(String::length);
+
+        // Then
+        assertSame(ok, okMapped);
+        assertEquals(ResultInt.err(3), errMapped);
+    }
+
+    @Test
+    void unwrapOr_ShouldReturnDefaultOnlyForErr() {
+        // Then
+        assertEquals(42, ResultInt.ok(42).unwrapOr(7));
+        assertEquals(7, ResultInt.err("bad").unwrapOr(7));
+        assertEquals(42, ResultInt.<String>ok(42).unwrapOrElse(() -> 7));
+        assertEquals(7, ResultInt.<String>err("bad").unwrapOrElse(() -> 7));
+        assertEquals(42, ResultInt.<String>ok(42).unwrapOrElseMap(String::length));
+        assertEquals(3, ResultInt.<String>err("bad").unwrapOrElseMap(String::length));
+    }
+
+    @Test
+    void isOkAndIsErrAnd_ShouldTestContainedValue() {
+        // Given
+        ResultInt<String> ok = ResultInt.ok(42);
+        ResultInt<String> err = ResultInt.err("bad");
+
+        // Then
+        assertTrue(ok.isOkAnd(v -> v > 7));
+        assertFalse(ok.isOkAnd(v -> v < 7));
+        assertFalse(err.isOkAnd(v -> true));
+        assertTrue(err.isErrAnd(e -> e.equals("bad")));
+        assertFalse(ok.isErrAnd(e -> true));
+    }
+
+    @Test
+    void inspect_ShouldOnlyRunMatchingAction() {
+        // Given
+        List<String> seen = new ArrayList<>();
+
+        // When
+        ResultInt.<String>ok(42).inspect(v -> seen.add("ok " + v)).inspectErr(e -> seen.add("err " + e));
+        ResultInt.<String>err("bad").inspect(v -> seen.add("ok " + v)).inspectErr(e -> seen.add("err " + e));
+
+        // Then
+        assertEquals(List.of("ok 42", "err bad"), seen);
+    }
+
+    @Test
+    void orAndOrElse_ShouldFallBackOnlyForErr() {
+        // Given
+        ResultInt<String> ok = ResultInt.ok(42);
+        ResultInt<String> err = ResultInt.err("bad");
+        ResultInt<String> fallback = ResultInt.ok(7);
+
+        // Then
+        assertSame(ok, ok.or(fallback));
+        assertSame(fallback, err.or(fallback));
+        assertSame(ok, ok.orElse(() -> { throw new AssertionError("not called"); }));
+        assertSame(fallback, err.orElse(() -> fallback));
+    }
+
+    @Test
+    void okAndErr_ShouldConvertToOptions() {
+        // Then
+        assertEquals(OptionInt.Some(42), ResultInt.ok(42).ok());
+        assertSame(OptionInt.None(), ResultInt.err("bad").ok());
+        assertEquals(Option.Some("bad"), ResultInt.err("bad").err());
+        assertSame(Option.None(), ResultInt.ok(42).err());
+    }
+
+    @Test
+    void err_NullError_ShouldReturnNone() {
+        // Then
+        assertSame(Option.None(), ResultInt.err(null).err());
+    }
+
+    @Test
+    void toOptional_ShouldReturnPrimitiveOptional() {
+        // Then
+        assertEquals(OptionalInt.of(42), ResultInt.ok(42).toOptional());
+        assertEquals(OptionalInt.empty(), ResultInt.err("bad").toOptional());
+    }
+
+    @Test
+    void boxedAndFromBoxed_ShouldBridgeExplicitlyToGenericResult() {
+        // Then
+        assertEquals(Result.ok(42), ResultInt.ok(42).boxed());
+        assertEquals(Result.err("bad"), ResultInt.err("bad").boxed());
+        assertEquals(ResultInt.ok(42), ResultInt.fromBoxed(Result.ok(42)));
+        assertEquals(ResultInt.err("bad"), ResultInt.fromBoxed(Result.err("bad")));
+        assertEquals(Result.ok("v=42"), ResultInt.<String>ok(42).mapToObj(v -> "v=" + v));
+        assertEquals(Result.err("bad"), ResultInt.<String>err("bad").mapToObj(v -> "v=" + v));
+    }
+
+    @Test
+    void fromBoxed_OkNull_ShouldThrowWithMessage() {
+        // When
+        NullPointerException thrown = assertThrows(NullPointerException.class,
+                () -> ResultInt.fromBoxed(Result.<Integer, String>ok(null)));
+
+        // Then
+        assertEquals("fromBoxed requires a non-null Ok value", thrown.getMessage());
+    }
+}
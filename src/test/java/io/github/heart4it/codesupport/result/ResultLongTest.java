@@ -0,0 +1,200 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.OptionLong;
+import io.github.heart4it.codesupport.Result;
+import io.github.heart4it.codesupport.ResultLong;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the primitive ResultLong type
+ */
+public class ResultLongTest {
+
+    @Test
+    void ok_ShouldHoldPrimitiveValue() {
+        // Given
+        ResultLong<String> ok = ResultLong.ok(42L);
+
+        // Then
+        assertTrue(ok.isOk());
+        assertFalse(ok.isErr());
+        assertEquals(42L, ok.unwrap());
+        assertEquals(42L, ok.expect("present"));
+        assertEquals("Ok(42)", ok.toDebugString());
+        assertThrows(NoSuchElementException.class, ok::unwrapErr);
+    }
+
+    @Test
+    void err_ShouldHoldError() {
+        // Given
+        ResultLong<String> err = ResultLong.err("bad");
+
+        // Then
+        assertTrue(err.isErr());
+        assertEquals("bad", err.unwrapErr());
+        assertEquals("bad", err.expectErr("error expected"));
+        assertEquals("Err(bad)", err.toDebugString());
+        assertThrows(NoSuchElementException.class, err::unwrap);
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> err.expect("value required"));
+        assertEquals("value required", e.getMessage());
+    }
+
+    @Test
+    void map_Ok_ShouldApplyPrimitiveFunction() {
+        // Given
+        ResultLong<String> ok = ResultLong.ok(42L);
+
+        // When
+        ResultLong<String> mapped = ok.map(v -> v * 2);
+
+        // Then
+        assertEquals(ResultLong.ok(84), mapped);
+    }
+
+    @Test
+    void map_Err_ShouldReturnSameInstance() {
+        // Given
+        ResultLong<String> err = ResultLong.err("bad");
+
+        // When
+        ResultLong<String> mapped = err.map(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertSame(err, mapped);
+    }
+
+    @Test
+    void andThen_ShouldChainOnOkAndShortCircuitOnErr() {
+        // Given
+        ResultLong<String> ok = ResultLong.ok(42L);
+        ResultLong<String> err = ResultLong.err("bad");
+
+        // When
+        ResultLong<String> checked = ok.andThen(v -> v > 7L ? ResultLong.ok(v) : ResultLong.err("too small"));
+        ResultLong<String> rejected = ok.andThen(v -> ResultLong.err("rejected"));
+        ResultLong<String> skipped = err.andThen(v -> { throw new AssertionError("not called"); });
+
+        // Then
+        assertEquals(ResultLong.ok(42L), checked);
+        assertEquals(ResultLong.err("rejected"), rejected);
+        assertSame(err, skipped);
+    }
+
+    @Test
+    void mapErr_ShouldMapErrAndReturnSameOkInstance() {
+        // Given
+        ResultLong<String> ok = ResultLong.ok(42L);
+        ResultLong<String> err = ResultLong.err("bad");
+
+        // When
+        ResultLong<Integer> okMapped = ok.mapErr(String::length);
+        ResultLong<Integer> errMapped = err.mapErr(String::length);
+
+        // Then
+        assertSame(ok, okMapped);
+        assertEquals(ResultLong.err(3), errMapped);
+    }
+
+    @Test
+    void unwrapOr_ShouldReturnDefaultOnlyForErr() {
+        // Then
+        assertEquals(42L, ResultLong.ok(42L).unwrapOr(7L));
+        assertEquals(7L, ResultLong.err("bad").unwrapOr(7L));
+        assertEquals(42L, ResultLong.<String>ok(42L).unwrapOrElse(() -> 7L));
+        assertEquals(7L, ResultLong.<String>err("bad").unwrapOrElse(() -> 7L));
+        assertEquals(42L, ResultLong.<String>ok(42L).unwrapOrElseMap(String::length));
+        assertEquals(3L, ResultLong.<String>err("bad").unwrapOrElseMap(String::length));
+    }
+
+    @Test
+    void isOkAndIsErrAnd_ShouldTestContainedValue() {
+        // Given
+        ResultLong<String> ok = ResultLong.ok(42L);
+        ResultLong<String> err = ResultLong.err("bad");
+
+        // Then
+        assertTrue(ok.isOkAnd(v -> v > 7L));
+        assertFalse(ok.isOkAnd(v -> v < 7L));
+        assertFalse(err.isOkAnd(v -> true));
+        assertTrue(err.isErrAnd(e -> e.equals("bad")));
+        assertFalse(ok.isErrAnd(e -> true));
+    }
+
+    @Test
+    void inspect_ShouldOnlyRunMatchingAction() {
+        // Given
+        List<String> seen = new ArrayList<>();
+
+        // When
+        ResultLong.<String>ok(42L).inspect(v -> seen.add("ok " + v)).inspectErr(e -> seen.add("err " + e));
+        ResultLong.<String>err("bad").inspect(v -> seen.add("ok " + v)).inspectErr(e -> seen.add("err " + e));
+
+        // Then
+        assertEquals(List.of("ok 42", "err bad"), seen);
+    }
+
+    @Test
+    void orAndOrElse_ShouldFallBackOnlyForErr() {
+        // Given
+        ResultLong<String> ok = ResultLong.ok(42L);
+        ResultLong<String> err = ResultLong.err("bad");
+        ResultLong<String> fallback = ResultLong.ok(7L);
+
+        // Then
+        assertSame(ok, ok.or(fallback));
+        assertSame(fallback, err.or(fallback));
+        assertSame(ok, ok.orElse(() -> { throw new AssertionError("not called"); }));
+        assertSame(fallback, err.orElse(() -> fallback));
+    }
+
+    @Test
+    void okAndErr_ShouldConvertToOptions() {
+        // Then
+        assertEquals(OptionLong.Some(42L), ResultLong.ok(42L).ok());
+        assertSame(OptionLong.None(), ResultLong.err("bad").ok());
+        assertEquals(Option.Some("bad"), ResultLong.err("bad").err());
+        assertSame(Option.None(), ResultLong.ok(42L).err());
+    }
+
+    @Test
+    void err_NullError_ShouldReturnNone() {
+        // Then
+        assertSame(Option.None(), ResultLong.err(null).err());
+    }
+
+    @Test
+    void toOptional_ShouldReturnPrimitiveOptional() {
+        // Then
+        assertEquals(OptionalLong.of(42L), ResultLong.ok(42L).toOptional());
+        assertEquals(OptionalLong.empty(), ResultLong.err("bad").toOptional());
+    }
+
+    @Test
+    void boxedAndFromBoxed_ShouldBridgeExplicitlyToGenericResult() {
+        // Then
+        assertEquals(Result.ok(42L), ResultLong.ok(42L).boxed());
+        assertEquals(Result.err("bad"), ResultLong.err("bad").boxed());
+        assertEquals(ResultLong.ok(42L), ResultLong.fromBoxed(Result.ok(42L)));
+        assertEquals(ResultLong.err("bad"), ResultLong.fromBoxed(Result.err("bad")));
+        assertEquals(Result.ok("v=42"), ResultLong.<String>ok(42L).mapToObj(v -> "v=" + v));
+        assertEquals(Result.err("bad"), ResultLong.<String>err("bad").mapToObj(v -> "v=" + v));
+    }
+
+    @Test
+    void fromBoxed_OkNull_ShouldThrowWithMessage() {
+        // When
+        NullPointerException thrown = assertThrows(NullPointerException.class,
+                () -> ResultLong.fromBoxed(Result.<Long, String>ok(null)));
+
+        // Then
+        assertEquals("fromBoxed requires a non-null Ok value", thrown.getMessage());
+    }
+}
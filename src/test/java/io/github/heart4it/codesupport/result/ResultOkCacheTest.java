@@ -0,0 +1,96 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.AllocationMeter;
+import io.github.heart4it.codesupport.Channel;
+import io.github.heart4it.codesupport.Result;
+import io.github.heart4it.codesupport.Unit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.okUnit() and the shared Ok instances of Result.ok()
+ */
+public class ResultOkCacheTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final long MEASUREMENT_SLACK = 1024;
+
+    @Test
+    void okUnit_CalledRepeatedly_ShouldReturnSameInstance() {
+        // When
+        Result<Unit, String> first = Result.okUnit();
+        Result<Unit, Integer> second = Result.okUnit();
+
+        // Then
+        assertSame(first, second);
+        assertSame(first, Result.ok(Unit.INSTANCE));
+        assertEquals(Unit.INSTANCE, first.unwrap());
+        assertEquals("Ok(())", first.toDebugString());
+    }
+
+    @Test
+    void ok_Null_ShouldReturnSameInstance() {
+        // When
+        Result<Void, String> first = Result.ok(null);
+        Result<Void, String> second = Result.ok(null);
+
+        // Then
+        assertSame(first, second);
+        assertNull(first.unwrap());
+    }
+
+    @Test
+    void ok_Boolean_ShouldReturnSameInstance() {
+        // When & Then
+        assertSame(Result.ok(true), Result.ok(true));
+        assertSame(Result.ok(false), Result.ok(false));
+        assertEquals(Result.ok(true), Result.<Boolean, String>ok(Boolean.valueOf("true")));
+        assertNotEquals(Result.ok(true), Result.ok(false));
+    }
+
+    @Test
+    void ok_SmallInteger_ShouldReturnSameInstance() {
+        // When & Then
+        assertSame(Result.ok(-128), Result.ok(-128));
+        assertSame(Result.ok(0), Result.ok(0));
+        assertSame(Result.ok(127), Result.ok(127));
+    }
+
+    @Test
+    void ok_IntegerOutsideCache_ShouldReturnEqualInstances() {
+        // When
+        Result<Integer, String> first = Result.ok(1000);
+        Result<Integer, String> second = Result.ok(1000);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void trySend_Success_ShouldReturnOkUnit() {
+        // Given
+        Channel<String> channel = Channel.bounded(2);
+
+        // When
+        Result<Unit, String> sent = channel.sender().trySend("message");
+
+        // Then
+        assertSame(Result.okUnit(), sent);
+    }
+
+    @Test
+    void ok_CachedValues_ShouldNotAllocate() {
+        // When
+        long allocated = AllocationMeter.allocatedBytes(ITERATIONS, () -> {
+            Result.okUnit();
+            Result.ok(null);
+            Result.ok(false);
+            Result.ok(100);
+        });
+
+        // Then
+        assertTrue(allocated <= MEASUREMENT_SLACK, () -> "ok allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Option;
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.partition() and Result.partitioning()
+ */
+public class ResultPartitionTest {
+
+    @Test
+    void partition_MixedResults_ShouldSplitValuesAndErrorsInOrder() {
+        // Given
+        List<Result<Integer, String>> results =
+                List.of(Result.ok(1), Result.err("a"), Result.ok(2), Result.err("b"), Result.ok(3));
+
+        // When
+        Option.Pair<List<Integer>, List<String>> split = Result.partition(results);
+
+        // Then
+        assertEquals(List.of(1, 2, 3), split.first());
+        assertEquals(List.of("a", "b"), split.second());
+    }
+
+    @Test
+    void partition_EmptyIterable_ShouldReturnTwoEmptyLists() {
+        // When
+        Option.Pair<List<Integer>, List<String>> split = Result.partition(new ArrayList<Result<Integer, String>>());
+
+        // Then
+        assertTrue(split.first().isEmpty());
+        assertTrue(split.second().isEmpty());
+    }
+
+    @Test
+    void partition_WithNullValues_ShouldKeepNulls() {
+        // Given
+        List<Result<String, String>> results = List.of(Result.ok(null), Result.err(null));
+
+        // When
+        Option.Pair<List<String>, List<String>> split = Result.partition(results);
+
+        // Then
+        assertEquals(1, split.first().size());
+        assertNull(split.first().get(0));
+        assertEquals(1, split.second().size());
+        assertNull(split.second().get(0));
+    }
+
+    @Test
+    void partitioning_SequentialStream_ShouldSplitValuesAndErrors() {
+        // Given
+        Stream<Result<Integer, String>> results = Stream.of(Result.ok(1), Result.err("bad"), Result.ok(2));
+
+        // When
+        Option.Pair<List<Integer>, List<String>> split = results.collect(Result.partitioning());
+
+        // Then
+        assertEquals(List.of(1, 2), split.first());
+        assertEquals(List.of("bad"), split.second());
+    }
+
+    @Test
+    void partitioning_ParallelStream_ShouldPreserveEncounterOrder() {
+        // Given
+        List<Result<Integer, Integer>> results = IntStream.range(0, 100_000)
+                .mapToObj(i -> i % 4 == 0 ? Result.<Integer, Integer>err(i) : Result.<Integer, Integer>ok(i))
+                .toList();
+
+        // When
+        Option.Pair<List<Integer>, List<Integer>> split = results.parallelStream().collect(Result.partitioning());
+
+        // Then
+        assertEquals(75_000, split.first().size());
+        assertEquals(25_000, split.second().size());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 4 != 0).boxed().toList(), split.first());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 4 == 0).boxed().toList(), split.second());
+    }
+
+    @Test
+    void partitioning_Presized_ShouldProduceSameResult() {
+        // Given
+        List<Result<Integer, String>> results = List.of(Result.ok(1), Result.err("bad"), Result.ok(2));
+
+        // When
+        Option.Pair<List<Integer>, List<String>> split = results.stream().collect(Result.partitioning(2, 1));
+
+        // Then
+        assertEquals(List.of(1, 2), split.first());
+        assertEquals(List.of("bad"), split.second());
+    }
+
+    @Test
+    void partitioning_NegativeCapacity_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Result.partitioning(-1, 0));
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.sequence()
+ */
+public class ResultSequenceTest {
+
+    @Test
+    void sequence_AllOk_ShouldReturnOkWithValuesInOrder() {
+        // Given
+        List<Result<Integer, String>> results = List.of(Result.ok(1), Result.ok(2), Result.ok(3));
+
+        // When
+        Result<List<Integer>, String> sequenced = Result.sequence(results);
+
+        // Then
+        assertEquals(Result.ok(List.of(1, 2, 3)), sequenced);
+    }
+
+    @Test
+    void sequence_WithErr_ShouldReturnFirstErrInstance() {
+        // Given
+        Result<Integer, String> first = Result.err("first");
+        List<Result<Integer, String>> results = List.of(Result.ok(1), first, Result.err("second"));
+
+        // When
+        Result<List<Integer>, String> sequenced = Result.sequence(results);
+
+        // Then
+        assertSame(first, sequenced);
+        assertEquals("first", sequenced.unwrapErr());
+    }
+
+    @Test
+    void sequence_EmptyIterable_ShouldReturnOkWithEmptyList() {
+        // When
+        Result<List<Integer>, String> sequenced = Result.sequence(new ArrayList<Result<Integer, String>>());
+
+        // Then
+        assertEquals(Result.ok(List.of()), sequenced);
+    }
+
+    @Test
+    void sequence_Array_ShouldStopAtFirstErr() {
+        // Given
+        @SuppressWarnings("unchecked")
+        Result<Integer, String>[] results = (Result<Integer, String>[]) new Result<?, ?>[]{Result.ok(1), Result.err("bad"), Result.ok(3)};
+
+        // When
+        Result<List<Integer>, String> sequenced = Result.sequence(results);
+
+        // Then
+        assertEquals(Result.err("bad"), sequenced);
+    }
+
+    @Test
+    void sequence_Stream_ShouldStopPullingAfterFirstErr() {
+        // Given
+        AtomicInteger produced = new AtomicInteger();
+        Stream<Result<Integer, String>> results = Stream.iterate(0, i -> i + 1)
+                .peek(i -> produced.incrementAndGet())
+                .map(i -> i == 3 ? Result.<Integer, String>err("bad at 3") : Result.ok(i));
+
+        // When
+        Result<List<Integer>, String> sequenced = Result.sequence(results);
+
+        // Then
+        assertEquals(Result.err("bad at 3"), sequenced);
+        assertEquals(4, produced.get());
+    }
+
+    @Test
+    void sequence_StreamAllOk_ShouldCollectEveryValue() {
+        // When
+        Result<List<Integer>, String> sequenced = Result.sequence(Stream.of(Result.ok(1), Result.ok(2)));
+
+        // Then
+        assertEquals(Result.ok(List.of(1, 2)), sequenced);
+    }
+
+    @Test
+    void sequence_OkWithNullValues_ShouldKeepNulls() {
+        // Given
+        List<Result<String, String>> results = List.of(Result.ok(null), Result.ok("a"));
+
+        // When
+        List<String> values = Result.sequence(results).unwrap();
+
+        // Then
+        assertEquals(2, values.size());
+        assertNull(values.get(0));
+        assertEquals("a", values.get(1));
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.stream(), Result.spliterator(), Result.iterator() and Result.okStream()
+ */
+public class ResultStreamTest {
+
+    @Test
+    void stream_Ok_ShouldEmitValue() {
+        // Given
+        Result<String, Integer> ok = Result.ok("success");
+
+        // When
+        List<String> values = ok.stream().collect(Collectors.toList());
+
+        // Then
+        assertEquals(List.of("success"), values);
+    }
+
+    @Test
+    void stream_OkWithNull_ShouldEmitNull() {
+        // Given
+        Result<String, Integer> ok = Result.ok(null);
+
+        // When
+        List<String> values = ok.stream().collect(Collectors.toList());
+
+        // Then
+        assertEquals(Arrays.asList((String) null), values);
+    }
+
+    @Test
+    void stream_Err_ShouldBeEmpty() {
+        // Given
+        Result<String, Integer> err = Result.err(404);
+
+        // Then
+        assertEquals(0, err.stream().count());
+    }
+
+    @Test
+    void spliterator_Ok_ShouldReportSizedAndImmutableButNotNonNull() {
+        // Given
+        Spliterator<String> spliterator = Result.<String, Integer>ok("success").spliterator();
+
+        // Then
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertEquals(1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    void spliterator_Err_ShouldReturnSharedEmptyInstance() {
+        // Given
+        Result<String, Integer> first = Result.err(404);
+        Result<Long, String> second = Result.err("bad");
+
+        // Then
+        assertSame(first.spliterator(), second.spliterator());
+        assertSame(first.iterator(), second.iterator());
+    }
+
+    @Test
+    void spliterator_Err_ShouldReportSameCharacteristicsAsOk() {
+        // Given
+        Spliterator<String> err = Result.<String, Integer>err(404).spliterator();
+        Spliterator<String> ok = Result.<String, Integer>ok("success").spliterator();
+
+        // Then
+        assertEquals(ok.characteristics(), err.characteristics());
+        assertEquals(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.ORDERED,
+                err.characteristics());
+        assertEquals(0, err.getExactSizeIfKnown());
+        assertFalse(err.tryAdvance(value -> fail("no element expected")));
+    }
+
+    @Test
+    void iterator_ShouldBeUsableInForEachLoops() {
+        // Given
+        Result<String, Integer> ok = Result.ok("item");
+        Result<String, Integer> err = Result.err(500);
+        StringBuilder builder = new StringBuilder();
+
+        // When
+        for (String item : ok) {
+            builder.append(item);
+        }
+        for (String item : err) {
+            builder.append(item);
+        }
+
+        // Then
+        assertEquals("item", builder.toString());
+    }
+
+    @Test
+    void okStream_ShouldKeepOnlyOkValuesInOrder() {
+        // Given
+        Stream<Result<Integer, String>> results =
+                Stream.of(Result.ok(1), Result.err("bad"), Result.ok(3), Result.err("worse"));
+
+        // When
+        List<Integer> values = Result.okStream(results).collect(Collectors.toList());
+
+        // Then
+        assertEquals(List.of(1, 3), values);
+    }
+
+    @Test
+    void okStream_OnParallelStream_ShouldKeepAllOkValues() {
+        // Given
+        List<Result<Integer, String>> results = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            results.add(i % 2 == 0 ? Result.ok(i) : Result.err("odd"));
+        }
+
+        // When
+        long count = Result.okStream(results.parallelStream()).count();
+
+        // Then
+        assertEquals(5_000, count);
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.traverseAsync() and Result.traverseBlocking()
+ */
+public class ResultTraverseAsyncTest {
+
+    @Test
+    void traverseAsync_AllSucceed_ShouldReturnOkInInputOrder() {
+        // Given
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        List<CompletableFuture<String>> futures = List.of(first, second);
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result =
+                Result.traverseAsync(List.of(0, 1), futures::get, Throwable::getMessage);
+        second.complete("b");
+        assertFalse(result.isDone());
+        first.complete("a");
+
+        // Then
+        assertEquals(Result.ok(List.of("a", "b")), result.join());
+    }
+
+    @Test
+    void traverseAsync_EmptyList_ShouldReturnOkWithEmptyList() {
+        // When
+        CompletableFuture<Result<List<String>, String>> result =
+                Result.traverseAsync(List.<Integer>of(), i -> { throw new AssertionError("not called"); }, Throwable::getMessage);
+
+        // Then
+        assertEquals(Result.ok(List.of()), result.join());
+    }
+
+    @Test
+    void traverseAsync_OneFails_ShouldCompleteWithoutWaitingAndCancelSiblings() {
+        // Given
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        List<CompletableFuture<String>> futures = List.of(slow, failing);
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result =
+                Result.traverseAsync(List.of(0, 1), futures::get, Throwable::getMessage);
+        failing.completeExceptionally(new IllegalStateException("down"));
+
+        // Then
+        assertTrue(result.isDone());
+        assertEquals(Result.err("down"), result.join());
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void traverseAsync_AlreadyFailed_ShouldNotStartRemainingOperations() {
+        // Given
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result = Result.traverseAsync(List.of(0, 1, 2), i -> {
+            started.incrementAndGet();
+            return i == 0 ? CompletableFuture.<String>failedFuture(new RuntimeException("first")) : new CompletableFuture<>();
+        }, Throwable::getMessage);
+
+        // Then
+        assertEquals(Result.err("first"), result.join());
+        assertEquals(1, started.get());
+    }
+
+    @Test
+    void traverseAsync_FunctionThrows_ShouldReturnErrAndCancelStarted() {
+        // Given
+        List<CompletableFuture<String>> created = new ArrayList<>();
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result = Result.traverseAsync(List.of(0, 1), i -> {
+            if (i == 1) throw new IllegalArgumentException("bad input");
+            CompletableFuture<String> future = new CompletableFuture<>();
+            created.add(future);
+            return future;
+        }, Throwable::getMessage);
+
+        // Then
+        assertEquals(Result.err("bad input"), result.join());
+        assertTrue(created.get(0).isCancelled());
+    }
+
+    @Test
+    void traverseAsync_CancelledByCaller_ShouldCancelOperations() {
+        // Given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result =
+                Result.traverseAsync(List.of(0), i -> pending, Throwable::getMessage);
+        result.cancel(true);
+
+        // Then
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void traverseAsync_ErrorMapperThrows_ShouldCompleteExceptionallyAndCancelSiblings() {
+        // Given
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        List<CompletableFuture<String>> futures = List.of(slow, failing);
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result = Result.traverseAsync(List.of(0, 1), futures::get, e -> {
+            throw new IllegalStateException("mapper broke");
+        });
+        failing.completeExceptionally(new RuntimeException("down"));
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertEquals("mapper broke", thrown.getCause().getMessage());
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void traverseAsync_FunctionReturnsNull_ShouldCompleteExceptionallyAndCancelStarted() {
+        // Given
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result = Result.traverseAsync(List.of(0, 1, 2), i -> {
+            started.incrementAndGet();
+            return i == 0 ? first : null;
+        }, Throwable::getMessage);
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertTrue(thrown.getCause() instanceof NullPointerException);
+        assertTrue(first.isCancelled());
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    void traverseAsync_FunctionThrowsError_ShouldCompleteExceptionallyAndCancelStarted() {
+        // Given
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        CompletableFuture<Result<List<String>, String>> result = Result.traverseAsync(List.of(0, 1, 2), i -> {
+            started.incrementAndGet();
+            if (i == 1) throw new AssertionError("broken");
+            return first;
+        }, Throwable::getMessage);
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertTrue(thrown.getCause() instanceof AssertionError);
+        assertTrue(first.isCancelled());
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    void traverseBlocking_AllSucceed_ShouldReturnOkInInputOrder() {
+        // When
+        Result<List<Integer>, String> result =
+                Result.traverseBlocking(List.of(1, 2, 3), i -> i * 10, Throwable::getMessage).join();
+
+        // Then
+        assertEquals(Result.ok(List.of(10, 20, 30)), result);
+    }
+
+    @Test
+    void traverseBlocking_OneFails_ShouldInterruptBlockedSiblings() throws InterruptedException {
+        // Given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        Result<List<String>, String> result = Result.traverseBlocking(List.of(0, 1), i -> {
+            if (i == 1) {
+                awaitQuietly(blocked);
+                throw new IllegalStateException("failed");
+            }
+            blocked.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "slow";
+        }, Throwable::getMessage).join();
+
+        // Then
+        assertEquals(Result.err("failed"), result);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
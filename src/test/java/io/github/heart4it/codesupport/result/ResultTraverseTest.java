@@ -0,0 +1,106 @@
+package io.github.heart4it.codesupport.result;
+
+import io.github.heart4it.codesupport.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Result.traverse()
+ */
+public class ResultTraverseTest {
+
+    private static Result<Integer, String> parse(String s) {
+        try {
+            return Result.ok(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return Result.err("invalid: " + s);
+        }
+    }
+
+    @Test
+    void traverse_AllValid_ShouldReturnOkWithTransformedValues() {
+        // When
+        Result<List<Integer>, String> parsed = Result.traverse(List.of("1", "2", "3"), ResultTraverseTest::parse);
+
+        // Then
+        assertEquals(Result.ok(List.of(1, 2, 3)), parsed);
+    }
+
+    @Test
+    void traverse_WithInvalid_ShouldNotApplyFunctionAfterFirstErr() {
+        // Given
+        List<String> visited = new ArrayList<>();
+        Function<String, Result<Integer, String>> tracking = s -> {
+            visited.add(s);
+            return parse(s);
+        };
+
+        // When
+        Result<List<Integer>, String> parsed = Result.traverse(List.of("1", "x", "3", "y"), tracking);
+
+        // Then
+        assertEquals(Result.err("invalid: x"), parsed);
+        assertEquals(List.of("1", "x"), visited);
+    }
+
+    @Test
+    void traverse_Array_ShouldTransformAllElements() {
+        // When
+        Result<List<Integer>, String> parsed = Result.traverse(new String[]{"4", "5"}, ResultTraverseTest::parse);
+
+        // Then
+        assertEquals(Result.ok(List.of(4, 5)), parsed);
+    }
+
+    @Test
+    void traverse_ArrayWithInvalid_ShouldReturnFirstErr() {
+        // When
+        Result<List<Integer>, String> parsed = Result.traverse(new String[]{"4", "a", "b"}, ResultTraverseTest::parse);
+
+        // Then
+        assertEquals(Result.err("invalid: a"), parsed);
+    }
+
+    @Test
+    void traverse_Stream_ShouldNotApplyFunctionAfterFirstErr() {
+        // Given
+        List<String> visited = new ArrayList<>();
+        Function<String, Result<Integer, String>> tracking = s -> {
+            visited.add(s);
+            return parse(s);
+        };
+
+        // When
+        Result<List<Integer>, String> parsed = Result.traverse(Stream.of("1", "x", "3"), tracking);
+
+        // Then
+        assertEquals(Result.err("invalid: x"), parsed);
+        assertEquals(List.of("1", "x"), visited);
+    }
+
+    @Test
+    void traverse_InfiniteStreamWithErr_ShouldTerminate() {
+        // When
+        Result<List<Integer>, String> parsed = Result.traverse(
+                Stream.iterate(0, i -> i + 1),
+                i -> i < 1000 ? Result.ok(i) : Result.err("limit"));
+
+        // Then
+        assertEquals(Result.err("limit"), parsed);
+    }
+
+    @Test
+    void traverse_EmptyStream_ShouldReturnOkWithEmptyList() {
+        // When
+        Result<List<Integer>, String> parsed = Result.traverse(Stream.<String>empty(), ResultTraverseTest::parse);
+
+        // Then
+        assertEquals(Result.ok(List.of()), parsed);
+    }
+}